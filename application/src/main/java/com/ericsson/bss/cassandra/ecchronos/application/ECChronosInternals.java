@@ -18,23 +18,32 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.ericsson.bss.cassandra.ecchronos.application.config.Config;
 import com.ericsson.bss.cassandra.ecchronos.application.config.lockfactory.CasLockFactoryConfig;
+import com.ericsson.bss.cassandra.ecchronos.application.config.lockfactory.FileLockFactoryConfig;
+import com.ericsson.bss.cassandra.ecchronos.application.config.lockfactory.LockFactoryConfig;
+import com.ericsson.bss.cassandra.ecchronos.application.config.scheduler.SchedulerConfig;
 import com.ericsson.bss.cassandra.ecchronos.connection.JmxConnectionProvider;
 import com.ericsson.bss.cassandra.ecchronos.connection.NativeConnectionProvider;
 import com.ericsson.bss.cassandra.ecchronos.connection.StatementDecorator;
 import com.ericsson.bss.cassandra.ecchronos.core.CASLockFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.CassandraMetrics;
+import com.ericsson.bss.cassandra.ecchronos.core.FileLockFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.HostStates;
 import com.ericsson.bss.cassandra.ecchronos.core.HostStatesImpl;
 import com.ericsson.bss.cassandra.ecchronos.core.JmxProxyFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.JmxProxyFactoryImpl;
+import com.ericsson.bss.cassandra.ecchronos.core.LocalLockFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.TableStorageStates;
 import com.ericsson.bss.cassandra.ecchronos.core.TableStorageStatesImpl;
 import com.ericsson.bss.cassandra.ecchronos.core.metrics.MetricInspector;
 import com.ericsson.bss.cassandra.ecchronos.core.metrics.TableRepairMetrics;
 import com.ericsson.bss.cassandra.ecchronos.core.metrics.TableRepairMetricsImpl;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.DeadlineJobComparator;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.DefaultJobComparator;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.RunPolicy;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.ScheduleManager;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.ScheduleManagerImpl;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.ScheduledJob;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.ReplicatedTableProvider;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.ReplicatedTableProviderImpl;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
@@ -45,6 +54,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
 
 public class ECChronosInternals implements Closeable
@@ -60,7 +71,7 @@ public class ECChronosInternals implements Closeable
     private final TableRepairMetricsImpl myTableRepairMetricsImpl;
     private final TableReferenceFactory myTableReferenceFactory;
     private final JmxProxyFactory myJmxProxyFactory;
-    private final CASLockFactory myLockFactory;
+    private final LockFactory myLockFactory;
     private final CassandraMetrics myCassandraMetrics;
 
     private final MetricInspector myMetricInspector;
@@ -79,17 +90,7 @@ public class ECChronosInternals implements Closeable
                 .withJmxProxyFactory(myJmxProxyFactory)
                 .build();
 
-        CasLockFactoryConfig casLockFactoryConfig = configuration.getLockFactory()
-                .getCasLockFactoryConfig();
-
-        myLockFactory = CASLockFactory.builder()
-                .withNativeConnectionProvider(nativeConnectionProvider)
-                .withHostStates(myHostStatesImpl)
-                .withStatementDecorator(statementDecorator)
-                .withKeyspaceName(casLockFactoryConfig.getKeyspaceName())
-                .withCacheExpiryInSeconds(casLockFactoryConfig.getFailureCacheExpiryTimeInSeconds())
-                .withConsistencySerial(casLockFactoryConfig.getConsistencySerial())
-                .build();
+        myLockFactory = createLockFactory(configuration, nativeConnectionProvider, statementDecorator, meterRegistry);
 
         Node node = nativeConnectionProvider.getLocalNode();
         CqlSession session = nativeConnectionProvider.getSession();
@@ -129,6 +130,10 @@ public class ECChronosInternals implements Closeable
                 .withLockFactory(myLockFactory)
                 .withRunInterval(configuration.getSchedulerConfig().getFrequency().getInterval(TimeUnit.MILLISECONDS),
                         TimeUnit.MILLISECONDS)
+                .withWakeUpOnEvents(configuration.getSchedulerConfig().isWakeUpOnEvents())
+                .withExecutionSlots(configuration.getSchedulerConfig().getExecutionSlots())
+                .withLockPrefetch(configuration.getSchedulerConfig().getLockPrefetch())
+                .withJobComparator(createJobComparator(configuration.getSchedulerConfig().getJobOrder()))
                 .build();
     }
 
@@ -162,6 +167,11 @@ public class ECChronosInternals implements Closeable
         return myScheduleManagerImpl;
     }
 
+    public final LockFactory getLockFactory()
+    {
+        return myLockFactory;
+    }
+
     public final JmxProxyFactory getJmxProxyFactory()
     {
         return myJmxProxyFactory;
@@ -191,6 +201,70 @@ public class ECChronosInternals implements Closeable
         return myScheduleManagerImpl.removeRunPolicy(runPolicy);
     }
 
+    private LockFactory createLockFactory(final Config configuration,
+                                          final NativeConnectionProvider nativeConnectionProvider,
+                                          final StatementDecorator statementDecorator,
+                                          final MeterRegistry meterRegistry)
+    {
+        LockFactoryConfig lockFactoryConfig = configuration.getLockFactory();
+
+        switch (lockFactoryConfig.getType())
+        {
+            case LOCAL:
+                verifySingleNodeCluster(nativeConnectionProvider);
+                return LocalLockFactory.builder()
+                        .withCacheExpiryInSeconds(lockFactoryConfig.getLocalLockFactoryConfig()
+                                .getFailureCacheExpiryTimeInSeconds())
+                        .build();
+            case FILE:
+                FileLockFactoryConfig fileLockFactoryConfig = lockFactoryConfig.getFileLockFactoryConfig();
+                if (fileLockFactoryConfig.getDirectory() == null)
+                {
+                    throw new IllegalArgumentException(
+                            "lock_factory.file.directory must be set for the file lock factory");
+                }
+                return FileLockFactory.builder()
+                        .withDirectory(fileLockFactoryConfig.getDirectory())
+                        .withCacheExpiryInSeconds(fileLockFactoryConfig.getFailureCacheExpiryTimeInSeconds())
+                        .build();
+            case CAS:
+            default:
+                CasLockFactoryConfig casLockFactoryConfig = lockFactoryConfig.getCasLockFactoryConfig();
+                return CASLockFactory.builder()
+                        .withNativeConnectionProvider(nativeConnectionProvider)
+                        .withHostStates(myHostStatesImpl)
+                        .withStatementDecorator(statementDecorator)
+                        .withKeyspaceName(casLockFactoryConfig.getKeyspaceName())
+                        .withCacheExpiryInSeconds(casLockFactoryConfig.getFailureCacheExpiryTimeInSeconds())
+                        .withConsistencySerial(casLockFactoryConfig.getConsistencySerial())
+                        .withLocalSerialForDataCenterResources(
+                                casLockFactoryConfig.isLocalSerialForDataCenterResources())
+                        .withLockStateRefreshIntervalInSeconds(
+                                casLockFactoryConfig.getLockStateRefreshIntervalInSeconds())
+                        .withMeterRegistry(configuration.getStatisticsConfig().isEnabled() ? meterRegistry : null)
+                        .build();
+        }
+    }
+
+    private static void verifySingleNodeCluster(final NativeConnectionProvider nativeConnectionProvider)
+    {
+        int nodes = nativeConnectionProvider.getSession().getMetadata().getNodes().size();
+        if (nodes > 1)
+        {
+            throw new IllegalStateException("The local lock factory only locks within this instance but the cluster"
+                    + " has " + nodes + " nodes, use the cas lock factory");
+        }
+    }
+
+    private static Comparator<ScheduledJob> createJobComparator(final SchedulerConfig.JobOrder jobOrder)
+    {
+        if (jobOrder == SchedulerConfig.JobOrder.DEADLINE)
+        {
+            return new DeadlineJobComparator();
+        }
+        return new DefaultJobComparator();
+    }
+
     @Override
     public final void close()
     {
@@ -205,13 +279,28 @@ public class ECChronosInternals implements Closeable
             myTableStorageStatesImpl.close();
         }
 
-        myLockFactory.close();
+        closeLockFactory();
 
         myHostStatesImpl.close();
 
         myCassandraMetrics.close();
     }
 
+    private void closeLockFactory()
+    {
+        if (myLockFactory instanceof Closeable)
+        {
+            try
+            {
+                ((Closeable) myLockFactory).close();
+            }
+            catch (IOException e)
+            {
+                LOG.warn("Unable to close lock factory", e);
+            }
+        }
+    }
+
     private static final class NoOpRepairMetrics implements TableRepairMetrics
     {
         @Override
@@ -25,6 +25,8 @@ public class CasLockFactoryConfig
     private String myKeyspaceName = DEFAULT_KEYSPACE_NAME;
     private long myExpiryTimeInSeconds = DEFAULT_EXPIRY_TIME_IN_SECONDS;
     private ConsistencyType myConsistencySerial = ConsistencyType.DEFAULT;
+    private boolean myLocalSerialForDataCenterResources = false;
+    private long myLockStateRefreshIntervalInSeconds = 0L;
 
     public final long getFailureCacheExpiryTimeInSeconds()
     {
@@ -59,4 +61,30 @@ public class CasLockFactoryConfig
     {
         myConsistencySerial = ConsistencyType.valueOf(consistencySerial.toUpperCase(Locale.US));
     }
+
+    public final boolean isLocalSerialForDataCenterResources()
+    {
+        return myLocalSerialForDataCenterResources;
+    }
+
+    @JsonProperty("local_serial_for_datacenter_resources")
+    public final void setLocalSerialForDataCenterResources(final boolean localSerialForDataCenterResources)
+    {
+        myLocalSerialForDataCenterResources = localSerialForDataCenterResources;
+    }
+
+    public final long getLockStateRefreshIntervalInSeconds()
+    {
+        return myLockStateRefreshIntervalInSeconds;
+    }
+
+    @JsonProperty("lock_state_refresh_interval_in_seconds")
+    public final void setLockStateRefreshIntervalInSeconds(final long lockStateRefreshIntervalInSeconds)
+    {
+        if (lockStateRefreshIntervalInSeconds < 0)
+        {
+            throw new IllegalArgumentException("Lock state refresh interval cannot be negative");
+        }
+        myLockStateRefreshIntervalInSeconds = lockStateRefreshIntervalInSeconds;
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.application.config.lockfactory;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class FileLockFactoryConfig
+{
+    private static final long DEFAULT_EXPIRY_TIME_IN_SECONDS = 30L;
+    private Path myDirectory;
+    private long myExpiryTimeInSeconds = DEFAULT_EXPIRY_TIME_IN_SECONDS;
+
+    public final Path getDirectory()
+    {
+        return myDirectory;
+    }
+
+    @JsonProperty ("directory")
+    public final void setDirectory(final String directory)
+    {
+        Path path = Paths.get(directory).toAbsolutePath().normalize();
+        Path temporaryDirectory = Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize();
+        if (path.startsWith(temporaryDirectory))
+        {
+            throw new IllegalArgumentException("Lock directory " + directory
+                    + " cannot be in the temporary directory " + temporaryDirectory);
+        }
+        myDirectory = path;
+    }
+
+    public final long getFailureCacheExpiryTimeInSeconds()
+    {
+        return myExpiryTimeInSeconds;
+    }
+
+    @JsonProperty ("cache_expiry_time_in_seconds")
+    public final void setFailureCacheExpiryTimeInSeconds(final long expiryTimeInSeconds)
+    {
+        myExpiryTimeInSeconds = expiryTimeInSeconds;
+    }
+}
@@ -16,9 +16,31 @@ package com.ericsson.bss.cassandra.ecchronos.application.config.lockfactory;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Locale;
+
 public class LockFactoryConfig
 {
+    public enum Type
+    {
+        CAS, LOCAL, FILE
+    }
+
+    private Type myType = Type.CAS;
     private CasLockFactoryConfig myCasLockFactoryConfig = new CasLockFactoryConfig();
+    private LocalLockFactoryConfig myLocalLockFactoryConfig = new LocalLockFactoryConfig();
+    private FileLockFactoryConfig myFileLockFactoryConfig = new FileLockFactoryConfig();
+
+    @JsonProperty("type")
+    public final Type getType()
+    {
+        return myType;
+    }
+
+    @JsonProperty("type")
+    public final void setType(final String type)
+    {
+        myType = Type.valueOf(type.toUpperCase(Locale.US));
+    }
 
     @JsonProperty("cas")
     public final CasLockFactoryConfig getCasLockFactoryConfig()
@@ -31,4 +53,28 @@ public class LockFactoryConfig
     {
         myCasLockFactoryConfig = casLockFactoryConfig;
     }
+
+    @JsonProperty("local")
+    public final LocalLockFactoryConfig getLocalLockFactoryConfig()
+    {
+        return myLocalLockFactoryConfig;
+    }
+
+    @JsonProperty("local")
+    public final void setLocalLockFactoryConfig(final LocalLockFactoryConfig localLockFactoryConfig)
+    {
+        myLocalLockFactoryConfig = localLockFactoryConfig;
+    }
+
+    @JsonProperty("file")
+    public final FileLockFactoryConfig getFileLockFactoryConfig()
+    {
+        return myFileLockFactoryConfig;
+    }
+
+    @JsonProperty("file")
+    public final void setFileLockFactoryConfig(final FileLockFactoryConfig fileLockFactoryConfig)
+    {
+        myFileLockFactoryConfig = fileLockFactoryConfig;
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.application.config.repair;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class AdaptiveUnwind
+{
+    private static final long DEFAULT_TARGET_PENDING_COMPACTIONS = 32;
+    private static final double DEFAULT_MAX_UNWIND_RATIO = 2.0d;
+
+    private boolean myEnabled = false;
+    private long myTargetPendingCompactions = DEFAULT_TARGET_PENDING_COMPACTIONS;
+    private double myMaxUnwindRatio = DEFAULT_MAX_UNWIND_RATIO;
+
+    @JsonProperty("enabled")
+    public final boolean isEnabled()
+    {
+        return myEnabled;
+    }
+
+    @JsonProperty("enabled")
+    public final void setEnabled(final boolean enabled)
+    {
+        myEnabled = enabled;
+    }
+
+    @JsonProperty("target_pending_compactions")
+    public final long getTargetPendingCompactions()
+    {
+        return myTargetPendingCompactions;
+    }
+
+    @JsonProperty("target_pending_compactions")
+    public final void setTargetPendingCompactions(final long targetPendingCompactions)
+    {
+        if (targetPendingCompactions < 0)
+        {
+            throw new IllegalArgumentException("Target pending compactions must not be negative");
+        }
+        myTargetPendingCompactions = targetPendingCompactions;
+    }
+
+    @JsonProperty("max_unwind_ratio")
+    public final double getMaxUnwindRatio()
+    {
+        return myMaxUnwindRatio;
+    }
+
+    @JsonProperty("max_unwind_ratio")
+    public final void setMaxUnwindRatio(final double maxUnwindRatio)
+    {
+        if (maxUnwindRatio < 0)
+        {
+            throw new IllegalArgumentException("Max unwind ratio must not be negative");
+        }
+        myMaxUnwindRatio = maxUnwindRatio;
+    }
+}
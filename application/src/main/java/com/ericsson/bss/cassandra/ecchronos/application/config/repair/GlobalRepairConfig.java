@@ -33,6 +33,7 @@ public class GlobalRepairConfig extends RepairConfig
     private RepairLockType myRepairLockType = RepairLockType.VNODE;
     private Interval myRepairHistoryLookback = new Interval(THIRTY_DAYS, TimeUnit.DAYS);
     private RepairHistory myRepairHistory = new RepairHistory();
+    private TaskRunner myTaskRunner = new TaskRunner();
 
     @JsonProperty("provider")
     public final Class<? extends AbstractRepairConfigurationProvider> getRepairConfigurationClass()
@@ -84,4 +85,16 @@ public class GlobalRepairConfig extends RepairConfig
     {
         myRepairHistory = repairHistory;
     }
+
+    @JsonProperty("task_runner")
+    public final TaskRunner getTaskRunner()
+    {
+        return myTaskRunner;
+    }
+
+    @JsonProperty("task_runner")
+    public final void setTaskRunner(final TaskRunner taskRunner)
+    {
+        myTaskRunner = taskRunner;
+    }
 }
@@ -39,7 +39,9 @@ public class RepairConfig
     private Alarm myAlarm = new Alarm(new Interval(DAYS_WARNING, TimeUnit.DAYS),
             new Interval(DAYS_ERROR, TimeUnit.DAYS));
     private double myUnwindRatio = 0.0d;
+    private AdaptiveUnwind myAdaptiveUnwind = new AdaptiveUnwind();
     private long mySizeTarget = RepairConfiguration.FULL_REPAIR_SIZE;
+    private int myRangesPerSession = 1;
     private Interval myBackoff = new Interval(BACKOFF_MINUTES, TimeUnit.MINUTES);
     private boolean myIgnoreTwcsTables = false;
     private RepairOptions.RepairType myRepairType = RepairOptions.RepairType.VNODE;
@@ -89,6 +91,18 @@ public class RepairConfig
         myUnwindRatio = unwindRatio;
     }
 
+    @JsonProperty("adaptive_unwind")
+    public final AdaptiveUnwind getAdaptiveUnwind()
+    {
+        return myAdaptiveUnwind;
+    }
+
+    @JsonProperty("adaptive_unwind")
+    public final void setAdaptiveUnwind(final AdaptiveUnwind adaptiveUnwind)
+    {
+        myAdaptiveUnwind = adaptiveUnwind;
+    }
+
     @JsonProperty("size_target")
     public final void setSizeTarget(final String sizeTarget)
     {
@@ -102,6 +116,22 @@ public class RepairConfig
         }
     }
 
+    @JsonProperty("ranges_per_session")
+    public final int getRangesPerSession()
+    {
+        return myRangesPerSession;
+    }
+
+    @JsonProperty("ranges_per_session")
+    public final void setRangesPerSession(final int rangesPerSession)
+    {
+        if (rangesPerSession < 1)
+        {
+            throw new IllegalArgumentException("Ranges per session must be at least 1");
+        }
+        myRangesPerSession = rangesPerSession;
+    }
+
     @JsonProperty("backoff")
     public final Interval getBackoff()
     {
@@ -187,7 +217,7 @@ public class RepairConfig
      */
     public RepairConfiguration asRepairConfiguration()
     {
-        return RepairConfiguration.newBuilder()
+        RepairConfiguration.Builder builder = RepairConfiguration.newBuilder()
                 .withRepairInterval(myRepairInterval.getInterval(TimeUnit.MILLISECONDS),
                         TimeUnit.MILLISECONDS)
                 .withRepairWarningTime(myAlarm.getWarningInverval().getInterval(TimeUnit.MILLISECONDS),
@@ -197,10 +227,18 @@ public class RepairConfig
                 .withIgnoreTWCSTables(myIgnoreTwcsTables)
                 .withRepairUnwindRatio(myUnwindRatio)
                 .withTargetRepairSizeInBytes(mySizeTarget)
+                .withRangesPerSession(myRangesPerSession)
                 .withBackoff(myBackoff.getInterval(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS)
                 .withRepairType(myRepairType)
                 .withPriorityGranularityUnit(myPriority.getPriorityGranularityUnit())
-                .withInitialDelay(myInitialDelay.getInterval(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS)
-                .build();
+                .withInitialDelay(myInitialDelay.getInterval(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+
+        if (myAdaptiveUnwind.isEnabled())
+        {
+            builder.withAdaptiveUnwind(myAdaptiveUnwind.getTargetPendingCompactions(),
+                    myAdaptiveUnwind.getMaxUnwindRatio());
+        }
+
+        return builder.build();
     }
 }
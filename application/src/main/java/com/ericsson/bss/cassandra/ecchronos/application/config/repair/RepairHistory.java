@@ -25,8 +25,11 @@ public class RepairHistory
         CASSANDRA, UPGRADE, ECC
     }
 
+    private static final int DEFAULT_PAGE_SIZE = 5000;
+
     private Provider myProvider = Provider.ECC;
     private String myKeyspaceName = "ecchronos";
+    private int myPageSize = DEFAULT_PAGE_SIZE;
 
     @JsonProperty("provider")
     public final Provider getProvider()
@@ -51,4 +54,16 @@ public class RepairHistory
     {
         myKeyspaceName = keyspaceName;
     }
+
+    @JsonProperty("page_size")
+    public final int getPageSize()
+    {
+        return myPageSize;
+    }
+
+    @JsonProperty("page_size")
+    public final void setPageSize(final int pageSize)
+    {
+        myPageSize = pageSize;
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.application.config.repair;
+
+import com.ericsson.bss.cassandra.ecchronos.core.repair.RepairTaskRunner;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class TaskRunner
+{
+    private boolean myEnabled = false;
+    private int myThreads = RepairTaskRunner.DEFAULT_THREADS;
+    private int myMaxSessionsPerNode = RepairTaskRunner.DEFAULT_MAX_SESSIONS_PER_NODE;
+
+    @JsonProperty("enabled")
+    public final boolean isEnabled()
+    {
+        return myEnabled;
+    }
+
+    @JsonProperty("enabled")
+    public final void setEnabled(final boolean enabled)
+    {
+        myEnabled = enabled;
+    }
+
+    @JsonProperty("threads")
+    public final int getThreads()
+    {
+        return myThreads;
+    }
+
+    @JsonProperty("threads")
+    public final void setThreads(final int threads)
+    {
+        if (threads < 1)
+        {
+            throw new IllegalArgumentException("Task runner threads must be at least 1");
+        }
+        myThreads = threads;
+    }
+
+    @JsonProperty("max_sessions_per_node")
+    public final int getMaxSessionsPerNode()
+    {
+        return myMaxSessionsPerNode;
+    }
+
+    @JsonProperty("max_sessions_per_node")
+    public final void setMaxSessionsPerNode(final int maxSessionsPerNode)
+    {
+        if (maxSessionsPerNode < 1)
+        {
+            throw new IllegalArgumentException("Task runner max sessions per node must be at least 1");
+        }
+        myMaxSessionsPerNode = maxSessionsPerNode;
+    }
+}
@@ -17,13 +17,23 @@ package com.ericsson.bss.cassandra.ecchronos.application.config.scheduler;
 import com.ericsson.bss.cassandra.ecchronos.application.config.Interval;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 public class SchedulerConfig
 {
+    public enum JobOrder
+    {
+        PRIORITY, DEADLINE
+    }
+
     private static final int THIRTY_SECONDS = 30;
 
     private Interval myFrequency = new Interval(THIRTY_SECONDS, TimeUnit.SECONDS);
+    private boolean myWakeUpOnEvents = false;
+    private int myExecutionSlots = 1;
+    private int myLockPrefetch = 0;
+    private JobOrder myJobOrder = JobOrder.PRIORITY;
 
     @JsonProperty("frequency")
     public final Interval getFrequency()
@@ -36,4 +46,60 @@ public class SchedulerConfig
     {
         myFrequency = frequency;
     }
+
+    @JsonProperty("wake_up_on_events")
+    public final boolean isWakeUpOnEvents()
+    {
+        return myWakeUpOnEvents;
+    }
+
+    @JsonProperty("wake_up_on_events")
+    public final void setWakeUpOnEvents(final boolean wakeUpOnEvents)
+    {
+        myWakeUpOnEvents = wakeUpOnEvents;
+    }
+
+    @JsonProperty("execution_slots")
+    public final int getExecutionSlots()
+    {
+        return myExecutionSlots;
+    }
+
+    @JsonProperty("execution_slots")
+    public final void setExecutionSlots(final int executionSlots)
+    {
+        if (executionSlots < 1)
+        {
+            throw new IllegalArgumentException("Scheduler execution slots must be at least 1");
+        }
+        myExecutionSlots = executionSlots;
+    }
+
+    @JsonProperty("lock_prefetch")
+    public final int getLockPrefetch()
+    {
+        return myLockPrefetch;
+    }
+
+    @JsonProperty("lock_prefetch")
+    public final void setLockPrefetch(final int lockPrefetch)
+    {
+        if (lockPrefetch < 0)
+        {
+            throw new IllegalArgumentException("Scheduler lock prefetch must not be negative");
+        }
+        myLockPrefetch = lockPrefetch;
+    }
+
+    @JsonProperty("job_order")
+    public final JobOrder getJobOrder()
+    {
+        return myJobOrder;
+    }
+
+    @JsonProperty("job_order")
+    public final void setJobOrder(final String jobOrder)
+    {
+        myJobOrder = JobOrder.valueOf(jobOrder.toUpperCase(Locale.US));
+    }
 }
@@ -18,6 +18,7 @@ import java.io.Closeable;
 import java.util.Collections;
 
 import com.ericsson.bss.cassandra.ecchronos.application.config.repair.GlobalRepairConfig;
+import com.ericsson.bss.cassandra.ecchronos.application.config.repair.TaskRunner;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.RepairStatsProvider;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.RepairStatsProviderImpl;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.ReplicatedTableProvider;
@@ -42,6 +43,8 @@ import com.ericsson.bss.cassandra.ecchronos.core.repair.OnDemandRepairSchedulerI
 import com.ericsson.bss.cassandra.ecchronos.core.repair.OnDemandStatus;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.RepairScheduler;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.RepairSchedulerImpl;
+import com.ericsson.bss.cassandra.ecchronos.core.repair.RepairTaskRunner;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.VnodeRepairStateFactoryImpl;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.RepairHistory;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.RepairHistoryProvider;
@@ -58,6 +61,7 @@ public class ECChronos implements Closeable
     private final RepairSchedulerImpl myRepairSchedulerImpl;
     private final OnDemandRepairSchedulerImpl myOnDemandRepairSchedulerImpl;
     private final RepairStatsProvider myRepairStatsProvider;
+    private final RepairTaskRunner myRepairTaskRunner;
 
     @SuppressWarnings({"checkstyle:ParameterNumber", "PMD.ExcessiveParameterList"})
     public ECChronos(final ApplicationContext applicationContext,
@@ -94,6 +98,8 @@ public class ECChronos implements Closeable
                 .withLocalNode(nativeConnectionProvider.getLocalNode())
                 .build();
 
+        myRepairTaskRunner = createRepairTaskRunner(repairConfig.getTaskRunner());
+
         myRepairSchedulerImpl = RepairSchedulerImpl.builder()
                 .withJmxProxyFactory(myECChronosInternals.getJmxProxyFactory())
                 .withFaultReporter(repairFaultReporter)
@@ -107,6 +113,7 @@ public class ECChronos implements Closeable
                 .withTimeBasedRunPolicy(myTimeBasedRunPolicy)
                 .withRepairHistory(repairHistory)
                 .withCassandraMetrics(myECChronosInternals.getCassandraMetrics())
+                .withRepairTaskRunner(myRepairTaskRunner)
                 .build();
 
         AbstractRepairConfigurationProvider repairConfigurationProvider = ReflectionUtils
@@ -132,6 +139,7 @@ public class ECChronos implements Closeable
                 .withRepairHistory(repairHistory)
                 .withOnDemandStatus(new OnDemandStatus(nativeConnectionProvider))
                 .withTimeBasedRunPolicy(myTimeBasedRunPolicy)
+                .withTableRepairedListener(myRepairSchedulerImpl::rescheduleTable)
                 .build();
         myRepairStatsProvider = new RepairStatsProviderImpl(new VnodeRepairStateFactoryImpl(replicationState,
                 repairHistoryProvider,
@@ -139,6 +147,18 @@ public class ECChronos implements Closeable
         myECChronosInternals.addRunPolicy(myTimeBasedRunPolicy);
     }
 
+    private static RepairTaskRunner createRepairTaskRunner(final TaskRunner taskRunnerConfig)
+    {
+        if (!taskRunnerConfig.isEnabled())
+        {
+            return null;
+        }
+        return RepairTaskRunner.newBuilder()
+                .withThreads(taskRunnerConfig.getThreads())
+                .withMaxSessionsPerNode(taskRunnerConfig.getMaxSessionsPerNode())
+                .build();
+    }
+
     @Bean
     public TableReferenceFactory tableReferenceFactory()
     {
@@ -175,6 +195,12 @@ public class ECChronos implements Closeable
         return myTimeBasedRunPolicy;
     }
 
+    @Bean(destroyMethod = "")
+    public LockFactory lockFactory()
+    {
+        return myECChronosInternals.getLockFactory();
+    }
+
     @Override
     public final void close()
     {
@@ -183,6 +209,10 @@ public class ECChronos implements Closeable
         myTimeBasedRunPolicy.close();
         myRepairSchedulerImpl.close();
         myOnDemandRepairSchedulerImpl.close();
+        if (myRepairTaskRunner != null)
+        {
+            myRepairTaskRunner.close();
+        }
 
         myECChronosInternals.close();
     }
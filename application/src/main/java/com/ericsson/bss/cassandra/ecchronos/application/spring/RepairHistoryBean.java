@@ -69,6 +69,7 @@ public class RepairHistoryBean
                     .withLookbackTime(repairConfig.getRepairHistoryLookback().getInterval(TimeUnit.MILLISECONDS),
                             TimeUnit.MILLISECONDS)
                     .withKeyspace(repairConfig.getRepairHistory().getKeyspaceName())
+                    .withPageSize(repairConfig.getRepairHistory().getPageSize())
                     .build();
 
             if (repairConfig.getRepairHistory().getProvider()
@@ -105,6 +106,7 @@ public class RepairHistoryBean
                                                                  final StatementDecorator statementDecorator)
     {
         return new RepairHistoryProviderImpl(nodeResolver, session, statementDecorator,
-                repairConfig.getRepairHistoryLookback().getInterval(TimeUnit.MILLISECONDS));
+                repairConfig.getRepairHistoryLookback().getInterval(TimeUnit.MILLISECONDS),
+                repairConfig.getRepairHistory().getPageSize());
     }
 }
@@ -32,6 +32,7 @@ public class TestCasLockFactoryConfig
         CasLockFactoryConfig casLockFactoryConfig = getCasLockFactoryConfig("all_set.yml");
         assertThat(casLockFactoryConfig.getKeyspaceName()).isEqualTo("ecc");
         assertThat(casLockFactoryConfig.getFailureCacheExpiryTimeInSeconds()).isEqualTo(100L);
+        assertThat(casLockFactoryConfig.getLockStateRefreshIntervalInSeconds()).isEqualTo(15L);
     }
 
     @Test
@@ -40,6 +41,7 @@ public class TestCasLockFactoryConfig
         CasLockFactoryConfig casLockFactoryConfig = getCasLockFactoryConfig("nothing_set.yml");
         assertThat(casLockFactoryConfig.getKeyspaceName()).isEqualTo("ecchronos");
         assertThat(casLockFactoryConfig.getFailureCacheExpiryTimeInSeconds()).isEqualTo(30L);
+        assertThat(casLockFactoryConfig.getLockStateRefreshIntervalInSeconds()).isEqualTo(0L);
     }
 
     private CasLockFactoryConfig getCasLockFactoryConfig(final String fileName) throws IOException
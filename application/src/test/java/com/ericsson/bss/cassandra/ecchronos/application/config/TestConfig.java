@@ -109,9 +109,11 @@ public class TestConfig
                 .withRepairWarningTime(48, TimeUnit.HOURS)
                 .withRepairErrorTime(72, TimeUnit.HOURS)
                 .withRepairUnwindRatio(0.5d)
+                .withAdaptiveUnwind(10L, 1.5d)
                 .withIgnoreTWCSTables(true)
                 .withBackoff(13, TimeUnit.SECONDS)
                 .withTargetRepairSizeInBytes(UnitConverter.toBytes("5m"))
+                .withRangesPerSession(4)
                 .withPriorityGranularityUnit(TimeUnit.MINUTES)
                 .withInitialDelay(1, TimeUnit.HOURS)
                 .build();
@@ -125,6 +127,10 @@ public class TestConfig
         assertThat(repairConfig.getRepairHistoryLookback().getInterval(TimeUnit.DAYS)).isEqualTo(13);
         assertThat(repairConfig.getRepairHistory().getProvider()).isEqualTo(RepairHistory.Provider.CASSANDRA);
         assertThat(repairConfig.getRepairHistory().getKeyspaceName()).isEqualTo("customkeyspace");
+        assertThat(repairConfig.getRepairHistory().getPageSize()).isEqualTo(100);
+        assertThat(repairConfig.getTaskRunner().isEnabled()).isTrue();
+        assertThat(repairConfig.getTaskRunner().getThreads()).isEqualTo(8);
+        assertThat(repairConfig.getTaskRunner().getMaxSessionsPerNode()).isEqualTo(2);
         assertThat(repairConfig.getAlarm().getFaultReporterClass()).isEqualTo(TestFaultReporter.class);
         assertThat(repairConfig.getIgnoreTWCSTables()).isTrue();
         assertThat(repairConfig.getBackoff().getInterval(TimeUnit.SECONDS)).isEqualTo(13);
@@ -167,12 +173,17 @@ public class TestConfig
         LockFactoryConfig lockFactoryConfig = config.getLockFactory();
         assertThat(lockFactoryConfig.getCasLockFactoryConfig().getKeyspaceName()).isEqualTo("ecc");
         assertThat(lockFactoryConfig.getCasLockFactoryConfig().getConsistencySerial().equals(ConsistencyType.LOCAL)).isTrue();
+        assertThat(lockFactoryConfig.getCasLockFactoryConfig().isLocalSerialForDataCenterResources()).isTrue();
 
         RunPolicyConfig runPolicyConfig = config.getRunPolicy();
         assertThat(runPolicyConfig.getTimeBasedConfig().getKeyspaceName()).isEqualTo("ecc");
 
         SchedulerConfig schedulerConfig = config.getSchedulerConfig();
         assertThat(schedulerConfig.getFrequency().getInterval(TimeUnit.SECONDS)).isEqualTo(60);
+        assertThat(schedulerConfig.isWakeUpOnEvents()).isTrue();
+        assertThat(schedulerConfig.getExecutionSlots()).isEqualTo(4);
+        assertThat(schedulerConfig.getLockPrefetch()).isEqualTo(2);
+        assertThat(schedulerConfig.getJobOrder()).isEqualTo(SchedulerConfig.JobOrder.DEADLINE);
 
         RestServerConfig restServerConfig = config.getRestServer();
         assertThat(restServerConfig.getHost()).isEqualTo("127.0.0.2");
@@ -260,6 +271,10 @@ public class TestConfig
         assertThat(repairConfig.getRepairHistoryLookback().getInterval(TimeUnit.DAYS)).isEqualTo(30);
         assertThat(repairConfig.getRepairHistory().getProvider()).isEqualTo(RepairHistory.Provider.ECC);
         assertThat(repairConfig.getRepairHistory().getKeyspaceName()).isEqualTo("ecchronos");
+        assertThat(repairConfig.getRepairHistory().getPageSize()).isEqualTo(5000);
+        assertThat(repairConfig.getTaskRunner().isEnabled()).isFalse();
+        assertThat(repairConfig.getTaskRunner().getThreads()).isEqualTo(4);
+        assertThat(repairConfig.getTaskRunner().getMaxSessionsPerNode()).isEqualTo(1);
         assertThat(repairConfig.getAlarm().getFaultReporterClass()).isEqualTo(LoggingFaultReporter.class);
         assertThat(repairConfig.getIgnoreTWCSTables()).isFalse();
         assertThat(repairConfig.getBackoff().getInterval(TimeUnit.MINUTES)).isEqualTo(30);
@@ -289,12 +304,17 @@ public class TestConfig
         LockFactoryConfig lockFactoryConfig = config.getLockFactory();
         assertThat(lockFactoryConfig.getCasLockFactoryConfig().getKeyspaceName()).isEqualTo("ecchronos");
         assertThat(lockFactoryConfig.getCasLockFactoryConfig().getConsistencySerial().equals(ConsistencyType.DEFAULT)).isTrue();
+        assertThat(lockFactoryConfig.getCasLockFactoryConfig().isLocalSerialForDataCenterResources()).isFalse();
 
         RunPolicyConfig runPolicyConfig = config.getRunPolicy();
         assertThat(runPolicyConfig.getTimeBasedConfig().getKeyspaceName()).isEqualTo("ecchronos");
 
         SchedulerConfig schedulerConfig = config.getSchedulerConfig();
         assertThat(schedulerConfig.getFrequency().getInterval(TimeUnit.SECONDS)).isEqualTo(30);
+        assertThat(schedulerConfig.isWakeUpOnEvents()).isFalse();
+        assertThat(schedulerConfig.getExecutionSlots()).isEqualTo(1);
+        assertThat(schedulerConfig.getLockPrefetch()).isEqualTo(0);
+        assertThat(schedulerConfig.getJobOrder()).isEqualTo(SchedulerConfig.JobOrder.PRIORITY);
 
         RestServerConfig restServerConfig = config.getRestServer();
         assertThat(restServerConfig.getHost()).isEqualTo("localhost");
@@ -350,6 +370,10 @@ public class TestConfig
         assertThat(repairConfig.getRepairHistoryLookback().getInterval(TimeUnit.DAYS)).isEqualTo(30);
         assertThat(repairConfig.getRepairHistory().getProvider()).isEqualTo(RepairHistory.Provider.ECC);
         assertThat(repairConfig.getRepairHistory().getKeyspaceName()).isEqualTo("ecchronos");
+        assertThat(repairConfig.getRepairHistory().getPageSize()).isEqualTo(5000);
+        assertThat(repairConfig.getTaskRunner().isEnabled()).isFalse();
+        assertThat(repairConfig.getTaskRunner().getThreads()).isEqualTo(4);
+        assertThat(repairConfig.getTaskRunner().getMaxSessionsPerNode()).isEqualTo(1);
         assertThat(repairConfig.getAlarm().getFaultReporterClass()).isEqualTo(LoggingFaultReporter.class);
         assertThat(repairConfig.getIgnoreTWCSTables()).isFalse();
         assertThat(repairConfig.getBackoff().getInterval(TimeUnit.MINUTES)).isEqualTo(30);
@@ -381,12 +405,17 @@ public class TestConfig
        LockFactoryConfig lockFactoryConfig = config.getLockFactory();
         assertThat(lockFactoryConfig.getCasLockFactoryConfig().getKeyspaceName()).isEqualTo("ecchronos");
         assertThat(lockFactoryConfig.getCasLockFactoryConfig().getConsistencySerial().equals(ConsistencyType.DEFAULT)).isTrue();
+        assertThat(lockFactoryConfig.getCasLockFactoryConfig().isLocalSerialForDataCenterResources()).isFalse();
 
         RunPolicyConfig runPolicyConfig = config.getRunPolicy();
         assertThat(runPolicyConfig.getTimeBasedConfig().getKeyspaceName()).isEqualTo("ecchronos");
 
         SchedulerConfig schedulerConfig = config.getSchedulerConfig();
         assertThat(schedulerConfig.getFrequency().getInterval(TimeUnit.SECONDS)).isEqualTo(30);
+        assertThat(schedulerConfig.isWakeUpOnEvents()).isFalse();
+        assertThat(schedulerConfig.getExecutionSlots()).isEqualTo(1);
+        assertThat(schedulerConfig.getLockPrefetch()).isEqualTo(0);
+        assertThat(schedulerConfig.getJobOrder()).isEqualTo(SchedulerConfig.JobOrder.PRIORITY);
 
         RestServerConfig restServerConfig = config.getRestServer();
         assertThat(restServerConfig.getHost()).isEqualTo("localhost");
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.application.config;
+
+import com.ericsson.bss.cassandra.ecchronos.application.config.lockfactory.FileLockFactoryConfig;
+import com.ericsson.bss.cassandra.ecchronos.application.config.lockfactory.LockFactoryConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TestLockFactoryConfig
+{
+    @Test
+    public void testLockFactoryConfigWithProvidedValue() throws IOException
+    {
+        LockFactoryConfig lockFactoryConfig = getLockFactoryConfig("all_set.yml");
+        assertThat(lockFactoryConfig.getType()).isEqualTo(LockFactoryConfig.Type.FILE);
+        assertThat(lockFactoryConfig.getLocalLockFactoryConfig().getFailureCacheExpiryTimeInSeconds()).isEqualTo(40L);
+        assertThat(lockFactoryConfig.getFileLockFactoryConfig().getDirectory())
+                .isEqualTo(Paths.get("/var/lib/ecchronos/locks"));
+        assertThat(lockFactoryConfig.getFileLockFactoryConfig().getFailureCacheExpiryTimeInSeconds()).isEqualTo(50L);
+    }
+
+    @Test
+    public void testLockFactoryConfigDefaultValue() throws IOException
+    {
+        LockFactoryConfig lockFactoryConfig = getLockFactoryConfig("nothing_set.yml");
+        assertThat(lockFactoryConfig.getType()).isEqualTo(LockFactoryConfig.Type.CAS);
+        assertThat(lockFactoryConfig.getLocalLockFactoryConfig().getFailureCacheExpiryTimeInSeconds()).isEqualTo(30L);
+        assertThat(lockFactoryConfig.getFileLockFactoryConfig().getDirectory()).isNull();
+        assertThat(lockFactoryConfig.getFileLockFactoryConfig().getFailureCacheExpiryTimeInSeconds()).isEqualTo(30L);
+    }
+
+    @Test
+    public void testFileLockFactoryDirectoryInTemporaryDirectory()
+    {
+        FileLockFactoryConfig fileLockFactoryConfig = new FileLockFactoryConfig();
+        String directory = Paths.get(System.getProperty("java.io.tmpdir"), "ecchronos", "locks").toString();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> fileLockFactoryConfig.setDirectory(directory));
+        assertThat(fileLockFactoryConfig.getDirectory()).isNull();
+    }
+
+    private LockFactoryConfig getLockFactoryConfig(final String fileName) throws IOException
+    {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        File file = new File(classLoader.getResource(fileName).getFile());
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        Config config = mapper.readValue(file, Config.class);
+        return config.getLockFactory();
+    }
+}
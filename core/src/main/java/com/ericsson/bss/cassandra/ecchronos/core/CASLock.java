@@ -17,16 +17,17 @@ package com.ericsson.bss.cassandra.ecchronos.core;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
@@ -45,7 +46,7 @@ class CASLock implements DistributedLock, Runnable
     private final int myPriority;
     private final Map<String, String> myMetadata;
 
-    private final AtomicReference<ScheduledFuture<?>> myUpdateFuture = new AtomicReference<>();
+    private final AtomicBoolean myLocked = new AtomicBoolean();
 
     private final AtomicInteger myFailedUpdateAttempts = new AtomicInteger();
 
@@ -62,6 +63,19 @@ class CASLock implements DistributedLock, Runnable
             final Map<String, String> metadata,
             final UUID uuid,
             final CASLockStatement casLockStatement)
+    {
+        this(dataCenter, resource, priority, metadata, uuid, casLockStatement,
+                casLockStatement.getCasLockFactoryCacheContext().getLockPriorityCache().getPriorities(resource,
+                        () -> readPriorities(dataCenter, resource, casLockStatement)));
+    }
+
+    private CASLock(final String dataCenter,
+                    final String resource,
+                    final int priority,
+                    final Map<String, String> metadata,
+                    final UUID uuid,
+                    final CASLockStatement casLockStatement,
+                    final List<NodePriority> nodePriorities)
     {
         myDataCenter = dataCenter;
         myResource = resource;
@@ -70,8 +84,6 @@ class CASLock implements DistributedLock, Runnable
         myUuid = uuid;
         myCasLockStatement = casLockStatement;
 
-        List<NodePriority> nodePriorities = computePriorities();
-
         myLocallyHighestPriority = nodePriorities.stream()
                 .filter(n -> n.getUuid().equals(myUuid))
                 .map(NodePriority::getPriority)
@@ -84,6 +96,39 @@ class CASLock implements DistributedLock, Runnable
                 .orElse(myPriority);
     }
 
+    /**
+     * Create a lock after reading the priorities of the resource asynchronously.
+     * <p>
+     * The priorities are only read if there is no cached snapshot for the resource.
+     *
+     * @param dataCenter The data center the lock belongs to or null if it's a global lock.
+     * @param resource The resource to lock.
+     * @param priority The priority of the lock.
+     * @param metadata The metadata of the lock.
+     * @param uuid The host id of the local node.
+     * @param casLockStatement The statements used by the lock.
+     * @return A stage completing with the lock, not yet locked.
+     */
+    static CompletionStage<CASLock> createAsync(final String dataCenter,
+                                                final String resource,
+                                                final int priority,
+                                                final Map<String, String> metadata,
+                                                final UUID uuid,
+                                                final CASLockStatement casLockStatement)
+    {
+        LockPriorityCache lockPriorityCache = casLockStatement.getCasLockFactoryCacheContext().getLockPriorityCache();
+        Optional<List<NodePriority>> cachedPriorities = lockPriorityCache.getCachedPriorities(resource);
+        if (cachedPriorities.isPresent())
+        {
+            return CompletableFuture.completedFuture(new CASLock(dataCenter, resource, priority, metadata, uuid,
+                    casLockStatement, cachedPriorities.get()));
+        }
+
+        return readPrioritiesAsync(dataCenter, resource, casLockStatement)
+                .thenApply(nodePriorities -> new CASLock(dataCenter, resource, priority, metadata, uuid,
+                        casLockStatement, nodePriorities));
+    }
+
     public boolean lock()
     {
         if (compete())
@@ -91,20 +136,74 @@ class CASLock implements DistributedLock, Runnable
             LOG.trace("Trying to acquire lock for resource {}", myResource);
             if (tryLock())
             {
-                ScheduledExecutorService executor = myCasLockStatement.getCasLockProperties().getExecutor();
-                LOG.trace("Lock for resource {} acquired", myResource);
-                ScheduledFuture<?> future = executor.scheduleAtFixedRate(this,
-                myCasLockStatement.getCasLockFactoryCacheContext().getLockUpdateTimeInSeconds(),
-                myCasLockStatement.getCasLockFactoryCacheContext().getLockUpdateTimeInSeconds(), TimeUnit.SECONDS);
-                myUpdateFuture.set(future);
-
+                locked();
                 return true;
             }
+            lockLost();
         }
 
         return false;
     }
 
+    /**
+     * Compete for and try to acquire the lock without blocking the calling thread.
+     *
+     * @return A stage completing with true if the lock was acquired.
+     */
+    CompletionStage<Boolean> lockAsync()
+    {
+        return competeAsync().thenCompose(highestPriority ->
+        {
+            if (!highestPriority)
+            {
+                return CompletableFuture.completedFuture(false);
+            }
+
+            LOG.trace("Trying to acquire lock for resource {}", myResource);
+            return myCasLockStatement.executeAsync(myDataCenter,
+                    myCasLockStatement.getLockStatement().bind(myResource, myUuid, myMetadata))
+                    .thenApply(resultSet ->
+                    {
+                        if (resultSet.wasApplied())
+                        {
+                            locked();
+                            return true;
+                        }
+                        lockLost();
+                        return false;
+                    });
+        });
+    }
+
+    /**
+     * Announce the priority of this node for the resource without blocking the calling thread.
+     *
+     * @return A stage completing with true if this node has the highest priority for the resource.
+     */
+    CompletionStage<Boolean> competeAsync()
+    {
+        CompletionStage<?> competed = myLocallyHighestPriority <= myPriority
+                ? myCasLockStatement.executeAsync(myDataCenter,
+                        myCasLockStatement.getCompeteStatement().bind(myResource, myUuid, myPriority))
+                : CompletableFuture.completedFuture(null);
+
+        return competed.thenApply(c ->
+        {
+            if (myLocallyHighestPriority <= myPriority)
+            {
+                getLockPriorityCache().competed(myResource, myUuid, myPriority);
+            }
+            return isHighestPriority();
+        });
+    }
+
+    private void locked()
+    {
+        LOG.trace("Lock for resource {} acquired", myResource);
+        myLocked.set(true);
+        myCasLockStatement.getCasLockFactoryCacheContext().getLeaseManager().register(this);
+    }
+
     @Override
     public void run()
     {
@@ -115,35 +214,78 @@ class CASLock implements DistributedLock, Runnable
         }
         catch (LockException e)
         {
-            int failedAttempts = myFailedUpdateAttempts.incrementAndGet();
+            updateFailed(e);
+        }
+    }
+
+    /**
+     * Renew the lease of this lock asynchronously.
+     * <p>
+     * Failures are accounted for in the same way as for {@link #run()}.
+     *
+     * @return A stage completing with true if the lease was renewed.
+     */
+    CompletionStage<Boolean> renewAsync()
+    {
+        CompletionStage<Boolean> renewal;
+        try
+        {
+            renewal = myCasLockStatement.executeAsync(myDataCenter,
+                    myCasLockStatement.getUpdateLockStatement().bind(myUuid, myMetadata, myResource, myUuid))
+                    .thenApply(resultSet -> resultSet.wasApplied());
+        }
+        catch (RuntimeException e)
+        {
+            renewal = CompletableFuture.failedFuture(e);
+        }
 
-            if (failedAttempts >= myCasLockStatement.getCasLockFactoryCacheContext().getFailedLockRetryAttempts())
+        return renewal.handle((applied, t) ->
+        {
+            if (Boolean.TRUE.equals(applied))
             {
-                LOG.error("Unable to re-lock resource '{}' after {} failed attempts", myResource, failedAttempts);
+                myFailedUpdateAttempts.set(0);
+                return true;
             }
-            else
+            if (myLocked.get())
             {
-                LOG.warn("Unable to re-lock resource '{}', {} failed attempts", myResource, failedAttempts, e);
+                updateFailed(t == null ? new LockException("CAS query failed") : new LockException(t));
             }
+            return false;
+        });
+    }
+
+    private void updateFailed(final LockException e)
+    {
+        int failedAttempts = myFailedUpdateAttempts.incrementAndGet();
+        myCasLockStatement.getCasLockFactoryCacheContext().getLockMetrics().renewalFailure(myDataCenter, myResource);
+
+        if (failedAttempts >= myCasLockStatement.getCasLockFactoryCacheContext().getFailedLockRetryAttempts())
+        {
+            LOG.error("Unable to re-lock resource '{}' after {} failed attempts", myResource, failedAttempts);
+        }
+        else
+        {
+            LOG.warn("Unable to re-lock resource '{}', {} failed attempts", myResource, failedAttempts, e);
         }
     }
 
     @Override
     public void close()
     {
-        ScheduledFuture<?> future = myUpdateFuture.get();
-        if (future != null)
+        if (myLocked.compareAndSet(true, false))
         {
-            future.cancel(true);
+            myCasLockStatement.getCasLockFactoryCacheContext().getLeaseManager().unregister(this);
             myCasLockStatement.execute(
                 myDataCenter,
                 myCasLockStatement.getRemoveLockStatement().bind(myResource, myUuid));
+            myCasLockStatement.getCasLockFactoryCacheContext().getLockStateCache().released(myResource);
 
             if (myLocallyHighestPriority <= myPriority)
             {
                 myCasLockStatement.execute(
                     myDataCenter,
                     myCasLockStatement.getRemoveLockPriorityStatement().bind(myResource, myUuid));
+                getLockPriorityCache().removed(myResource, myUuid);
             }
             else
             {
@@ -165,15 +307,19 @@ class CASLock implements DistributedLock, Runnable
         }
     }
 
-    private boolean compete()
+    /**
+     * Announce the priority of this node for the resource.
+     *
+     * @return True if this node has the highest priority for the resource.
+     */
+    boolean compete()
     {
         if (myLocallyHighestPriority <= myPriority)
         {
             insertPriority();
         }
 
-        LOG.trace("Highest priority for resource {}: {}", myResource, globalHighPriority);
-        return myPriority >= globalHighPriority;
+        return isHighestPriority();
     }
 
     private void insertPriority()
@@ -181,6 +327,36 @@ class CASLock implements DistributedLock, Runnable
         myCasLockStatement.execute(
             myDataCenter,
             myCasLockStatement.getCompeteStatement().bind(myResource, myUuid, myPriority));
+        getLockPriorityCache().competed(myResource, myUuid, myPriority);
+    }
+
+    /**
+     * Check the priority of this node against the priorities read or cached when the lock was created.
+     * <p>
+     * A cached snapshot is trusted so that uncontended locking doesn't read the priorities, a node holding the lock
+     * is still caught by the lock statement. The snapshot is only invalidated when another node is seen to have a
+     * higher priority or to hold the lock.
+     */
+    private boolean isHighestPriority()
+    {
+        LOG.trace("Highest priority for resource {}: {}", myResource, globalHighPriority);
+        if (myPriority >= globalHighPriority)
+        {
+            return true;
+        }
+
+        getLockPriorityCache().invalidate(myResource);
+        return false;
+    }
+
+    private void lockLost()
+    {
+        getLockPriorityCache().invalidate(myResource);
+    }
+
+    private LockPriorityCache getLockPriorityCache()
+    {
+        return myCasLockStatement.getCasLockFactoryCacheContext().getLockPriorityCache();
     }
 
     private boolean tryLock()
@@ -190,15 +366,45 @@ class CASLock implements DistributedLock, Runnable
             myCasLockStatement.getLockStatement().bind(myResource, myUuid, myMetadata)).wasApplied();
     }
 
-    private List<NodePriority> computePriorities()
+    private static List<NodePriority> readPriorities(final String dataCenter,
+                                                     final String resource,
+                                                     final CASLockStatement casLockStatement)
     {
-        List<NodePriority> nodePriorities = new ArrayList<>();
+        return toNodePriorities(casLockStatement.execute(
+                dataCenter, casLockStatement.getGetPriorityStatement().bind(resource)));
+    }
 
-        ResultSet resultSet = myCasLockStatement.execute(
-            myDataCenter,
-            myCasLockStatement.getGetPriorityStatement().bind(myResource));
+    private static CompletionStage<List<NodePriority>> readPrioritiesAsync(final String dataCenter,
+                                                                           final String resource,
+                                                                           final CASLockStatement casLockStatement)
+    {
+        return casLockStatement.executeAsync(dataCenter, casLockStatement.getGetPriorityStatement().bind(resource))
+                .thenCompose(resultSet -> readRemainingPages(resultSet, new ArrayList<>()))
+                .thenApply(nodePriorities ->
+                {
+                    casLockStatement.getCasLockFactoryCacheContext().getLockPriorityCache()
+                            .putPriorities(resource, nodePriorities);
+                    return nodePriorities;
+                });
+    }
+
+    private static CompletionStage<List<NodePriority>> readRemainingPages(final AsyncResultSet resultSet,
+                                                                          final List<NodePriority> nodePriorities)
+    {
+        nodePriorities.addAll(toNodePriorities(resultSet.currentPage()));
+
+        if (!resultSet.hasMorePages())
+        {
+            return CompletableFuture.completedFuture(nodePriorities);
+        }
+        return resultSet.fetchNextPage().thenCompose(next -> readRemainingPages(next, nodePriorities));
+    }
+
+    private static List<NodePriority> toNodePriorities(final Iterable<Row> rows)
+    {
+        List<NodePriority> nodePriorities = new ArrayList<>();
 
-        for (Row row : resultSet)
+        for (Row row : rows)
         {
             int priority = row.getInt(CASLockStatement.COLUMN_PRIORITY);
             UUID hostId = row.getUuid(CASLockStatement.COLUMN_NODE);
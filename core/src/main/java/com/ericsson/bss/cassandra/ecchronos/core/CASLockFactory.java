@@ -18,29 +18,36 @@ import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.metadata.Metadata;
 import com.datastax.oss.driver.api.core.metadata.Node;
-import com.datastax.oss.driver.api.core.metadata.TokenMap;
 import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
 import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockStatus;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
-import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -76,10 +83,13 @@ public final class CASLockFactory implements LockFactory, Closeable
 
     private final UUID myUuid;
     private final HostStates myHostStates;
+    private final LockReplicaCache myLockReplicaCache;
+    private final Set<Runnable> myLockReleaseListeners = new CopyOnWriteArraySet<>();
     private final CASLockFactoryCacheContext myCasLockFactoryCacheContext;
 
     private final CASLockProperties myCasLockProperties;
     private final CASLockStatement myCasLockStatement;
+    private final ScheduledExecutorService myLockStateExecutor;
 
     CASLockFactory(final CASLockFactoryBuilder builder)
     {
@@ -90,9 +100,13 @@ public final class CASLockFactory implements LockFactory, Closeable
                 new ThreadFactoryBuilder().setNameFormat("LockRefresher-%d").build()),
             builder.getConsistencyType(),
             builder.getNativeConnectionProvider().getSession(),
-            builder.getStatementDecorator());
+            builder.getStatementDecorator(),
+            builder.isLocalSerialForDataCenterResources());
 
         myHostStates = builder.getHostStates();
+        myLockReplicaCache = new LockReplicaCache(
+                () -> myCasLockProperties.getSession().getMetadata().getTokenMap(),
+                myCasLockProperties.getKeyspaceName());
 
         verifySchemasExists();
 
@@ -105,21 +119,46 @@ public final class CASLockFactory implements LockFactory, Closeable
         }
 
         myUuid = hostId;
-        myCasLockFactoryCacheContext = buildCasLockFactoryCacheContext(builder.getCacheExpiryTimeInSecond());
+        myCasLockFactoryCacheContext = buildCasLockFactoryCacheContext(builder.getCacheExpiryTimeInSecond(),
+                builder.getMeterRegistry());
 
         myCasLockStatement = new CASLockStatement(myCasLockProperties, myCasLockFactoryCacheContext);
+
+        long lockStateRefreshIntervalInSeconds = builder.getLockStateRefreshIntervalInSeconds();
+        if (lockStateRefreshIntervalInSeconds > 0)
+        {
+            // The scan reads the whole lock table, keep it away from the lease renewal of held locks
+            myLockStateExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("LockStateRefresher-%d").build());
+            myLockStateExecutor.scheduleWithFixedDelay(myCasLockFactoryCacheContext.getLockStateCache(),
+                    0, lockStateRefreshIntervalInSeconds, TimeUnit.SECONDS);
+        }
+        else
+        {
+            myLockStateExecutor = null;
+        }
     }
 
-    private CASLockFactoryCacheContext buildCasLockFactoryCacheContext(final long cacheExpiryTimeInSeconds)
+    private CASLockFactoryCacheContext buildCasLockFactoryCacheContext(final long cacheExpiryTimeInSeconds,
+                                                                       final MeterRegistry meterRegistry)
     {
         int lockTimeInSeconds = getDefaultTimeToLiveFromLockTable();
         int lockUpdateTimeInSeconds = lockTimeInSeconds / REFRESH_INTERVAL_RATIO;
         int myFailedLockRetryAttempts = (lockTimeInSeconds / lockUpdateTimeInSeconds) - 1;
+        // A composite registry without registries hands out no-op meters
+        MeterRegistry lockMeterRegistry = meterRegistry != null ? meterRegistry : new CompositeMeterRegistry();
+        CASLockMetrics lockMetrics = new CASLockMetrics(meterRegistry);
 
         return CASLockFactoryCacheContext.newBuilder()
                 .withLockUpdateTimeInSeconds(lockUpdateTimeInSeconds)
                 .withFailedLockRetryAttempts(myFailedLockRetryAttempts)
-                .withLockCache(new LockCache(this::doTryLock, cacheExpiryTimeInSeconds))
+                .withLockCache(new LockCache(this::doTryLock, this::doTryLockAsync, cacheExpiryTimeInSeconds,
+                        TimeUnit.SECONDS, lockMetrics::cachedFailure))
+                .withLeaseManager(new CASLockLeaseManager(myCasLockProperties.getExecutor(), lockUpdateTimeInSeconds,
+                        lockMeterRegistry))
+                .withLockStateCache(new LockStateCache(this::scanLocks, this::lockReleased))
+                .withLockMetrics(lockMetrics)
+                .withLockPriorityCache(new LockPriorityCache(cacheExpiryTimeInSeconds, TimeUnit.SECONDS))
                 .build();
     }
 
@@ -149,6 +188,16 @@ public final class CASLockFactory implements LockFactory, Closeable
                 .getLock(dataCenter, resource, priority, metadata);
     }
 
+    @Override
+    public CompletionStage<DistributedLock> tryLockAsync(final String dataCenter,
+                                                         final String resource,
+                                                         final int priority,
+                                                         final Map<String, String> metadata)
+    {
+        return myCasLockFactoryCacheContext.getLockCache()
+                .getLockAsync(dataCenter, resource, priority, metadata);
+    }
+
     @Override
     public Map<String, String> getLockMetadata(final String dataCenter, final String resource) throws LockException
     {
@@ -170,23 +219,60 @@ public final class CASLockFactory implements LockFactory, Closeable
     @Override
     public boolean sufficientNodesForLocking(final String dataCenter, final String resource)
     {
-        try
-        {
-            Set<Node> nodes = getNodesForResource(dataCenter, resource);
+        Set<Node> nodes = myLockReplicaCache.getNodes(dataCenter, resource);
+
+        int quorum = nodes.size() / 2 + 1;
+        int liveNodes = liveNodes(nodes);
+
+        LOG.trace("Live nodes {}, quorum: {}", liveNodes, quorum);
 
-            int quorum = nodes.size() / 2 + 1;
-            int liveNodes = liveNodes(nodes);
+        return liveNodes >= quorum;
+    }
 
-            LOG.trace("Live nodes {}, quorum: {}", liveNodes, quorum);
+    /**
+     * Get the status of all held locks and of all resources this node has failed to lock.
+     * <p>
+     * The held locks are read from the lock table at LOCAL_ONE, the contentions are counted by this node.
+     *
+     * @return The lock statuses, most contended first.
+     */
+    @Override
+    public List<LockStatus> getLockStatuses()
+    {
+        CASLockMetrics lockMetrics = myCasLockFactoryCacheContext.getLockMetrics();
+        Map<String, LockStatus> lockStatuses = new HashMap<>();
 
-            return liveNodes >= quorum;
+        for (Row row : scanLocks())
+        {
+            String resource = row.getString(CASLockStatement.COLUMN_RESOURCE);
+            UUID holder = row.getUuid(CASLockStatement.COLUMN_NODE);
+            if (resource == null || holder == null)
+            {
+                continue;
+            }
+            Map<String, String> metadata = row.getMap(CASLockStatement.COLUMN_METADATA, String.class, String.class);
+            lockStatuses.put(resource, new LockStatus(resource, holder.toString(),
+                    metadata != null ? metadata : Collections.emptyMap(),
+                    row.getInt(CASLockStatement.SCAN_COLUMN_TTL),
+                    lockMetrics.getContentions(resource)));
         }
-        catch (UnsupportedEncodingException e)
+
+        for (String resource : lockMetrics.getContendedResources())
         {
-            LOG.warn("Unable to encode resource bytes", e);
+            lockStatuses.computeIfAbsent(resource, r -> new LockStatus(r, null, Collections.emptyMap(), 0L,
+                    lockMetrics.getContentions(r)));
         }
 
-        return false;
+        List<LockStatus> sortedLockStatuses = new ArrayList<>(lockStatuses.values());
+        sortedLockStatuses.sort(Comparator.comparingLong(LockStatus::contentions).reversed()
+                .thenComparing(LockStatus::resource));
+        return sortedLockStatuses;
+    }
+
+    @Override
+    public void addLockReleaseListener(final Runnable listener)
+    {
+        myLockReleaseListeners.add(listener);
     }
 
     @Override
@@ -198,10 +284,20 @@ public final class CASLockFactory implements LockFactory, Closeable
     @Override
     public void close()
     {
-        myCasLockProperties.getExecutor().shutdown();
+        myCasLockFactoryCacheContext.getLeaseManager().close();
+        shutdown(myCasLockProperties.getExecutor());
+        if (myLockStateExecutor != null)
+        {
+            shutdown(myLockStateExecutor);
+        }
+    }
+
+    private static void shutdown(final ScheduledExecutorService executor)
+    {
+        executor.shutdown();
         try
         {
-            if (!myCasLockProperties.getExecutor().awaitTermination(1, TimeUnit.SECONDS))
+            if (!executor.awaitTermination(1, TimeUnit.SECONDS))
             {
                 LOG.warn("Executing tasks did not finish within one second");
             }
@@ -254,7 +350,17 @@ public final class CASLockFactory implements LockFactory, Closeable
             throw new LockException("Not sufficient nodes to lock");
         }
         CASLock casLock = new CASLock(dataCenter, resource, priority, metadata, myUuid, myCasLockStatement); // NOSONAR
-        if (casLock.lock())
+        Optional<LockStateCache.LockState> lockState = getVisibleLockState(resource);
+        if (lockState.isPresent())
+        {
+            casLock.compete();
+            throw heldLockException(dataCenter, resource, lockState.get());
+        }
+
+        long start = System.nanoTime();
+        boolean locked = casLock.lock();
+        lockAttempted(dataCenter, resource, locked, start);
+        if (locked)
         {
             return casLock;
         }
@@ -264,35 +370,86 @@ public final class CASLockFactory implements LockFactory, Closeable
         }
     }
 
-    private Set<Node> getNodesForResource(final String dataCenter,
-                                          final String resource) throws UnsupportedEncodingException
+    private CompletionStage<DistributedLock> doTryLockAsync(final String dataCenter,
+                                                            final String resource,
+                                                            final int priority,
+                                                            final Map<String, String> metadata)
     {
-        Set<Node> dataCenterNodes = new HashSet<>();
+        LOG.trace("Trying lock asynchronously for {} - {}", dataCenter, resource);
 
-        Metadata metadata = myCasLockProperties.getSession().getMetadata();
-        TokenMap tokenMap = metadata.getTokenMap()
-                .orElseThrow(() -> new IllegalStateException("Couldn't get token map, is it disabled?"));
-        Set<Node> nodes = tokenMap.getReplicas(
-                myCasLockProperties.getKeyspaceName(), ByteBuffer.wrap(resource.getBytes("UTF-8")));
-
-        if (dataCenter != null)
+        if (!sufficientNodesForLocking(dataCenter, resource))
         {
-            Iterator<Node> iterator = nodes.iterator();
+            LOG.warn("Not sufficient nodes to lock resource {} in datacenter {}", resource, dataCenter);
+            return CompletableFuture.failedFuture(new LockException("Not sufficient nodes to lock"));
+        }
 
-            while (iterator.hasNext())
-            {
-                Node node = iterator.next();
+        Optional<LockStateCache.LockState> lockState = getVisibleLockState(resource);
+        if (lockState.isPresent())
+        {
+            return CASLock.createAsync(dataCenter, resource, priority, metadata, myUuid, myCasLockStatement)
+                    .thenCompose(CASLock::competeAsync)
+                    .thenApply(competed ->
+                    {
+                        throw new CompletionException(heldLockException(dataCenter, resource, lockState.get()));
+                    });
+        }
 
-                if (dataCenter.equals(node.getDatacenter()))
+        long start = System.nanoTime();
+        return CASLock.createAsync(dataCenter, resource, priority, metadata, myUuid, myCasLockStatement)
+                .thenCompose(casLock -> casLock.lockAsync().<DistributedLock>thenApply(locked ->
                 {
-                    dataCenterNodes.add(node);
-                }
-            }
+                    lockAttempted(dataCenter, resource, locked, start);
+                    if (!locked)
+                    {
+                        throw new CompletionException(new LockException(
+                                String.format("Unable to lock resource %s in datacenter %s", resource, dataCenter)));
+                    }
+                    return casLock;
+                }));
+    }
+
+    private void lockAttempted(final String dataCenter, final String resource, final boolean locked,
+                               final long start)
+    {
+        CASLockMetrics lockMetrics = myCasLockFactoryCacheContext.getLockMetrics();
+        lockMetrics.lockAcquire(dataCenter, resource, locked, System.nanoTime() - start);
+        if (!locked)
+        {
+            lockMetrics.contention(dataCenter, resource);
+        }
+    }
+
+    private Optional<LockStateCache.LockState> getVisibleLockState(final String resource)
+    {
+        return myCasLockFactoryCacheContext.getLockStateCache().getLockState(resource);
+    }
 
-            return dataCenterNodes;
+    private LockException heldLockException(final String dataCenter,
+                                            final String resource,
+                                            final LockStateCache.LockState lockState)
+    {
+        myCasLockFactoryCacheContext.getLockMetrics().contention(dataCenter, resource);
+        LOG.debug("Resource {} in datacenter {} is held by {}, not trying to lock", resource, dataCenter,
+                lockState.getHolder());
+        return new LockException(String.format("Resource %s in datacenter %s is held by %s",
+                resource, dataCenter, lockState.getHolder()));
+    }
+
+    private void lockReleased(final String resource)
+    {
+        if (myCasLockFactoryCacheContext.getLockCache().invalidate(resource))
+        {
+            LOG.debug("Resource {} released, notifying waiters", resource);
+            for (Runnable listener : myLockReleaseListeners)
+            {
+                listener.run();
+            }
         }
+    }
 
-        return nodes;
+    private Iterable<Row> scanLocks()
+    {
+        return myCasLockStatement.execute(null, myCasLockStatement.getScanLocksStatement().bind());
     }
 
     private int liveNodes(final Collection<Node> nodes)
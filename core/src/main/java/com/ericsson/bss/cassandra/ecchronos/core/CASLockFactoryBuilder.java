@@ -17,6 +17,7 @@ package com.ericsson.bss.cassandra.ecchronos.core;
 import com.ericsson.bss.cassandra.ecchronos.connection.NativeConnectionProvider;
 import com.ericsson.bss.cassandra.ecchronos.connection.StatementDecorator;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.ConsistencyType;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Represents a container for builder configurations and state for the CASLockFactory.
@@ -34,6 +35,9 @@ public class CASLockFactoryBuilder
     private String myKeyspaceName = DEFAULT_KEYSPACE_NAME;
     private long myCacheExpiryTimeInSeconds = DEFAULT_EXPIRY_TIME_IN_SECONDS;
     private ConsistencyType myConsistencyType = DEFAULT_CONSISTENCY_SERIAL;
+    private boolean myLocalSerialForDataCenterResources;
+    private MeterRegistry myMeterRegistry;
+    private long myLockStateRefreshIntervalInSeconds;
 
     public final CASLockFactoryBuilder withNativeConnectionProvider(
         final NativeConnectionProvider nativeConnectionProvider)
@@ -72,6 +76,53 @@ public class CASLockFactoryBuilder
         return this;
     }
 
+    /**
+     * Build with LOCAL_SERIAL used for resources bound to a data center when remote routing is enabled.
+     * <p>
+     * The configured serial consistency is used for all resources by default. All instances in the cluster
+     * must use the same setting since instances using SERIAL and LOCAL_SERIAL for the same resource do not
+     * observe each others locks.
+     *
+     * @param localSerialForDataCenterResources true to use LOCAL_SERIAL for data center bound resources
+     * @return CASLockFactoryBuilder
+     */
+    public final CASLockFactoryBuilder withLocalSerialForDataCenterResources(
+        final boolean localSerialForDataCenterResources)
+    {
+        myLocalSerialForDataCenterResources = localSerialForDataCenterResources;
+        return this;
+    }
+
+    /**
+     * Build with meter registry used for the lock lease renewal metrics.
+     * <p>
+     * The metrics are not exported if no meter registry is provided.
+     *
+     * @param meterRegistry meter registry to register the lock metrics towards
+     * @return CASLockFactoryBuilder
+     */
+    public final CASLockFactoryBuilder withMeterRegistry(final MeterRegistry meterRegistry)
+    {
+        myMeterRegistry = meterRegistry;
+        return this;
+    }
+
+    /**
+     * Build with the interval at which the lock table is scanned to find locks held by other nodes.
+     * <p>
+     * Resources that are visibly held are not competed for with a lightweight transaction.
+     * A value of 0 disables the scan.
+     *
+     * @param lockStateRefreshIntervalInSeconds the scan interval in seconds
+     * @return CASLockFactoryBuilder
+     */
+    public final CASLockFactoryBuilder withLockStateRefreshIntervalInSeconds(
+        final long lockStateRefreshIntervalInSeconds)
+    {
+        myLockStateRefreshIntervalInSeconds = lockStateRefreshIntervalInSeconds;
+        return this;
+    }
+
     public final CASLockFactory build()
     {
         if (myNativeConnectionProvider == null)
@@ -89,6 +140,11 @@ public class CASLockFactoryBuilder
             throw new IllegalArgumentException("Statement decorator cannot be null");
         }
 
+        if (myLockStateRefreshIntervalInSeconds < 0)
+        {
+            throw new IllegalArgumentException("Lock state refresh interval cannot be negative");
+        }
+
         return new CASLockFactory(this);
     }
 
@@ -122,4 +178,18 @@ public class CASLockFactoryBuilder
         return myConsistencyType;
     }
 
+    public final boolean isLocalSerialForDataCenterResources()
+    {
+        return myLocalSerialForDataCenterResources;
+    }
+
+    public final MeterRegistry getMeterRegistry()
+    {
+        return myMeterRegistry;
+    }
+
+    public final long getLockStateRefreshIntervalInSeconds()
+    {
+        return myLockStateRefreshIntervalInSeconds;
+    }
 }
@@ -23,12 +23,20 @@ public final class CASLockFactoryCacheContext
     private final LockCache myLockCache;
     private final long myLockUpdateTimeInSeconds;
     private final int myFailedLockRetryAttempts;
+    private final CASLockLeaseManager myLeaseManager;
+    private final LockStateCache myLockStateCache;
+    private final CASLockMetrics myLockMetrics;
+    private final LockPriorityCache myLockPriorityCache;
 
     public CASLockFactoryCacheContext(final Builder builder)
     {
         myLockCache = builder.myLockCache;
         myLockUpdateTimeInSeconds = builder.myLockUpdateTimeInSeconds;
         myFailedLockRetryAttempts = builder.myFailedLockRetryAttempts;
+        myLeaseManager = builder.myLeaseManager;
+        myLockStateCache = builder.myLockStateCache;
+        myLockMetrics = builder.myLockMetrics;
+        myLockPriorityCache = builder.myLockPriorityCache;
     }
 
     public LockCache getLockCache()
@@ -46,6 +54,26 @@ public final class CASLockFactoryCacheContext
         return myFailedLockRetryAttempts;
     }
 
+    CASLockLeaseManager getLeaseManager()
+    {
+        return myLeaseManager;
+    }
+
+    LockStateCache getLockStateCache()
+    {
+        return myLockStateCache;
+    }
+
+    CASLockMetrics getLockMetrics()
+    {
+        return myLockMetrics;
+    }
+
+    LockPriorityCache getLockPriorityCache()
+    {
+        return myLockPriorityCache;
+    }
+
     public static Builder newBuilder()
     {
         return new Builder();
@@ -56,6 +84,10 @@ public final class CASLockFactoryCacheContext
         private LockCache myLockCache;
         private int myLockUpdateTimeInSeconds;
         private int myFailedLockRetryAttempts;
+        private CASLockLeaseManager myLeaseManager;
+        private LockStateCache myLockStateCache;
+        private CASLockMetrics myLockMetrics;
+        private LockPriorityCache myLockPriorityCache;
 
         public final Builder withLockUpdateTimeInSeconds(final int lockTimeInSeconds)
         {
@@ -75,6 +107,30 @@ public final class CASLockFactoryCacheContext
             return this;
         }
 
+        final Builder withLeaseManager(final CASLockLeaseManager leaseManager)
+        {
+            myLeaseManager = leaseManager;
+            return this;
+        }
+
+        final Builder withLockStateCache(final LockStateCache lockStateCache)
+        {
+            myLockStateCache = lockStateCache;
+            return this;
+        }
+
+        final Builder withLockMetrics(final CASLockMetrics lockMetrics)
+        {
+            myLockMetrics = lockMetrics;
+            return this;
+        }
+
+        final Builder withLockPriorityCache(final LockPriorityCache lockPriorityCache)
+        {
+            myLockPriorityCache = lockPriorityCache;
+            return this;
+        }
+
         public final CASLockFactoryCacheContext build()
         {
             return new CASLockFactoryCacheContext(this);
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Renews the leases of all locks held by this node in one pass per lock update interval.
+ * <p>
+ * The renewals of a pass are issued asynchronously and in parallel.
+ * The next pass is scheduled once all renewals of the current pass have completed, or the interval has passed,
+ * so that the scheduling thread is never blocked waiting for them.
+ * Failures are accounted for per lock while the latency of each renewal and of the whole pass is recorded.
+ */
+class CASLockLeaseManager implements Runnable, Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(CASLockLeaseManager.class);
+
+    static final String LEASE_RENEWAL = "lock.lease.renewal";
+    static final String LEASE_RENEWAL_PASS = "lock.lease.renewal.pass";
+    static final String LEASES_HELD = "lock.leases.held";
+
+    private final Set<CASLock> myLocks = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<ScheduledFuture<?>> myRenewalFuture = new AtomicReference<>();
+    private boolean myClosed;
+
+    private final ScheduledExecutorService myExecutor;
+    private final long myLeaseRenewalIntervalInSeconds;
+
+    private final Timer mySuccessfulRenewalTimer;
+    private final Timer myFailedRenewalTimer;
+    private final Timer myRenewalPassTimer;
+
+    CASLockLeaseManager(final ScheduledExecutorService executor,
+                        final long leaseRenewalIntervalInSeconds,
+                        final MeterRegistry meterRegistry)
+    {
+        myExecutor = executor;
+        myLeaseRenewalIntervalInSeconds = leaseRenewalIntervalInSeconds;
+
+        mySuccessfulRenewalTimer = Timer.builder(LEASE_RENEWAL)
+                .tags("successful", Boolean.toString(true))
+                .register(meterRegistry);
+        myFailedRenewalTimer = Timer.builder(LEASE_RENEWAL)
+                .tags("successful", Boolean.toString(false))
+                .register(meterRegistry);
+        myRenewalPassTimer = Timer.builder(LEASE_RENEWAL_PASS)
+                .register(meterRegistry);
+        Gauge.builder(LEASES_HELD, myLocks, Set::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start renewing the lease of the provided lock.
+     * <p>
+     * The first renewal pass is scheduled when the first lock is registered.
+     *
+     * @param lock The lock to renew.
+     */
+    void register(final CASLock lock)
+    {
+        myLocks.add(lock);
+
+        if (myRenewalFuture.get() == null)
+        {
+            synchronized (myRenewalFuture)
+            {
+                if (myRenewalFuture.get() == null)
+                {
+                    scheduleNextPass(TimeUnit.SECONDS.toNanos(myLeaseRenewalIntervalInSeconds));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop renewing the lease of the provided lock.
+     *
+     * @param lock The lock to stop renewing.
+     */
+    void unregister(final CASLock lock)
+    {
+        myLocks.remove(lock);
+    }
+
+    @Override
+    public void run()
+    {
+        long passStart = System.nanoTime();
+        List<CASLock> locks = new ArrayList<>(myLocks);
+        if (locks.isEmpty())
+        {
+            scheduleNextPass(TimeUnit.SECONDS.toNanos(myLeaseRenewalIntervalInSeconds));
+            return;
+        }
+
+        List<CompletableFuture<Boolean>> renewals = new ArrayList<>(locks.size());
+
+        for (CASLock lock : locks)
+        {
+            long renewalStart = System.nanoTime();
+            renewals.add(lock.renewAsync()
+                    .whenComplete((renewed, t) -> recordRenewal(Boolean.TRUE.equals(renewed), renewalStart))
+                    .toCompletableFuture());
+        }
+
+        CompletableFuture.allOf(renewals.toArray(new CompletableFuture<?>[0]))
+                .orTimeout(myLeaseRenewalIntervalInSeconds, TimeUnit.SECONDS)
+                .whenComplete((v, t) -> passCompleted(renewals, passStart, t));
+    }
+
+    private void passCompleted(final List<CompletableFuture<Boolean>> renewals,
+                               final long passStart,
+                               final Throwable failure)
+    {
+        if (failure != null)
+        {
+            LOG.warn("Unable to renew all lock leases within {} seconds", myLeaseRenewalIntervalInSeconds, failure);
+        }
+
+        long passNanos = System.nanoTime() - passStart;
+        myRenewalPassTimer.record(passNanos, TimeUnit.NANOSECONDS);
+
+        long failed = renewals.stream()
+                .filter(renewal -> !Boolean.TRUE.equals(renewal.getNow(false)))
+                .count();
+        LOG.debug("Renewed {}/{} lock leases in {} ms",
+                renewals.size() - failed, renewals.size(), TimeUnit.NANOSECONDS.toMillis(passNanos));
+
+        scheduleNextPass(Math.max(0L, TimeUnit.SECONDS.toNanos(myLeaseRenewalIntervalInSeconds) - passNanos));
+    }
+
+    private void scheduleNextPass(final long delayInNanos)
+    {
+        synchronized (myRenewalFuture)
+        {
+            if (!myClosed)
+            {
+                myRenewalFuture.set(myExecutor.schedule(this, delayInNanos, TimeUnit.NANOSECONDS));
+            }
+        }
+    }
+
+    private void recordRenewal(final boolean successful, final long renewalStart)
+    {
+        Timer timer = successful ? mySuccessfulRenewalTimer : myFailedRenewalTimer;
+        timer.record(System.nanoTime() - renewalStart, TimeUnit.NANOSECONDS);
+    }
+
+    @VisibleForTesting
+    int getLeaseCount()
+    {
+        return myLocks.size();
+    }
+
+    @Override
+    public void close()
+    {
+        synchronized (myRenewalFuture)
+        {
+            myClosed = true;
+            ScheduledFuture<?> future = myRenewalFuture.getAndSet(null);
+            if (future != null)
+            {
+                future.cancel(true);
+            }
+        }
+        myLocks.clear();
+    }
+}
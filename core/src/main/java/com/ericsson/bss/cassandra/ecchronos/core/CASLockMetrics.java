@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Lock metrics per data center and resource.
+ * <p>
+ * Besides reporting to the meter registry the number of contention losses per resource is kept so that the most
+ * contended resources can be listed. The meters of a resource are registered on first use and cached so that lock
+ * attempts don't look them up in the registry. Without a meter registry only the contention losses are kept.
+ */
+final class CASLockMetrics
+{
+    static final String LOCK_ACQUIRE = "lock.acquire";
+    static final String LOCK_CONTENTION = "lock.contention";
+    static final String LOCK_RENEWAL_FAILURES = "lock.renewal.failures";
+    static final String LOCK_CACHED_FAILURES = "lock.cached.failures";
+
+    static final String DATA_CENTER_TAG = "data_center";
+    static final String RESOURCE_TAG = "resource";
+    static final String SUCCESSFUL_TAG = "successful";
+
+    private static final String GLOBAL_DATA_CENTER = "global";
+
+    private final Map<String, LongAdder> myContentions = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ResourceMeters>> myResourceMeters = new ConcurrentHashMap<>();
+    private final MeterRegistry myMeterRegistry;
+
+    /**
+     * Create lock metrics.
+     *
+     * @param meterRegistry The meter registry to report to or null to only keep the contention losses.
+     */
+    CASLockMetrics(final MeterRegistry meterRegistry)
+    {
+        myMeterRegistry = meterRegistry;
+    }
+
+    /**
+     * Record the time taken to try to acquire a lock.
+     *
+     * @param dataCenter The data center of the lock or null for a global lock.
+     * @param resource The resource.
+     * @param successful If the lock was acquired.
+     * @param durationInNanos The time taken.
+     */
+    void lockAcquire(final String dataCenter, final String resource, final boolean successful,
+                     final long durationInNanos)
+    {
+        if (myMeterRegistry != null)
+        {
+            ResourceMeters resourceMeters = resourceMeters(dataCenter, resource);
+            Supplier<Timer> timer = successful ? resourceMeters.mySuccessfulAcquire : resourceMeters.myFailedAcquire;
+            timer.get().record(durationInNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Record that a lock could not be acquired since it was held or another node had higher priority.
+     *
+     * @param dataCenter The data center of the lock or null for a global lock.
+     * @param resource The resource.
+     */
+    void contention(final String dataCenter, final String resource)
+    {
+        if (myMeterRegistry != null)
+        {
+            resourceMeters(dataCenter, resource).myContention.get().increment();
+        }
+        myContentions.computeIfAbsent(resource, r -> new LongAdder()).increment();
+    }
+
+    /**
+     * Record that the lease of a held lock could not be renewed.
+     *
+     * @param dataCenter The data center of the lock or null for a global lock.
+     * @param resource The resource.
+     */
+    void renewalFailure(final String dataCenter, final String resource)
+    {
+        if (myMeterRegistry != null)
+        {
+            resourceMeters(dataCenter, resource).myRenewalFailures.get().increment();
+        }
+    }
+
+    /**
+     * Record that a lock attempt was rejected by the failure cache.
+     *
+     * @param dataCenter The data center of the lock or null for a global lock.
+     * @param resource The resource.
+     */
+    void cachedFailure(final String dataCenter, final String resource)
+    {
+        if (myMeterRegistry != null)
+        {
+            resourceMeters(dataCenter, resource).myCachedFailures.get().increment();
+        }
+    }
+
+    /**
+     * Get the number of contention losses for a resource seen by this node.
+     *
+     * @param resource The resource.
+     * @return The number of contention losses.
+     */
+    long getContentions(final String resource)
+    {
+        LongAdder contentions = myContentions.get(resource);
+        return contentions != null ? contentions.sum() : 0L;
+    }
+
+    /**
+     * @return The resources that this node has lost contention for.
+     */
+    Iterable<String> getContendedResources()
+    {
+        return myContentions.keySet();
+    }
+
+    private ResourceMeters resourceMeters(final String dataCenter, final String resource)
+    {
+        Map<String, ResourceMeters> dataCenterMeters = myResourceMeters.computeIfAbsent(dataCenterTag(dataCenter),
+                dc -> new ConcurrentHashMap<>());
+
+        ResourceMeters resourceMeters = dataCenterMeters.get(resource);
+        if (resourceMeters == null)
+        {
+            resourceMeters = dataCenterMeters.computeIfAbsent(resource,
+                    r -> new ResourceMeters(dataCenterTag(dataCenter), r));
+        }
+        return resourceMeters;
+    }
+
+    private static String dataCenterTag(final String dataCenter)
+    {
+        return dataCenter != null ? dataCenter : GLOBAL_DATA_CENTER;
+    }
+
+    private final class ResourceMeters
+    {
+        private final Supplier<Timer> mySuccessfulAcquire;
+        private final Supplier<Timer> myFailedAcquire;
+        private final Supplier<Counter> myContention;
+        private final Supplier<Counter> myRenewalFailures;
+        private final Supplier<Counter> myCachedFailures;
+
+        ResourceMeters(final String dataCenter, final String resource)
+        {
+            mySuccessfulAcquire = Suppliers.memoize(() -> timer(dataCenter, resource, true));
+            myFailedAcquire = Suppliers.memoize(() -> timer(dataCenter, resource, false));
+            myContention = Suppliers.memoize(() -> counter(LOCK_CONTENTION, dataCenter, resource));
+            myRenewalFailures = Suppliers.memoize(() -> counter(LOCK_RENEWAL_FAILURES, dataCenter, resource));
+            myCachedFailures = Suppliers.memoize(() -> counter(LOCK_CACHED_FAILURES, dataCenter, resource));
+        }
+
+        private Timer timer(final String dataCenter, final String resource, final boolean successful)
+        {
+            return Timer.builder(LOCK_ACQUIRE)
+                    .tags(DATA_CENTER_TAG, dataCenter, RESOURCE_TAG, resource,
+                            SUCCESSFUL_TAG, Boolean.toString(successful))
+                    .register(myMeterRegistry);
+        }
+
+        private Counter counter(final String name, final String dataCenter, final String resource)
+        {
+            return Counter.builder(name)
+                    .tags(DATA_CENTER_TAG, dataCenter, RESOURCE_TAG, resource)
+                    .register(myMeterRegistry);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import com.ericsson.bss.cassandra.ecchronos.core.utils.ConsistencyType;
 public class CASLockProperties
 {
     private final boolean myRemoteRouting;
+    private final boolean myLocalSerialForDataCenterResources;
     private final String myKeyspaceName;
     private final ScheduledExecutorService myExecutor;
     private final ConsistencyLevel mySerialConsistencyLevel;
@@ -40,9 +41,11 @@ public class CASLockProperties
         final ScheduledExecutorService executor,
         final ConsistencyType consistencyType,
         final CqlSession session,
-        final StatementDecorator statementDecorator)
+        final StatementDecorator statementDecorator,
+        final boolean localSerialForDataCenterResources)
     {
         myRemoteRouting = remoteRouting;
+        myLocalSerialForDataCenterResources = localSerialForDataCenterResources;
         myKeyspaceName = keyspaceName;
         myExecutor = executor;
         mySerialConsistencyLevel = defineSerialConsistencyLevel(consistencyType);
@@ -69,6 +72,26 @@ public class CASLockProperties
         return serialConsistencyLevel;
     }
 
+    /**
+     * Get the serial consistency level to use for a lock resource in the provided data center.
+     * <p>
+     * With remote routing the statements for a resource bound to a data center are always coordinated in
+     * that data center. If enabled, LOCAL_SERIAL is then used for such resources regardless of the configured
+     * serial consistency. This is only safe when all instances coordinate the resource in the same data center,
+     * an instance still using SERIAL for the resource does not observe the LOCAL_SERIAL Paxos rounds.
+     *
+     * @param dataCenter The data center of the resource or null if the resource is not bound to a data center.
+     * @return The serial consistency level.
+     */
+    public final ConsistencyLevel getSerialConsistencyLevel(final String dataCenter)
+    {
+        if (dataCenter != null && myRemoteRouting && myLocalSerialForDataCenterResources)
+        {
+            return ConsistencyLevel.LOCAL_SERIAL;
+        }
+        return mySerialConsistencyLevel;
+    }
+
     public final boolean isRemoteRouting()
     {
         return myRemoteRouting;
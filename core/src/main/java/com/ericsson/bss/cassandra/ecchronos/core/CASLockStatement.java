@@ -16,7 +16,10 @@ package com.ericsson.bss.cassandra.ecchronos.core;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
 
+import java.util.concurrent.CompletionStage;
+
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
@@ -35,6 +38,7 @@ public class CASLockStatement
     static final String COLUMN_NODE = "node";
     static final String COLUMN_METADATA = "metadata";
     static final String COLUMN_PRIORITY = "priority";
+    static final String SCAN_COLUMN_TTL = "lease_ttl";
 
     private static final String TABLE_LOCK = "lock";
     private static final String TABLE_LOCK_PRIORITY = "lock_priority";
@@ -46,6 +50,7 @@ public class CASLockStatement
     private final PreparedStatement myRemoveLockPriorityStatement;
     private final PreparedStatement myGetPriorityStatement;
     private final PreparedStatement myGetLockMetadataStatement;
+    private final PreparedStatement myScanLocksStatement;
 
     private final CASLockProperties myCasLockProperties;
     private final CASLockFactoryCacheContext myCasLockFactoryCacheContext;
@@ -63,24 +68,39 @@ public class CASLockStatement
         myRemoveLockPriorityStatement = myCasLockProperties.getSession().prepare(removeLockPriorityStatement());
         myGetPriorityStatement = myCasLockProperties.getSession().prepare(getPriorityStatement());
         myGetLockMetadataStatement = myCasLockProperties.getSession().prepare(lockMetadataStatement());
+        myScanLocksStatement = myCasLockProperties.getSession().prepare(scanLocksStatement());
     }
 
     public final ResultSet execute(final String dataCenter, final BoundStatement statement)
+    {
+        return myCasLockProperties.getSession().execute(decorate(dataCenter, statement));
+    }
+
+    public final CompletionStage<AsyncResultSet> executeAsync(final String dataCenter, final BoundStatement statement)
+    {
+        return myCasLockProperties.getSession().executeAsync(decorate(dataCenter, statement));
+    }
+
+    private Statement decorate(final String dataCenter, final BoundStatement statement)
     {
         Statement executeStatement;
 
         if (dataCenter != null && myCasLockProperties.isRemoteRouting())
         {
-            executeStatement = new DataCenterAwareStatement(statement, dataCenter);
+            BoundStatement routedStatement = statement;
+            if (statement.getSerialConsistencyLevel() != null)
+            {
+                routedStatement = statement.setSerialConsistencyLevel(
+                        myCasLockProperties.getSerialConsistencyLevel(dataCenter));
+            }
+            executeStatement = new DataCenterAwareStatement(routedStatement, dataCenter);
         }
         else
         {
             executeStatement = statement;
         }
 
-        return myCasLockProperties.getSession()
-                .execute(myCasLockProperties
-                    .getStatementDecorator().apply(executeStatement));
+        return myCasLockProperties.getStatementDecorator().apply(executeStatement);
     }
 
     private SimpleStatement insertLockStatement()
@@ -176,6 +196,17 @@ public class CASLockStatement
         return lockMetadataStatement;
     }
 
+    private SimpleStatement scanLocksStatement()
+    {
+        SimpleStatement scanLocksStatement = QueryBuilder
+                .selectFrom(myCasLockProperties.getKeyspaceName(), TABLE_LOCK)
+                .columns(COLUMN_RESOURCE, COLUMN_NODE, COLUMN_METADATA)
+                .ttl(COLUMN_NODE).as(SCAN_COLUMN_TTL)
+                .build()
+                .setConsistencyLevel(ConsistencyLevel.LOCAL_ONE);
+        return scanLocksStatement;
+    }
+
     public final PreparedStatement getCompeteStatement()
     {
         return myCompeteStatement;
@@ -211,6 +242,11 @@ public class CASLockStatement
         return myGetLockMetadataStatement;
     }
 
+    public final PreparedStatement getScanLocksStatement()
+    {
+        return myScanLocksStatement;
+    }
+
     public final CASLockFactoryCacheContext getCasLockFactoryCacheContext()
     {
         return myCasLockFactoryCacheContext;
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Lock factory using file locks in a shared directory.
+ * <p>
+ * Each resource is locked through an exclusive lock on its own file in the directory, which makes the locks exclusive
+ * between all processes on the same host using the same directory. The metadata of a lock is stored in the locked
+ * file while the lock is held. The priority of a lock is not used.
+ * <p>
+ * Waiters are only notified about locks released by this process.
+ */
+public final class FileLockFactory implements LockFactory, Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(FileLockFactory.class);
+
+    private static final long DEFAULT_CACHE_EXPIRY_TIME_IN_SECONDS = 30L;
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    private static final Base64.Encoder FILE_NAME_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final Map<Path, FileResourceLock> myLocks = new ConcurrentHashMap<>();
+    private final Set<Runnable> myLockReleaseListeners = new CopyOnWriteArraySet<>();
+    private final Path myDirectory;
+    private final LockCache myLockCache;
+
+    private FileLockFactory(final Builder builder) throws IOException
+    {
+        myDirectory = Files.createDirectories(builder.myDirectory);
+        myLockCache = new LockCache(this::doTryLock, builder.myCacheExpiryTimeInSeconds);
+    }
+
+    @Override
+    public DistributedLock tryLock(final String dataCenter,
+                                   final String resource,
+                                   final int priority,
+                                   final Map<String, String> metadata) throws LockException
+    {
+        return myLockCache.getLock(dataCenter, resource, priority, metadata);
+    }
+
+    @Override
+    public Map<String, String> getLockMetadata(final String dataCenter, final String resource) throws LockException
+    {
+        try
+        {
+            Properties properties = new Properties();
+            properties.load(new ByteArrayInputStream(Files.readAllBytes(getLockFile(dataCenter, resource))));
+
+            if (!properties.isEmpty())
+            {
+                Map<String, String> metadata = new HashMap<>();
+                for (String key : properties.stringPropertyNames())
+                {
+                    metadata.put(key, properties.getProperty(key));
+                }
+                return metadata;
+            }
+        }
+        catch (NoSuchFileException e)
+        {
+            LOG.trace("No lock file for resource {}", resource, e);
+        }
+        catch (IOException e)
+        {
+            throw new LockException(e);
+        }
+
+        throw new LockException("Unable to retrieve metadata for resource " + resource);
+    }
+
+    @Override
+    public boolean sufficientNodesForLocking(final String dataCenter, final String resource)
+    {
+        return true;
+    }
+
+    @Override
+    public void addLockReleaseListener(final Runnable listener)
+    {
+        myLockReleaseListeners.add(listener);
+    }
+
+    @Override
+    public Optional<LockException> getCachedFailure(final String dataCenter, final String resource)
+    {
+        return myLockCache.getCachedFailure(dataCenter, resource);
+    }
+
+    /**
+     * Release all locks held by this process.
+     */
+    @Override
+    public void close()
+    {
+        for (FileResourceLock lock : myLocks.values())
+        {
+            lock.close();
+        }
+    }
+
+    /**
+     * Get the lock file of a resource.
+     * <p>
+     * The data center and resource are encoded with URL safe Base64 which keeps the file name reversible and within
+     * the directory. The separator is not part of the Base64 alphabet so different resources never share a file.
+     */
+    @VisibleForTesting
+    Path getLockFile(final String dataCenter, final String resource)
+    {
+        String fileName = dataCenter != null
+                ? encode(dataCenter) + "." + encode(resource)
+                : encode(resource);
+        return myDirectory.resolve(fileName + LOCK_FILE_SUFFIX);
+    }
+
+    private static String encode(final String value)
+    {
+        return FILE_NAME_ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    private DistributedLock doTryLock(final String dataCenter,
+                                      final String resource,
+                                      final int priority,
+                                      final Map<String, String> metadata) throws LockException
+    {
+        Path lockFile = getLockFile(dataCenter, resource);
+        String failureMessage = String.format("Unable to lock resource %s in datacenter %s", resource, dataCenter);
+
+        if (myLocks.containsKey(lockFile))
+        {
+            throw new LockException(failureMessage);
+        }
+
+        FileChannel channel = null;
+        try
+        {
+            channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock == null)
+            {
+                throw new LockException(failureMessage);
+            }
+
+            FileResourceLock lock = new FileResourceLock(lockFile, resource, channel, fileLock);
+            if (myLocks.putIfAbsent(lockFile, lock) != null)
+            {
+                throw new LockException(failureMessage);
+            }
+            channel = null;
+
+            lock.writeMetadata(metadata);
+            LOG.trace("Locked {} - {}", dataCenter, resource);
+            return lock;
+        }
+        catch (OverlappingFileLockException e)
+        {
+            throw new LockException(failureMessage, e);
+        }
+        catch (IOException e)
+        {
+            throw new LockException(e);
+        }
+        finally
+        {
+            closeQuietly(channel);
+        }
+    }
+
+    private void lockReleased(final String resource)
+    {
+        if (myLockCache.invalidate(resource))
+        {
+            for (Runnable listener : myLockReleaseListeners)
+            {
+                listener.run();
+            }
+        }
+    }
+
+    private static void closeQuietly(final FileChannel channel)
+    {
+        if (channel != null)
+        {
+            try
+            {
+                channel.close();
+            }
+            catch (IOException e)
+            {
+                LOG.warn("Unable to close lock file", e);
+            }
+        }
+    }
+
+    private final class FileResourceLock implements DistributedLock
+    {
+        private final Path myLockFile;
+        private final String myResource;
+        private final FileChannel myChannel;
+        private final FileLock myFileLock;
+
+        FileResourceLock(final Path lockFile, final String resource, final FileChannel channel,
+                         final FileLock fileLock)
+        {
+            myLockFile = lockFile;
+            myResource = resource;
+            myChannel = channel;
+            myFileLock = fileLock;
+        }
+
+        void writeMetadata(final Map<String, String> metadata) throws IOException
+        {
+            try
+            {
+                Properties properties = new Properties();
+                if (metadata != null)
+                {
+                    properties.putAll(metadata);
+                }
+
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                properties.store(content, null);
+
+                myChannel.truncate(0);
+                myChannel.write(ByteBuffer.wrap(content.toByteArray()), 0);
+            }
+            catch (IOException e)
+            {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            if (!myLocks.remove(myLockFile, this))
+            {
+                return;
+            }
+
+            try
+            {
+                myChannel.truncate(0);
+                myFileLock.release();
+            }
+            catch (IOException e)
+            {
+                LOG.warn("Unable to release lock file {}", myLockFile, e);
+            }
+            finally
+            {
+                closeQuietly(myChannel);
+            }
+
+            lockReleased(myResource);
+        }
+    }
+
+    public static class Builder
+    {
+        private Path myDirectory;
+        private long myCacheExpiryTimeInSeconds = DEFAULT_CACHE_EXPIRY_TIME_IN_SECONDS;
+
+        public final Builder withDirectory(final Path directory)
+        {
+            myDirectory = directory;
+            return this;
+        }
+
+        public final Builder withCacheExpiryInSeconds(final long cacheExpiryInSeconds)
+        {
+            myCacheExpiryTimeInSeconds = cacheExpiryInSeconds;
+            return this;
+        }
+
+        public final FileLockFactory build()
+        {
+            if (myDirectory == null)
+            {
+                throw new IllegalArgumentException("Lock directory cannot be null");
+            }
+
+            try
+            {
+                return new FileLockFactory(this);
+            }
+            catch (IOException e)
+            {
+                throw new IllegalStateException("Unable to create lock directory " + myDirectory, e);
+            }
+        }
+    }
+}
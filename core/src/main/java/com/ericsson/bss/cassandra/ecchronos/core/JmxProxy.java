@@ -109,6 +109,13 @@ public interface JmxProxy extends Closeable
      */
     double getPercentRepaired(TableReference tableReference);
 
+    /**
+     * Get the number of pending compactions on the local node.
+     *
+     * @return The number of pending compactions or -1 if it cannot be determined.
+     */
+    long getPendingCompactions();
+
     /**
      * Retrieves the current operational status of the local Cassandra node via JMX.
      * Returns a string indicating the node's state (e.g., "NORMAL", "JOINING", "LEAVING", "MOVING")
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
@@ -34,6 +35,7 @@ import javax.management.openmbean.CompositeData;
 import javax.management.remote.JMXConnector;
 
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.logging.ThrottlingLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +47,7 @@ import com.ericsson.bss.cassandra.ecchronos.connection.JmxConnectionProvider;
 public final class JmxProxyFactoryImpl implements JmxProxyFactory
 {
     private static final Logger LOG = LoggerFactory.getLogger(JmxProxyFactoryImpl.class);
+    private static final ThrottlingLogger THROTTLED_LOGGER = new ThrottlingLogger(LOG, 5, TimeUnit.MINUTES);
 
     private static final String SS_OBJ_NAME = "org.apache.cassandra.db:type=StorageService";
     private static final String RS_OBJ_NAME = "org.apache.cassandra.db:type=RepairService";
@@ -54,6 +57,8 @@ public final class JmxProxyFactoryImpl implements JmxProxyFactory
     private static final String FORCE_TERMINATE_ALL_REPAIR_SESSIONS_METHOD = "forceTerminateAllRepairSessions";
     private static final String LIVE_NODES_ATTRIBUTE = "LiveNodes";
     private static final String UNREACHABLE_NODES_ATTRIBUTE = "UnreachableNodes";
+    private static final String PENDING_COMPACTIONS_OBJ_NAME
+            = "org.apache.cassandra.metrics:type=Compaction,name=PendingTasks";
 
     private final JmxConnectionProvider myJmxConnectionProvider;
 
@@ -333,6 +338,26 @@ public final class JmxProxyFactoryImpl implements JmxProxyFactory
             return 0.0;
         }
 
+        @Override
+        public long getPendingCompactions()
+        {
+            try
+            {
+                ObjectName objectName = new ObjectName(PENDING_COMPACTIONS_OBJ_NAME);
+                return ((Number) myMbeanServerConnection.getAttribute(objectName, "Value")).longValue();
+            }
+            catch (InstanceNotFoundException
+                   | AttributeNotFoundException
+                   | MBeanException
+                   | ReflectionException
+                   | IOException
+                   | MalformedObjectNameException e)
+            {
+                THROTTLED_LOGGER.warn("Unable to retrieve pending compactions", e);
+            }
+            return -1;
+        }
+
         @Override
         public String getNodeStatus()
         {
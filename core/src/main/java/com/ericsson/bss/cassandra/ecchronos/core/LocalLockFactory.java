@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Lock factory keeping all locks in memory.
+ * <p>
+ * Locks are only exclusive within this process which makes the factory suitable for single node deployments and for
+ * running the scheduler without a Cassandra cluster. The priority of a lock is not used since there are no other
+ * nodes to compete with.
+ */
+public final class LocalLockFactory implements LockFactory, Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(LocalLockFactory.class);
+
+    private static final long DEFAULT_CACHE_EXPIRY_TIME_IN_SECONDS = 30L;
+
+    private final Map<LockCache.LockKey, LocalLock> myLocks = new ConcurrentHashMap<>();
+    private final Set<Runnable> myLockReleaseListeners = new CopyOnWriteArraySet<>();
+    private final LockCache myLockCache;
+
+    private LocalLockFactory(final Builder builder)
+    {
+        myLockCache = new LockCache(this::doTryLock, builder.myCacheExpiryTimeInSeconds);
+    }
+
+    @Override
+    public DistributedLock tryLock(final String dataCenter,
+                                   final String resource,
+                                   final int priority,
+                                   final Map<String, String> metadata) throws LockException
+    {
+        return myLockCache.getLock(dataCenter, resource, priority, metadata);
+    }
+
+    @Override
+    public Map<String, String> getLockMetadata(final String dataCenter, final String resource) throws LockException
+    {
+        LocalLock lock = myLocks.get(myLockCache.lockKey(dataCenter, resource));
+        if (lock == null)
+        {
+            throw new LockException("Unable to retrieve metadata for resource " + resource);
+        }
+        return lock.myMetadata;
+    }
+
+    @Override
+    public boolean sufficientNodesForLocking(final String dataCenter, final String resource)
+    {
+        return true;
+    }
+
+    @Override
+    public void addLockReleaseListener(final Runnable listener)
+    {
+        myLockReleaseListeners.add(listener);
+    }
+
+    @Override
+    public Optional<LockException> getCachedFailure(final String dataCenter, final String resource)
+    {
+        return myLockCache.getCachedFailure(dataCenter, resource);
+    }
+
+    @Override
+    public void close()
+    {
+        myLocks.clear();
+    }
+
+    @VisibleForTesting
+    int getLockCount()
+    {
+        return myLocks.size();
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    private DistributedLock doTryLock(final String dataCenter,
+                                      final String resource,
+                                      final int priority,
+                                      final Map<String, String> metadata) throws LockException
+    {
+        LockCache.LockKey lockKey = myLockCache.lockKey(dataCenter, resource);
+        LocalLock lock = new LocalLock(lockKey, resource, metadata);
+
+        if (myLocks.putIfAbsent(lockKey, lock) != null)
+        {
+            throw new LockException(String.format("Unable to lock resource %s in datacenter %s", resource, dataCenter));
+        }
+
+        LOG.trace("Locked {} - {}", dataCenter, resource);
+        return lock;
+    }
+
+    private void lockReleased(final String resource)
+    {
+        if (myLockCache.invalidate(resource))
+        {
+            for (Runnable listener : myLockReleaseListeners)
+            {
+                listener.run();
+            }
+        }
+    }
+
+    private final class LocalLock implements DistributedLock
+    {
+        private final LockCache.LockKey myLockKey;
+        private final String myResource;
+        private final Map<String, String> myMetadata;
+
+        LocalLock(final LockCache.LockKey lockKey, final String resource, final Map<String, String> metadata)
+        {
+            myLockKey = lockKey;
+            myResource = resource;
+            myMetadata = metadata != null
+                    ? Collections.unmodifiableMap(new HashMap<>(metadata))
+                    : Collections.emptyMap();
+        }
+
+        @Override
+        public void close()
+        {
+            if (myLocks.remove(myLockKey, this))
+            {
+                lockReleased(myResource);
+            }
+        }
+    }
+
+    public static class Builder
+    {
+        private long myCacheExpiryTimeInSeconds = DEFAULT_CACHE_EXPIRY_TIME_IN_SECONDS;
+
+        public final Builder withCacheExpiryInSeconds(final long cacheExpiryInSeconds)
+        {
+            myCacheExpiryTimeInSeconds = cacheExpiryInSeconds;
+            return this;
+        }
+
+        public final LocalLockFactory build()
+        {
+            return new LocalLockFactory(this);
+        }
+    }
+}
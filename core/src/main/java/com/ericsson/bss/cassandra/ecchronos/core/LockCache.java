@@ -24,25 +24,71 @@ import org.slf4j.LoggerFactory;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public final class LockCache
 {
     private static final Logger LOG = LoggerFactory.getLogger(LockCache.class);
+    private static final String GLOBAL_DATA_CENTER = "";
 
     private final Cache<LockKey, LockException> myFailureCache;
+    private final Map<String, Map<String, LockKey>> myLockKeysByResource = new ConcurrentHashMap<>();
     private final LockSupplier myLockSupplier;
+    private final AsyncLockSupplier myAsyncLockSupplier;
+    private final BiConsumer<String, String> myCachedFailureListener;
 
     public LockCache(final LockSupplier lockSupplier, final long expireTimeInSeconds)
     {
-        this(lockSupplier, expireTimeInSeconds, TimeUnit.SECONDS);
+        this(lockSupplier, (dc, r, p, m) -> supplyAsync(lockSupplier, dc, r, p, m), expireTimeInSeconds);
+    }
+
+    public LockCache(final LockSupplier lockSupplier,
+                     final AsyncLockSupplier asyncLockSupplier,
+                     final long expireTimeInSeconds)
+    {
+        this(lockSupplier, asyncLockSupplier, expireTimeInSeconds, TimeUnit.SECONDS);
     }
 
     LockCache(final LockSupplier lockSupplier, final long expireTime, final TimeUnit expireTimeUnit)
+    {
+        this(lockSupplier, (dc, r, p, m) -> supplyAsync(lockSupplier, dc, r, p, m), expireTime, expireTimeUnit);
+    }
+
+    LockCache(final LockSupplier lockSupplier,
+              final AsyncLockSupplier asyncLockSupplier,
+              final long expireTime,
+              final TimeUnit expireTimeUnit)
+    {
+        this(lockSupplier, asyncLockSupplier, expireTime, expireTimeUnit, (dc, r) ->
+        {
+        });
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param lockSupplier The supplier of locks.
+     * @param asyncLockSupplier The supplier of locks without blocking.
+     * @param expireTime The time until a cached failure expires.
+     * @param expireTimeUnit The unit of the expire time.
+     * @param cachedFailureListener Notified with the data center and resource when a cached failure is used.
+     */
+    LockCache(final LockSupplier lockSupplier,
+              final AsyncLockSupplier asyncLockSupplier,
+              final long expireTime,
+              final TimeUnit expireTimeUnit,
+              final BiConsumer<String, String> cachedFailureListener)
     {
         myLockSupplier = lockSupplier;
+        myAsyncLockSupplier = asyncLockSupplier;
+        myCachedFailureListener = cachedFailureListener;
 
         myFailureCache = Caffeine.newBuilder()
                 .expireAfterWrite(expireTime, expireTimeUnit)
@@ -52,7 +98,31 @@ public final class LockCache
 
     public Optional<LockException> getCachedFailure(final String dataCenter, final String resource)
     {
-        return getCachedFailure(new LockKey(dataCenter, resource));
+        return getCachedFailure(lockKey(dataCenter, resource));
+    }
+
+    /**
+     * Remove the cached failures of a resource in all data centers.
+     * <p>
+     * Only the keys of the resource are looked at, which are found through the interned keys.
+     *
+     * @param resource The resource that might be possible to lock again.
+     * @return True if a cached failure was removed.
+     */
+    public boolean invalidate(final String resource)
+    {
+        Map<String, LockKey> resourceLockKeys = myLockKeysByResource.get(resource);
+        if (resourceLockKeys == null)
+        {
+            return false;
+        }
+
+        boolean removed = false;
+        for (LockKey lockKey : resourceLockKeys.values())
+        {
+            removed |= myFailureCache.asMap().remove(lockKey) != null;
+        }
+        return removed;
     }
 
     public DistributedLock getLock(final String dataCenter,
@@ -61,12 +131,13 @@ public final class LockCache
                                    final Map<String, String> metadata)
             throws LockException
     {
-        LockKey lockKey = new LockKey(dataCenter, resource);
+        LockKey lockKey = lockKey(dataCenter, resource);
 
         Optional<LockException> cachedFailure = getCachedFailure(lockKey);
 
         if (cachedFailure.isPresent())
         {
+            myCachedFailureListener.accept(dataCenter, resource);
             throwCachedLockException(cachedFailure.get());
         }
 
@@ -81,6 +152,85 @@ public final class LockCache
         }
     }
 
+    /**
+     * Get a lock without blocking the calling thread.
+     * <p>
+     * Failures are cached in the same way as for {@link #getLock(String, String, int, Map)}.
+     *
+     * @param dataCenter The data center the lock is for or null if it's a global lock.
+     * @param resource The resource to lock.
+     * @param priority The priority of the lock.
+     * @param metadata The metadata of the lock.
+     * @return A stage completing with the lock or exceptionally with a {@link LockException}.
+     */
+    public CompletionStage<DistributedLock> getLockAsync(final String dataCenter,
+                                                         final String resource,
+                                                         final int priority,
+                                                         final Map<String, String> metadata)
+    {
+        LockKey lockKey = lockKey(dataCenter, resource);
+
+        Optional<LockException> cachedFailure = getCachedFailure(lockKey);
+
+        if (cachedFailure.isPresent())
+        {
+            myCachedFailureListener.accept(dataCenter, resource);
+            LOG.debug("Encountered cached locking failure, failing lock", cachedFailure.get());
+            return CompletableFuture.failedFuture(cachedFailure.get());
+        }
+
+        return myAsyncLockSupplier.getLock(dataCenter, resource, priority, metadata)
+                .exceptionally(t ->
+                {
+                    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    if (cause instanceof LockException)
+                    {
+                        myFailureCache.put(lockKey, (LockException) cause);
+                    }
+                    throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+                });
+    }
+
+    private static CompletionStage<DistributedLock> supplyAsync(final LockSupplier lockSupplier,
+                                                                final String dataCenter,
+                                                                final String resource,
+                                                                final int priority,
+                                                                final Map<String, String> metadata)
+    {
+        try
+        {
+            return CompletableFuture.completedFuture(lockSupplier.getLock(dataCenter, resource, priority, metadata));
+        }
+        catch (LockException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Get the interned key of a lock.
+     * <p>
+     * Keys are created once per resource and data center so that repeated lock attempts don't allocate new keys.
+     * They are grouped by resource so that the keys of a resource in all data centers can be found directly.
+     *
+     * @param dataCenter The data center the lock is for or null if it's a global lock.
+     * @param resource The resource the lock is for.
+     * @return The key of the lock.
+     */
+    LockKey lockKey(final String dataCenter, final String resource)
+    {
+        Map<String, LockKey> resourceLockKeys = myLockKeysByResource.computeIfAbsent(checkNotNull(resource),
+                r -> new ConcurrentHashMap<>());
+
+        String dataCenterKey = dataCenter != null ? dataCenter : GLOBAL_DATA_CENTER;
+        LockKey lockKey = resourceLockKeys.get(dataCenterKey);
+        if (lockKey == null)
+        {
+            lockKey = resourceLockKeys.computeIfAbsent(dataCenterKey, dc -> new LockKey(dataCenter, resource));
+        }
+        return lockKey;
+    }
+
     private void throwCachedLockException(final LockException e) throws LockException
     {
         LOG.debug("Encountered cached locking failure, throwing exception", e);
@@ -99,15 +249,31 @@ public final class LockCache
                 throws LockException;
     }
 
+    @FunctionalInterface
+    public interface AsyncLockSupplier
+    {
+        CompletionStage<DistributedLock> getLock(String dataCenter,
+                                                 String resource,
+                                                 int priority,
+                                                 Map<String, String> metadata);
+    }
+
     static final class LockKey
     {
         private final String myDataCenter;
         private final String myResourceName;
+        private final int myHashCode;
 
         LockKey(final String dataCenter, final String resourceName)
         {
             myDataCenter = dataCenter;
             myResourceName = checkNotNull(resourceName);
+            myHashCode = calculateHashCode();
+        }
+
+        private int calculateHashCode()
+        {
+            return Objects.hash(myDataCenter, myResourceName);
         }
 
         @Override
@@ -129,7 +295,7 @@ public final class LockCache
         @Override
         public int hashCode()
         {
-            return Objects.hash(myDataCenter, myResourceName);
+            return myHashCode;
         }
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the lock priorities announced for resources.
+ * <p>
+ * A snapshot of the priorities is read the first time a resource is locked and is reused by later attempts to find out
+ * that another node has a higher priority without reading the priorities. Priorities announced or removed by the local
+ * node are applied to the snapshot directly while priorities of other nodes are only picked up when the snapshot is
+ * read again. A snapshot is trusted for uncontended locking, a node holding the lock is still caught by the lock
+ * statement. The snapshot is invalidated when competing for the resource or locking it fails.
+ */
+final class LockPriorityCache
+{
+    private final Cache<String, List<NodePriority>> myPriorities;
+
+    LockPriorityCache(final long expireTime, final TimeUnit expireTimeUnit)
+    {
+        myPriorities = Caffeine.newBuilder()
+                .expireAfterWrite(expireTime, expireTimeUnit)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Get the priorities of a resource, reading them if no snapshot is cached.
+     *
+     * @param resource The resource.
+     * @param priorityReader Reads the priorities of the resource.
+     * @return The priorities of the resource.
+     */
+    List<NodePriority> getPriorities(final String resource, final Supplier<List<NodePriority>> priorityReader)
+    {
+        return myPriorities.get(resource, r -> Collections.unmodifiableList(priorityReader.get()));
+    }
+
+    /**
+     * Get the cached priorities of a resource.
+     *
+     * @param resource The resource.
+     * @return The cached priorities or empty if no snapshot is cached.
+     */
+    Optional<List<NodePriority>> getCachedPriorities(final String resource)
+    {
+        return Optional.ofNullable(myPriorities.getIfPresent(resource));
+    }
+
+    /**
+     * Cache priorities that were read for a resource.
+     *
+     * @param resource The resource.
+     * @param nodePriorities The priorities of the resource.
+     */
+    void putPriorities(final String resource, final List<NodePriority> nodePriorities)
+    {
+        myPriorities.put(resource, Collections.unmodifiableList(nodePriorities));
+    }
+
+    /**
+     * Update the cached snapshot with a priority announced by a node.
+     *
+     * @param resource The resource.
+     * @param node The node announcing the priority.
+     * @param priority The announced priority.
+     */
+    void competed(final String resource, final UUID node, final int priority)
+    {
+        myPriorities.asMap().computeIfPresent(resource, (r, nodePriorities) ->
+        {
+            List<NodePriority> updated = without(nodePriorities, node);
+            updated.add(new NodePriority(node, priority));
+            return Collections.unmodifiableList(updated);
+        });
+    }
+
+    /**
+     * Update the cached snapshot with a priority removed by a node.
+     *
+     * @param resource The resource.
+     * @param node The node removing its priority.
+     */
+    void removed(final String resource, final UUID node)
+    {
+        myPriorities.asMap().computeIfPresent(resource,
+                (r, nodePriorities) -> Collections.unmodifiableList(without(nodePriorities, node)));
+    }
+
+    /**
+     * Discard the cached snapshot for a resource, the priorities are read again on the next attempt.
+     *
+     * @param resource The resource.
+     */
+    void invalidate(final String resource)
+    {
+        myPriorities.invalidate(resource);
+    }
+
+    private static List<NodePriority> without(final List<NodePriority> nodePriorities, final UUID node)
+    {
+        List<NodePriority> updated = new ArrayList<>(nodePriorities.size() + 1);
+        for (NodePriority nodePriority : nodePriorities)
+        {
+            if (!nodePriority.getUuid().equals(node))
+            {
+                updated.add(nodePriority);
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Cache of the replicas responsible for lock resources.
+ * <p>
+ * The driver creates a new token map whenever the topology or the schema changes.
+ * The cached replicas are tied to the token map they were calculated from and are discarded as soon as
+ * a different token map is observed.
+ */
+final class LockReplicaCache
+{
+    private static final String GLOBAL_DATA_CENTER = "";
+
+    private final Supplier<Optional<TokenMap>> myTokenMapSupplier;
+    private final String myKeyspaceName;
+
+    private volatile Replicas myReplicas = new Replicas(null);
+
+    LockReplicaCache(final Supplier<Optional<TokenMap>> tokenMapSupplier, final String keyspaceName)
+    {
+        myTokenMapSupplier = tokenMapSupplier;
+        myKeyspaceName = keyspaceName;
+    }
+
+    /**
+     * Get the replicas of the lock keyspace responsible for the provided resource.
+     *
+     * @param dataCenter The data center to get replicas in or null for replicas in all data centers.
+     * @param resource The resource.
+     * @return The replicas for the resource.
+     */
+    Set<Node> getNodes(final String dataCenter, final String resource)
+    {
+        TokenMap tokenMap = myTokenMapSupplier.get()
+                .orElseThrow(() -> new IllegalStateException("Couldn't get token map, is it disabled?"));
+
+        Replicas replicas = myReplicas;
+        if (replicas.myTokenMap != tokenMap)
+        {
+            replicas = new Replicas(tokenMap);
+            myReplicas = replicas;
+        }
+
+        return replicas.getNodes(dataCenter, checkNotNull(resource));
+    }
+
+    private final class Replicas
+    {
+        private final TokenMap myTokenMap;
+        private final Map<String, Map<String, Set<Node>>> myNodes = new ConcurrentHashMap<>();
+
+        Replicas(final TokenMap tokenMap)
+        {
+            myTokenMap = tokenMap;
+        }
+
+        Set<Node> getNodes(final String dataCenter, final String resource)
+        {
+            Map<String, Set<Node>> dataCenterNodes = myNodes.computeIfAbsent(
+                    dataCenter != null ? dataCenter : GLOBAL_DATA_CENTER, dc -> new ConcurrentHashMap<>());
+
+            Set<Node> nodes = dataCenterNodes.get(resource);
+            if (nodes == null)
+            {
+                nodes = dataCenterNodes.computeIfAbsent(resource, r -> calculateNodes(dataCenter, r));
+            }
+            return nodes;
+        }
+
+        private Set<Node> calculateNodes(final String dataCenter, final String resource)
+        {
+            Set<Node> nodes = myTokenMap.getReplicas(myKeyspaceName,
+                    ByteBuffer.wrap(resource.getBytes(StandardCharsets.UTF_8)));
+
+            if (dataCenter == null)
+            {
+                return Collections.unmodifiableSet(new HashSet<>(nodes));
+            }
+
+            Set<Node> dataCenterNodes = new HashSet<>();
+            for (Node node : nodes)
+            {
+                if (dataCenter.equals(node.getDatacenter()))
+                {
+                    dataCenterNodes.add(node);
+                }
+            }
+            return Collections.unmodifiableSet(dataCenterNodes);
+        }
+    }
+}
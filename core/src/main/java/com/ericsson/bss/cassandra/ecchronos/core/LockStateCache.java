@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * A read-through view of the lock table used to avoid competing for resources that are visibly held.
+ * <p>
+ * The view is refreshed by scanning the whole lock table periodically.
+ * Locks released by this node are removed from the view directly while locks released by other nodes
+ * remain visible until the next refresh or until their lease expires.
+ * <p>
+ * The release listener is notified both when this node releases a lock and when a refresh shows that a
+ * previously held lock has been released by another node.
+ */
+final class LockStateCache implements Runnable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(LockStateCache.class);
+
+    private final Supplier<Iterable<Row>> myLockScanner;
+    private final LongSupplier myClock;
+    private final Consumer<String> myReleaseListener;
+
+    private volatile Map<String, LockState> myLockStates = new ConcurrentHashMap<>();
+
+    LockStateCache(final Supplier<Iterable<Row>> lockScanner, final Consumer<String> releaseListener)
+    {
+        this(lockScanner, System::currentTimeMillis, releaseListener);
+    }
+
+    LockStateCache(final Supplier<Iterable<Row>> lockScanner,
+                   final LongSupplier clock,
+                   final Consumer<String> releaseListener)
+    {
+        myLockScanner = lockScanner;
+        myClock = clock;
+        myReleaseListener = releaseListener;
+    }
+
+    /**
+     * Refresh the view by scanning the lock table.
+     */
+    @Override
+    public void run()
+    {
+        try
+        {
+            long now = myClock.getAsLong();
+            Map<String, LockState> lockStates = new ConcurrentHashMap<>();
+
+            for (Row row : myLockScanner.get())
+            {
+                String resource = row.getString(CASLockStatement.COLUMN_RESOURCE);
+                UUID holder = row.getUuid(CASLockStatement.COLUMN_NODE);
+                if (resource == null || holder == null)
+                {
+                    continue;
+                }
+
+                Map<String, String> metadata = row.getMap(CASLockStatement.COLUMN_METADATA, String.class,
+                        String.class);
+                int ttl = row.getInt(CASLockStatement.SCAN_COLUMN_TTL);
+                long expiresAt = ttl > 0 ? now + TimeUnit.SECONDS.toMillis(ttl) : Long.MAX_VALUE;
+
+                lockStates.put(resource, new LockState(holder, metadata, expiresAt));
+            }
+
+            Map<String, LockState> previousLockStates = myLockStates;
+            myLockStates = lockStates;
+            LOG.debug("Refreshed lock states, {} locks held", lockStates.size());
+
+            for (String resource : previousLockStates.keySet())
+            {
+                if (!lockStates.containsKey(resource))
+                {
+                    myReleaseListener.accept(resource);
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            LOG.warn("Unable to refresh lock states", e);
+        }
+    }
+
+    /**
+     * Get the last known state of the lock for a resource.
+     *
+     * @param resource The resource.
+     * @return The state of the lock if the resource is known to be held.
+     */
+    Optional<LockState> getLockState(final String resource)
+    {
+        LockState lockState = myLockStates.get(resource);
+        if (lockState == null || lockState.getExpiresAt() <= myClock.getAsLong())
+        {
+            return Optional.empty();
+        }
+        return Optional.of(lockState);
+    }
+
+    /**
+     * Remove a resource from the view after it has been released by this node and notify the release listener.
+     *
+     * @param resource The released resource.
+     */
+    void released(final String resource)
+    {
+        myLockStates.remove(resource);
+        myReleaseListener.accept(resource);
+    }
+
+    /**
+     * The holder, metadata and lease expiry of a lock as seen by the last refresh.
+     */
+    static final class LockState
+    {
+        private final UUID myHolder;
+        private final Map<String, String> myMetadata;
+        private final long myExpiresAt;
+
+        LockState(final UUID holder, final Map<String, String> metadata, final long expiresAt)
+        {
+            myHolder = holder;
+            myMetadata = metadata != null ? metadata : Collections.emptyMap();
+            myExpiresAt = expiresAt;
+        }
+
+        UUID getHolder()
+        {
+            return myHolder;
+        }
+
+        Map<String, String> getMetadata()
+        {
+            return myMetadata;
+        }
+
+        long getExpiresAt()
+        {
+            return myExpiresAt;
+        }
+    }
+}
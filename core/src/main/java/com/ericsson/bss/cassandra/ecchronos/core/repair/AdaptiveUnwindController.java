@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.repair;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adapts the unwind ratio used between repair sessions to the load of the local node.
+ * <p>
+ * The controller keeps a pressure value between 0 and 1 which is shared by the repair tasks it is given to, one
+ * controller is used per repair scheduler. After each session the pressure is doubled if the node is overloaded and
+ * decreased by a fixed step otherwise (AIMD). The unwind ratio is the pressure mapped onto the range between the
+ * configured unwind ratio and the maximum unwind ratio.
+ */
+public final class AdaptiveUnwindController
+{
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveUnwindController.class);
+
+    static final double PRESSURE_STEP = 0.1d;
+    private static final double MAX_PRESSURE = 1.0d;
+    private static final double MIN_PRESSURE = 0.0d;
+    private static final double PRESSURE_INCREASE_FACTOR = 2.0d;
+
+    private double myPressure = MIN_PRESSURE;
+
+    /**
+     * Update the pressure with the latest load sample and get the unwind ratio to use.
+     * <p>
+     * If the load could not be sampled the pressure is kept and the configured unwind ratio is used.
+     *
+     * @param pendingCompactions The number of pending compactions or -1 if it could not be sampled.
+     * @param repairConfiguration The repair configuration of the task.
+     * @return The unwind ratio to use.
+     */
+    synchronized double nextUnwindRatio(final long pendingCompactions, final RepairConfiguration repairConfiguration)
+    {
+        double minRatio = repairConfiguration.getRepairUnwindRatio();
+        if (pendingCompactions < 0)
+        {
+            LOG.debug("Pending compactions unknown, using unwind ratio {}", minRatio);
+            return minRatio;
+        }
+
+        if (pendingCompactions > repairConfiguration.getTargetPendingCompactions())
+        {
+            myPressure = Math.min(MAX_PRESSURE, Math.max(myPressure * PRESSURE_INCREASE_FACTOR, PRESSURE_STEP));
+        }
+        else
+        {
+            myPressure = Math.max(MIN_PRESSURE, myPressure - PRESSURE_STEP);
+        }
+
+        double maxRatio = Math.max(minRatio, repairConfiguration.getMaxRepairUnwindRatio());
+        double unwindRatio = minRatio + myPressure * (maxRatio - minRatio);
+        LOG.debug("Pending compactions {}, using unwind ratio {}", pendingCompactions, unwindRatio);
+        return unwindRatio;
+    }
+
+    synchronized double getPressure()
+    {
+        return myPressure;
+    }
+}
@@ -14,7 +14,9 @@
  */
 package com.ericsson.bss.cassandra.ecchronos.core.repair;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.ReplicaRepairGroup;
@@ -24,6 +26,8 @@ import com.ericsson.bss.cassandra.ecchronos.core.repair.state.ReplicaRepairGroup
  */
 public class DataCenterRepairResourceFactory implements RepairResourceFactory
 {
+    private final Map<String, RepairResource> myRepairResources = new ConcurrentHashMap<>();
+
     @Override
     public final Set<RepairResource> getRepairResources(final ReplicaRepairGroup replicaRepairGroup)
     {
@@ -34,6 +38,6 @@ public class DataCenterRepairResourceFactory implements RepairResourceFactory
 
     private RepairResource dataCenterToRepairResource(final String dataCenter)
     {
-        return new RepairResource(dataCenter, dataCenter);
+        return myRepairResources.computeIfAbsent(dataCenter, dc -> new RepairResource(dc, dc));
     }
 }
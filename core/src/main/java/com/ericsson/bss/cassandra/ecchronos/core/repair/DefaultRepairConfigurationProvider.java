@@ -397,6 +397,30 @@ public class DefaultRepairConfigurationProvider extends NodeStateListenerBase im
         SchemaChangeListener.super.onSessionReady(session);
     }
 
+    /**
+     * Callback for when a node is added to the cluster.
+     *
+     * @param node The node that was added
+     */
+    @Override
+    public void onAdd(final Node node)
+    {
+        LOG.debug("{} was added.", node);
+        setupConfiguration();
+    }
+
+    /**
+     * Callback for when a node is removed from the cluster.
+     *
+     * @param node The node that was removed
+     */
+    @Override
+    public void onRemove(final Node node)
+    {
+        LOG.debug("{} was removed.", node);
+        setupConfiguration();
+    }
+
     /**
      * Callback for when a node switches state to UP.
      *
@@ -36,6 +36,7 @@ public final class IncrementalOnDemandRepairJob extends OnDemandRepairJob
 {
     private static final Logger LOG = LoggerFactory.getLogger(IncrementalOnDemandRepairJob.class);
     private final ReplicationState myReplicationState;
+    private final AdaptiveUnwindController myAdaptiveUnwindController;
     private final List<ScheduledTask> myTasks;
     private final int myTotalTasks;
     public IncrementalOnDemandRepairJob(final Builder builder)
@@ -44,6 +45,7 @@ public final class IncrementalOnDemandRepairJob extends OnDemandRepairJob
                 builder.myRepairLockType, builder.myOnFinishedHook, builder.myTableRepairMetrics, builder.myOngoingJob);
         myReplicationState = Preconditions.checkNotNull(builder.myReplicationState,
                 "Replication state must be set");
+        myAdaptiveUnwindController = builder.myAdaptiveUnwindController;
         myTasks = createTasks();
         myTotalTasks = myTasks.size();
     }
@@ -61,7 +63,8 @@ public final class IncrementalOnDemandRepairJob extends OnDemandRepairJob
                 .withTableRepairMetrics(getTableRepairMetrics())
                 .withRepairResourceFactory(getRepairLockType().getLockFactory())
                 .withRepairLockFactory(REPAIR_LOCK_FACTORY)
-                .withJobId(getId());
+                .withJobId(getId())
+                .withAdaptiveUnwindController(myAdaptiveUnwindController);
         List<ScheduledTask> taskList = new ArrayList<>();
         taskList.add(builder.build(Priority.HIGHEST.getValue()));
         return taskList;
@@ -157,6 +160,7 @@ public final class IncrementalOnDemandRepairJob extends OnDemandRepairJob
         };
         private OngoingJob myOngoingJob;
         private ReplicationState myReplicationState;
+        private AdaptiveUnwindController myAdaptiveUnwindController;
 
         public final Builder withJmxProxyFactory(final JmxProxyFactory jmxProxyFactory)
         {
@@ -200,6 +204,18 @@ public final class IncrementalOnDemandRepairJob extends OnDemandRepairJob
             return this;
         }
 
+        /**
+         * Build with adaptive unwind controller.
+         *
+         * @param adaptiveUnwindController The controller used by the repair tasks if adaptive unwind is enabled.
+         * @return Builder
+         */
+        public final Builder withAdaptiveUnwindController(final AdaptiveUnwindController adaptiveUnwindController)
+        {
+            this.myAdaptiveUnwindController = adaptiveUnwindController;
+            return this;
+        }
+
         public final IncrementalOnDemandRepairJob build()
         {
             return new IncrementalOnDemandRepairJob(this);
@@ -39,6 +39,8 @@ public class IncrementalRepairJob extends ScheduledRepairJob
     private static final int DAYS_IN_A_WEEK = 7;
     private final ReplicationState myReplicationState;
     private final CassandraMetrics myCassandraMetrics;
+    private final RepairTaskRunner myRepairTaskRunner;
+    private final AdaptiveUnwindController myAdaptiveUnwindController;
 
     IncrementalRepairJob(final Builder builder)
     {
@@ -47,6 +49,8 @@ public class IncrementalRepairJob extends ScheduledRepairJob
                 builder.myTableRepairMetrics);
         myReplicationState = Preconditions.checkNotNull(builder.myReplicationState, "Replication state must be set");
         myCassandraMetrics = Preconditions.checkNotNull(builder.myCassandraMetrics, "Cassandra metrics must be set");
+        myRepairTaskRunner = builder.myRepairTaskRunner;
+        myAdaptiveUnwindController = builder.myAdaptiveUnwindController;
         setLastSuccessfulRun();
     }
 
@@ -121,7 +125,9 @@ public class IncrementalRepairJob extends ScheduledRepairJob
                 .withRepairResourceFactory(getRepairLockType().getLockFactory())
                 .withRepairLockFactory(REPAIR_LOCK_FACTORY)
                 .withReplicaRepairGroup(replicaRepairGroup)
-                .withRepairPolicies(getRepairPolicies()).withJobId(getId());
+                .withRepairPolicies(getRepairPolicies()).withJobId(getId())
+                .withRepairTaskRunner(myRepairTaskRunner)
+                .withAdaptiveUnwindController(myAdaptiveUnwindController);
         List<ScheduledTask> taskList = new ArrayList<>();
         taskList.add(builder.build(getRealPriority()));
         return taskList.iterator();
@@ -168,13 +174,16 @@ public class IncrementalRepairJob extends ScheduledRepairJob
         }
         IncrementalRepairJob that = (IncrementalRepairJob) o;
         return Objects.equals(myReplicationState, that.myReplicationState) && Objects.equals(
-                myCassandraMetrics, that.myCassandraMetrics);
+                myCassandraMetrics, that.myCassandraMetrics)
+                && Objects.equals(myRepairTaskRunner, that.myRepairTaskRunner)
+                && Objects.equals(myAdaptiveUnwindController, that.myAdaptiveUnwindController);
     }
 
     @Override
     public final int hashCode()
     {
-        return Objects.hash(super.hashCode(), myReplicationState, myCassandraMetrics);
+        return Objects.hash(super.hashCode(), myReplicationState, myCassandraMetrics, myRepairTaskRunner,
+                myAdaptiveUnwindController);
     }
 
     @SuppressWarnings("VisibilityModifier")
@@ -190,6 +199,8 @@ public class IncrementalRepairJob extends ScheduledRepairJob
         private RepairLockType myRepairLockType;
         private final List<TableRepairPolicy> myRepairPolicies = new ArrayList<>();
         private CassandraMetrics myCassandraMetrics;
+        private RepairTaskRunner myRepairTaskRunner;
+        private AdaptiveUnwindController myAdaptiveUnwindController;
 
         /**
          * Build with configuration.
@@ -307,6 +318,30 @@ public class IncrementalRepairJob extends ScheduledRepairJob
             return this;
         }
 
+        /**
+         * Build with repair task runner.
+         *
+         * @param repairTaskRunner The runner used to run repair tasks concurrently or null to run them in sequence.
+         * @return Builder
+         */
+        public Builder withRepairTaskRunner(final RepairTaskRunner repairTaskRunner)
+        {
+            myRepairTaskRunner = repairTaskRunner;
+            return this;
+        }
+
+        /**
+         * Build with adaptive unwind controller.
+         *
+         * @param adaptiveUnwindController The controller used by the repair tasks if adaptive unwind is enabled.
+         * @return Builder
+         */
+        public Builder withAdaptiveUnwindController(final AdaptiveUnwindController adaptiveUnwindController)
+        {
+            myAdaptiveUnwindController = adaptiveUnwindController;
+            return this;
+        }
+
         /**
          * Build table repair job.
          *
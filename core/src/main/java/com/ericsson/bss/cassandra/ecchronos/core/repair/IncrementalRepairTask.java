@@ -31,9 +31,10 @@ public class IncrementalRepairTask extends RepairTask
     private static final Logger LOG = LoggerFactory.getLogger(IncrementalRepairTask.class);
 
     public IncrementalRepairTask(final JmxProxyFactory jmxProxyFactory, final TableReference tableReference,
-            final RepairConfiguration repairConfiguration, final TableRepairMetrics tableRepairMetrics)
+            final RepairConfiguration repairConfiguration, final TableRepairMetrics tableRepairMetrics,
+            final AdaptiveUnwindController adaptiveUnwindController)
     {
-        super(jmxProxyFactory, tableReference, repairConfiguration, tableRepairMetrics);
+        super(jmxProxyFactory, tableReference, repairConfiguration, tableRepairMetrics, adaptiveUnwindController);
     }
 
     @Override
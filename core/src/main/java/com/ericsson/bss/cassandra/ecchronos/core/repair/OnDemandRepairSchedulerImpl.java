@@ -24,6 +24,7 @@ import java.util.UUID;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -66,6 +67,8 @@ public final class OnDemandRepairSchedulerImpl implements OnDemandRepairSchedule
     private final ScheduledExecutorService myExecutor = Executors.newSingleThreadScheduledExecutor(
             new ThreadFactoryBuilder().setNameFormat("OngoingJobsScheduler-%d").build());
     private final TimeBasedRunPolicy myTimeBasedRunPolicy;
+    private final Consumer<TableReference> myTableRepairedListener;
+    private final AdaptiveUnwindController myAdaptiveUnwindController = new AdaptiveUnwindController();
 
     private OnDemandRepairSchedulerImpl(final Builder builder)
     {
@@ -79,6 +82,7 @@ public final class OnDemandRepairSchedulerImpl implements OnDemandRepairSchedule
         myRepairHistory = builder.repairHistory;
         myOnDemandStatus = builder.onDemandStatus;
         myTimeBasedRunPolicy = builder.myTimeBasedRunPolicy;
+        myTableRepairedListener = builder.myTableRepairedListener;
         myExecutor.scheduleAtFixedRate(() -> getOngoingJobs(), 0, ONGOING_JOBS_PERIOD_SECONDS, TimeUnit.SECONDS);
     }
 
@@ -224,8 +228,13 @@ public final class OnDemandRepairSchedulerImpl implements OnDemandRepairSchedule
     {
         synchronized (myLock)
         {
-            ScheduledJob job = myScheduledJobs.remove(id);
-            myScheduleManager.deschedule(job);
+            OnDemandRepairJob job = myScheduledJobs.remove(id);
+            if (job != null)
+            {
+                myScheduleManager.deschedule(job);
+                // The repair state of the table has changed, let the scheduled jobs of the table reevaluate it
+                myTableRepairedListener.accept(job.getTableReference());
+            }
         }
     }
 
@@ -269,6 +278,7 @@ public final class OnDemandRepairSchedulerImpl implements OnDemandRepairSchedule
                     .withRepairConfiguration(repairConfiguration)
                     .withReplicationState(myReplicationState)
                     .withOngoingJob(ongoingJob)
+                    .withAdaptiveUnwindController(myAdaptiveUnwindController)
                     .build();
         }
         else
@@ -282,6 +292,7 @@ public final class OnDemandRepairSchedulerImpl implements OnDemandRepairSchedule
                     .withRepairHistory(myRepairHistory)
                     .withOngoingJob(ongoingJob)
                     .withTimeBasedRunPolicy(myTimeBasedRunPolicy)
+                    .withAdaptiveUnwindController(myAdaptiveUnwindController)
                     .build();
         }
         return job;
@@ -304,6 +315,10 @@ public final class OnDemandRepairSchedulerImpl implements OnDemandRepairSchedule
         private RepairHistory repairHistory;
         private OnDemandStatus onDemandStatus;
         private TimeBasedRunPolicy myTimeBasedRunPolicy;
+        private Consumer<TableReference> myTableRepairedListener = tableReference ->
+        {
+            // Nothing to notify by default
+        };
 
         /**
          * Build on demand repair scheduler with JMX proxy factory.
@@ -425,6 +440,18 @@ public final class OnDemandRepairSchedulerImpl implements OnDemandRepairSchedule
             return this;
         }
 
+        /**
+         * Build with a listener notified each time an on demand repair of a table has finished.
+         *
+         * @param tableRepairedListener The listener.
+         * @return Builder
+         */
+        public Builder withTableRepairedListener(final Consumer<TableReference> tableRepairedListener)
+        {
+            myTableRepairedListener = tableRepairedListener;
+            return this;
+        }
+
         /**
          * Build on demand repair scheduler.
          *
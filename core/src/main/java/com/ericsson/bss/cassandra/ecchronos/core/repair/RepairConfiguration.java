@@ -34,6 +34,10 @@ public final class RepairConfiguration
     private static final RepairOptions.RepairType DEFAULT_REPAIR_TYPE = RepairOptions.RepairType.VNODE;
     private static final double DEFAULT_UNWIND_RATIO = NO_UNWIND;
     private static final long DEFAULT_TARGET_REPAIR_SIZE_IN_BYTES = FULL_REPAIR_SIZE;
+    private static final int DEFAULT_RANGES_PER_SESSION = 1;
+    private static final boolean DEFAULT_ADAPTIVE_UNWIND = false;
+    private static final long DEFAULT_TARGET_PENDING_COMPACTIONS = 32;
+    private static final double DEFAULT_MAX_UNWIND_RATIO = 2.0d;
 
     private static final long DEFAULT_BACKOFF_IN_MS = TimeUnit.MINUTES.toMillis(30);
     private static final boolean DEFAULT_IGNORE_TWCS_TABLES = false;
@@ -49,7 +53,11 @@ public final class RepairConfiguration
     private final long myRepairWarningTimeInMs;
     private final long myRepairErrorTimeInMs;
     private final double myRepairUnwindRatio;
+    private final boolean myAdaptiveUnwind;
+    private final long myTargetPendingCompactions;
+    private final double myMaxRepairUnwindRatio;
     private final long myTargetRepairSizeInBytes;
+    private final int myRangesPerSession;
     private final boolean myIgnoreTWCSTables;
     private final long myBackoffInMs;
     private final TimeUnit myPriorityGranularityUnit;
@@ -65,7 +73,11 @@ public final class RepairConfiguration
         myRepairWarningTimeInMs = builder.myRepairWarningTimeInMs;
         myRepairErrorTimeInMs = builder.myRepairErrorTimeInMs;
         myRepairUnwindRatio = builder.myRepairUnwindRatio;
+        myAdaptiveUnwind = builder.myAdaptiveUnwind;
+        myTargetPendingCompactions = builder.myTargetPendingCompactions;
+        myMaxRepairUnwindRatio = builder.myMaxRepairUnwindRatio;
         myTargetRepairSizeInBytes = builder.myTargetRepairSizeInBytes;
+        myRangesPerSession = builder.myRangesPerSession;
         myIgnoreTWCSTables = builder.myIgnoreTWCSTables;
         myBackoffInMs = builder.myBackoffInMs;
         myRepairType = builder.myRepairType;
@@ -108,11 +120,51 @@ public final class RepairConfiguration
         return myRepairUnwindRatio;
     }
 
+    /**
+     * Check if the unwind ratio should be adapted to the load of the local node.
+     *
+     * @return True if adaptive unwind is enabled.
+     */
+    public boolean isAdaptiveUnwind()
+    {
+        return myAdaptiveUnwind;
+    }
+
+    /**
+     * Get the number of pending compactions above which the local node is considered to be overloaded.
+     *
+     * @return The target number of pending compactions.
+     */
+    public long getTargetPendingCompactions()
+    {
+        return myTargetPendingCompactions;
+    }
+
+    /**
+     * Get the highest unwind ratio that adaptive unwind can use.
+     *
+     * @return The maximum unwind ratio.
+     */
+    public double getMaxRepairUnwindRatio()
+    {
+        return myMaxRepairUnwindRatio;
+    }
+
     public long getTargetRepairSizeInBytes()
     {
         return myTargetRepairSizeInBytes;
     }
 
+    /**
+     * Get the maximum number of consecutive vnode sub ranges to repair in a single repair session.
+     *
+     * @return The maximum number of ranges per repair session.
+     */
+    public int getRangesPerSession()
+    {
+        return myRangesPerSession;
+    }
+
     public long getBackoffInMs()
     {
         return myBackoffInMs;
@@ -148,6 +200,10 @@ public final class RepairConfiguration
                         + "error=%dms,"
                         + "parallelism=%s,"
                         + "unwindRatio=%.2f,"
+                        + "adaptiveUnwind=%b,"
+                        + "targetPendingCompactions=%d,"
+                        + "maxUnwindRatio=%.2f,"
+                        + "rangesPerSession=%d,"
                         + "ignoreTWCS=%b,"
                         + "backoff=%dms,"
                         + "repairType=%s,"
@@ -158,6 +214,10 @@ public final class RepairConfiguration
                         myRepairErrorTimeInMs,
                         myRepairParallelism,
                         myRepairUnwindRatio,
+                        myAdaptiveUnwind,
+                        myTargetPendingCompactions,
+                        myMaxRepairUnwindRatio,
+                        myRangesPerSession,
                         myIgnoreTWCSTables,
                         myBackoffInMs,
                         myRepairType,
@@ -181,7 +241,11 @@ public final class RepairConfiguration
                 && myRepairWarningTimeInMs == that.myRepairWarningTimeInMs
                 && myRepairErrorTimeInMs == that.myRepairErrorTimeInMs
                 && Double.compare(that.myRepairUnwindRatio, myRepairUnwindRatio) == 0
+                && myAdaptiveUnwind == that.myAdaptiveUnwind
+                && myTargetPendingCompactions == that.myTargetPendingCompactions
+                && Double.compare(that.myMaxRepairUnwindRatio, myMaxRepairUnwindRatio) == 0
                 && myTargetRepairSizeInBytes == that.myTargetRepairSizeInBytes
+                && myRangesPerSession == that.myRangesPerSession
                 && myRepairParallelism == that.myRepairParallelism
                 && myIgnoreTWCSTables == that.myIgnoreTWCSTables
                 && myBackoffInMs == that.myBackoffInMs
@@ -193,7 +257,8 @@ public final class RepairConfiguration
     public int hashCode()
     {
         return Objects.hash(myRepairParallelism, myRepairIntervalInMs, myInitialDelayInMs, myRepairWarningTimeInMs,
-                myRepairErrorTimeInMs, myRepairUnwindRatio, myTargetRepairSizeInBytes, myIgnoreTWCSTables,
+                myRepairErrorTimeInMs, myRepairUnwindRatio, myAdaptiveUnwind, myTargetPendingCompactions,
+                myMaxRepairUnwindRatio, myTargetRepairSizeInBytes, myRangesPerSession, myIgnoreTWCSTables,
                 myBackoffInMs, myRepairType, myPriorityGranularityUnit);
     }
 
@@ -205,7 +270,11 @@ public final class RepairConfiguration
         private long myRepairWarningTimeInMs = DEFAULT_REPAIR_WARNING_TIME_IN_MS;
         private long myRepairErrorTimeInMs = DEFAULT_REPAIR_ERROR_TIME_IN_MS;
         private double myRepairUnwindRatio = DEFAULT_UNWIND_RATIO;
+        private boolean myAdaptiveUnwind = DEFAULT_ADAPTIVE_UNWIND;
+        private long myTargetPendingCompactions = DEFAULT_TARGET_PENDING_COMPACTIONS;
+        private double myMaxRepairUnwindRatio = DEFAULT_MAX_UNWIND_RATIO;
         private long myTargetRepairSizeInBytes = DEFAULT_TARGET_REPAIR_SIZE_IN_BYTES;
+        private int myRangesPerSession = DEFAULT_RANGES_PER_SESSION;
         private long myBackoffInMs = DEFAULT_BACKOFF_IN_MS;
         private boolean myIgnoreTWCSTables = DEFAULT_IGNORE_TWCS_TABLES;
         private TimeUnit myPriorityGranularityUnit = TimeUnit.HOURS;
@@ -235,7 +304,11 @@ public final class RepairConfiguration
             myRepairWarningTimeInMs = from.getRepairWarningTimeInMs();
             myRepairErrorTimeInMs = from.getRepairErrorTimeInMs();
             myRepairUnwindRatio = from.getRepairUnwindRatio();
+            myAdaptiveUnwind = from.isAdaptiveUnwind();
+            myTargetPendingCompactions = from.getTargetPendingCompactions();
+            myMaxRepairUnwindRatio = from.getMaxRepairUnwindRatio();
             myBackoffInMs = from.getBackoffInMs();
+            myRangesPerSession = from.getRangesPerSession();
             myPriorityGranularityUnit = from.getPriorityGranularityUnit();
         }
 
@@ -337,6 +410,25 @@ public final class RepairConfiguration
             return this;
         }
 
+        /**
+         * Adapt the time to wait after repair has been run to the load of the local node.
+         *
+         * The load is sampled as the number of pending compactions after each repair session. When it is above the
+         * target the unwind ratio is increased multiplicatively towards the maximum unwind ratio, otherwise it is
+         * decreased additively towards the {@link #withRepairUnwindRatio(double) configured unwind ratio}.
+         *
+         * @param targetPendingCompactions The number of pending compactions above which the node is overloaded
+         * @param maxRepairUnwindRatio The highest unwind ratio to use
+         * @return The builder
+         */
+        public Builder withAdaptiveUnwind(final long targetPendingCompactions, final double maxRepairUnwindRatio)
+        {
+            myAdaptiveUnwind = true;
+            myTargetPendingCompactions = targetPendingCompactions;
+            myMaxRepairUnwindRatio = maxRepairUnwindRatio;
+            return this;
+        }
+
         /**
          * Set the target repair size in bytes.
          *
@@ -353,6 +445,22 @@ public final class RepairConfiguration
             return this;
         }
 
+        /**
+         * Set the maximum number of consecutive vnode sub ranges to repair in a single repair session.
+         *
+         * This is only used by the vnode repair type. Batching ranges reduces the number of repair sessions and the
+         * overhead each session has at the cost of a coarser granularity when a session fails. As the sub ranges are
+         * calculated from the target repair size, each session repairs up to this many times the target repair size.
+         *
+         * @param rangesPerSession The maximum number of ranges per repair session
+         * @return The builder
+         */
+        public Builder withRangesPerSession(final int rangesPerSession)
+        {
+            myRangesPerSession = rangesPerSession;
+            return this;
+        }
+
         /**
          * Build with ignore TWCS tables.
          *
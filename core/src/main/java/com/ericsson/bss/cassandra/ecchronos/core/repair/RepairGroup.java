@@ -29,6 +29,7 @@ import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TokenSubRangeUtil;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +44,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 public class RepairGroup extends ScheduledTask
 {
@@ -60,8 +64,11 @@ public class RepairGroup extends ScheduledTask
     private final List<TableRepairPolicy> myRepairPolicies;
     private final UUID myJobId;
     private final TimeBasedRunPolicy myTimeBasedRunPolicy;
+    private final RepairTaskRunner myRepairTaskRunner;
+    private final AdaptiveUnwindController myAdaptiveUnwindController;
     private BigInteger myTokensPerRepair;
     private RepairHistory myRepairHistory;
+    private volatile Set<RepairResource> myRepairResources;
 
     public RepairGroup(final int priority, final Builder builder)
     {
@@ -83,6 +90,8 @@ public class RepairGroup extends ScheduledTask
         myRepairPolicies = new ArrayList<>(Preconditions
                 .checkNotNull(builder.myRepairPolicies, "Repair policies must be set"));
         myTimeBasedRunPolicy = builder.myTimeBasedRunPolicy;
+        myRepairTaskRunner = builder.myRepairTaskRunner;
+        myAdaptiveUnwindController = builder.myAdaptiveUnwindController;
         if (!myRepairConfiguration.getRepairType().equals(RepairOptions.RepairType.INCREMENTAL))
         {
             myRepairHistory = Preconditions
@@ -100,6 +109,8 @@ public class RepairGroup extends ScheduledTask
     /**
      * Executes the repair tasks this repair group is responsible for. Repair tasks can succeed or fail. Repair
      * tasks blocked by run policy are counted as failed.
+     * <p>
+     * If a {@link RepairTaskRunner} is set the repair tasks are run concurrently by it.
      *
      * @return boolean
      */
@@ -107,6 +118,10 @@ public class RepairGroup extends ScheduledTask
     public boolean execute()
     {
         LOG.debug("Table {} running repair job {}", myTableReference, myReplicaRepairGroup);
+        if (myRepairTaskRunner != null)
+        {
+            return executeConcurrently();
+        }
         boolean successful = true;
 
         for (RepairTask repairTask : getRepairTasks())
@@ -141,6 +156,102 @@ public class RepairGroup extends ScheduledTask
         return successful;
     }
 
+    private boolean executeConcurrently()
+    {
+        boolean successful = true;
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        try
+        {
+            for (RepairTask repairTask : getRepairTasks())
+            {
+                if (!shouldContinue())
+                {
+                    LOG.info("Repair of {} was stopped by policy, will continue later", this);
+                    successful = false;
+                    break;
+                }
+                futures.add(myRepairTaskRunner.submit(repairTask, myReplicaRepairGroup.getReplicas()));
+            }
+        }
+        catch (InterruptedException e)
+        {
+            LOG.warn("{} thread was interrupted, cancelling submitted repair tasks", this);
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            successful = false;
+        }
+        catch (RuntimeException e)
+        {
+            cancel(futures);
+            awaitAll(futures);
+            throw e;
+        }
+
+        return awaitAll(futures) && successful;
+    }
+
+    /**
+     * Wait for all submitted repair tasks to finish, a failed task doesn't stop the collection of the other results.
+     * If interrupted the remaining repair tasks are cancelled and waited for before returning.
+     */
+    private boolean awaitAll(final List<Future<Boolean>> futures)
+    {
+        boolean successful = true;
+
+        for (Future<Boolean> future : futures)
+        {
+            try
+            {
+                if (!await(future, futures))
+                {
+                    successful = false;
+                }
+            }
+            catch (ExecutionException e)
+            {
+                LOG.warn("Encountered issue when running repair tasks of {}", this, e);
+                successful = false;
+            }
+            catch (CancellationException e)
+            {
+                LOG.debug("Repair task of {} was cancelled before being started", this);
+                successful = false;
+            }
+        }
+
+        return successful;
+    }
+
+    private boolean await(final Future<Boolean> future, final List<Future<Boolean>> futures)
+            throws ExecutionException
+    {
+        if (!Thread.currentThread().isInterrupted())
+        {
+            try
+            {
+                return future.get();
+            }
+            catch (InterruptedException e)
+            {
+                LOG.warn("{} thread was interrupted, cancelling remaining repair tasks", this);
+                Thread.currentThread().interrupt();
+                cancel(futures);
+            }
+        }
+
+        // The repair task has been cancelled, wait for it to stop
+        return Uninterruptibles.getUninterruptibly(future);
+    }
+
+    private static void cancel(final List<Future<Boolean>> futures)
+    {
+        for (Future<Boolean> future : futures)
+        {
+            future.cancel(true);
+        }
+    }
+
     private boolean shouldContinue()
     {
         return myRepairPolicies.stream().allMatch(repairPolicy -> repairPolicy.shouldRun(myTableReference));
@@ -160,8 +271,36 @@ public class RepairGroup extends ScheduledTask
         metadata.put(LOCK_METADATA_KEYSPACE, myTableReference.getKeyspace());
         metadata.put(LOCK_METADATA_TABLE, myTableReference.getTable());
 
-        Set<RepairResource> repairResources = myRepairResourceFactory.getRepairResources(myReplicaRepairGroup);
-        return myRepairLockFactory.getLock(lockFactory, repairResources, metadata, myPriority);
+        return myRepairLockFactory.getLock(lockFactory, getRepairResources(), metadata, myPriority);
+    }
+
+    /**
+     * Check if the repair resources of this group are disjoint from the repair resources of the other group.
+     *
+     * @param other The other task.
+     * @return True if the other task is a repair group that doesn't share any repair resource with this group.
+     */
+    @Override
+    public boolean canLockConcurrentlyWith(final ScheduledTask other)
+    {
+        if (!(other instanceof RepairGroup))
+        {
+            return false;
+        }
+
+        RepairGroup otherGroup = (RepairGroup) other;
+        return Collections.disjoint(getRepairResources(), otherGroup.getRepairResources());
+    }
+
+    private Set<RepairResource> getRepairResources()
+    {
+        Set<RepairResource> repairResources = myRepairResources;
+        if (repairResources == null)
+        {
+            repairResources = myRepairResourceFactory.getRepairResources(myReplicaRepairGroup);
+            myRepairResources = repairResources;
+        }
+        return repairResources;
     }
 
     /**
@@ -187,7 +326,7 @@ public class RepairGroup extends ScheduledTask
         if (myRepairConfiguration.getRepairType().equals(RepairOptions.RepairType.INCREMENTAL))
         {
             tasks.add(new IncrementalRepairTask(myJmxProxyFactory, myTableReference,
-                    myRepairConfiguration, myTableRepairMetrics));
+                    myRepairConfiguration, myTableRepairMetrics, myAdaptiveUnwindController));
         }
         else if (myRepairConfiguration.getRepairType().equals(RepairOptions.RepairType.PARALLEL_VNODE))
         {
@@ -195,27 +334,40 @@ public class RepairGroup extends ScheduledTask
 
             Set<LongTokenRange> combinedRanges = new LinkedHashSet<>();
             myReplicaRepairGroup.iterator().forEachRemaining(combinedRanges::add);
-            tasks.add(new VnodeRepairTask(myJmxProxyFactory, myTableReference, myRepairConfiguration,
-                    myTableRepairMetrics, myRepairHistory, combinedRanges,
-                    new HashSet<>(replicas), myJobId));
+            tasks.add(createVnodeRepairTask(combinedRanges, replicas));
         }
         else
         {
             Set<DriverNode> replicas = filterParticipants(myReplicaRepairGroup.getReplicas(), myTableReference);
+            int rangesPerSession = Math.max(1, myRepairConfiguration.getRangesPerSession());
+            Set<LongTokenRange> sessionRanges = new LinkedHashSet<>();
             for (LongTokenRange range : myReplicaRepairGroup)
             {
                 for (LongTokenRange subRange : new TokenSubRangeUtil(range).generateSubRanges(myTokensPerRepair))
                 {
-                    tasks.add(new VnodeRepairTask(myJmxProxyFactory, myTableReference, myRepairConfiguration,
-                            myTableRepairMetrics, myRepairHistory, Collections.singleton(subRange),
-                            new HashSet<>(replicas), myJobId));
+                    sessionRanges.add(subRange);
+                    if (sessionRanges.size() >= rangesPerSession)
+                    {
+                        tasks.add(createVnodeRepairTask(sessionRanges, replicas));
+                        sessionRanges = new LinkedHashSet<>();
+                    }
                 }
             }
+            if (!sessionRanges.isEmpty())
+            {
+                tasks.add(createVnodeRepairTask(sessionRanges, replicas));
+            }
         }
 
         return tasks;
     }
 
+    private VnodeRepairTask createVnodeRepairTask(final Set<LongTokenRange> ranges, final Set<DriverNode> replicas)
+    {
+        return new VnodeRepairTask(myJmxProxyFactory, myTableReference, myRepairConfiguration, myTableRepairMetrics,
+                myRepairHistory, ranges, new HashSet<>(replicas), myJobId, myAdaptiveUnwindController);
+    }
+
     private Set<DriverNode> filterParticipants(final Set<DriverNode> participants, final TableReference tableReference)
     {
         Set<DriverNode> allowedParticipants = new HashSet<>();
@@ -247,6 +399,8 @@ public class RepairGroup extends ScheduledTask
         private BigInteger myTokensPerRepair = LongTokenRange.FULL_RANGE;
         private RepairHistory myRepairHistory;
         private TimeBasedRunPolicy myTimeBasedRunPolicy;
+        private RepairTaskRunner myRepairTaskRunner;
+        private AdaptiveUnwindController myAdaptiveUnwindController;
         private UUID myJobId;
 
         /**
@@ -393,6 +547,31 @@ public class RepairGroup extends ScheduledTask
             return this;
         }
 
+        /**
+         * Build with repair task runner.
+         *
+         * @param repairTaskRunner The runner used to run repair tasks concurrently or null to run them in sequence.
+         * @return Builder
+         */
+        public Builder withRepairTaskRunner(final RepairTaskRunner repairTaskRunner)
+        {
+            myRepairTaskRunner = repairTaskRunner;
+            return this;
+        }
+
+        /**
+         * Build with adaptive unwind controller.
+         *
+         * @param adaptiveUnwindController The controller used by the repair tasks if adaptive unwind is enabled,
+         *                                 if not set the configured unwind ratio is used.
+         * @return Builder
+         */
+        public Builder withAdaptiveUnwindController(final AdaptiveUnwindController adaptiveUnwindController)
+        {
+            myAdaptiveUnwindController = adaptiveUnwindController;
+            return this;
+        }
+
         /**
          * Build repair group.
          *
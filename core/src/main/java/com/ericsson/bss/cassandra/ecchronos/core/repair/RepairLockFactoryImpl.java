@@ -16,10 +16,18 @@ package com.ericsson.bss.cassandra.ecchronos.core.repair;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.LockCollection;
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class RepairLockFactoryImpl implements RepairLockFactory
 {
@@ -34,6 +44,24 @@ public class RepairLockFactoryImpl implements RepairLockFactory
 
     private static final int LOCKS_PER_RESOURCE = 1;
 
+    private final Executor myReleaseExecutor;
+
+    public RepairLockFactoryImpl()
+    {
+        // Locks acquired after being abandoned are released on their own threads since the futures
+        // might be completed on driver I/O threads where releasing a lock synchronously is not allowed
+        this(Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("RepairLockReleaser-%d")
+                .setDaemon(true)
+                .build()));
+    }
+
+    @VisibleForTesting
+    RepairLockFactoryImpl(final Executor releaseExecutor)
+    {
+        myReleaseExecutor = releaseExecutor;
+    }
+
     @Override
     public final LockFactory.DistributedLock getLock(final LockFactory lockFactory,
                                                      final Set<RepairResource> repairResources,
@@ -90,55 +118,133 @@ public class RepairLockFactoryImpl implements RepairLockFactory
             final int priority)
             throws LockException
     {
+        Map<RepairResource, CompletableFuture<LockFactory.DistributedLock>> pendingLocks = new LinkedHashMap<>();
+        for (RepairResource repairResource : repairResources)
+        {
+            CompletableFuture<LockFactory.DistributedLock> pendingLock = getLockForRepairResource(lockFactory,
+                    repairResource, metadata, priority);
+            pendingLocks.put(repairResource, pendingLock);
+
+            if (pendingLock.isCompletedExceptionally())
+            {
+                break;
+            }
+        }
+
         try (TemporaryLockHolder lockHolder = new TemporaryLockHolder())
         {
-            for (RepairResource repairResource : repairResources)
+            Throwable failure = null;
+
+            for (Map.Entry<RepairResource, CompletableFuture<LockFactory.DistributedLock>> entry
+                    : pendingLocks.entrySet())
             {
                 try
                 {
-                    lockHolder.add(getLockForRepairResource(lockFactory, repairResource, metadata, priority));
+                    lockHolder.add(awaitLock(entry.getValue()));
+                }
+                catch (InterruptedException e)
+                {
+                    LOG.debug("{} - Interrupted while acquiring repair resource locks, releasing acquired locks", this);
+                    releaseWhenAcquired(pendingLocks.values());
+                    Thread.currentThread().interrupt();
+                    throw new LockException(e);
                 }
-                catch (LockException e)
+                catch (ExecutionException e)
                 {
-                    LOG.debug("{} - Unable to get repair resource lock '{}', releasing previously acquired locks - {}",
+                    LOG.debug("{} - Unable to get repair resource lock '{}', releasing acquired locks - {}",
                             this,
-                            repairResource,
-                            e.getMessage());
-                    throw e;
+                            entry.getKey(),
+                            e.getCause().getMessage());
+                    if (failure == null)
+                    {
+                        failure = e.getCause();
+                    }
                 }
             }
 
+            if (failure != null)
+            {
+                throwLockFailure(failure);
+            }
+
             return lockHolder.getAndClear();
         }
     }
 
-    private LockFactory.DistributedLock getLockForRepairResource(
+    private static LockFactory.DistributedLock awaitLock(
+            final CompletableFuture<LockFactory.DistributedLock> pendingLock)
+            throws InterruptedException, ExecutionException
+    {
+        try
+        {
+            return pendingLock.get();
+        }
+        catch (CancellationException e)
+        {
+            throw new ExecutionException(e);
+        }
+    }
+
+    private void releaseWhenAcquired(final Collection<CompletableFuture<LockFactory.DistributedLock>> locks)
+    {
+        for (CompletableFuture<LockFactory.DistributedLock> lock : locks)
+        {
+            lock.thenAcceptAsync(LockFactory.DistributedLock::close, myReleaseExecutor);
+        }
+    }
+
+    private static void throwLockFailure(final Throwable failure) throws LockException
+    {
+        if (failure instanceof LockException)
+        {
+            throw (LockException) failure;
+        }
+        if (failure instanceof RuntimeException)
+        {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error)
+        {
+            throw (Error) failure;
+        }
+        throw new LockException(failure);
+    }
+
+    private CompletableFuture<LockFactory.DistributedLock> getLockForRepairResource(
             final LockFactory lockFactory,
             final RepairResource repairResource,
             final Map<String, String> metadata,
             final int priority)
-            throws LockException
     {
-        LockFactory.DistributedLock myLock;
-
         String dataCenter = repairResource.getDataCenter();
 
         String resource = repairResource.getResourceName(LOCKS_PER_RESOURCE);
 
-        myLock = lockFactory.tryLock(dataCenter, resource, priority, metadata);
-
-        if (myLock != null)
+        CompletionStage<LockFactory.DistributedLock> pendingLock;
+        try
+        {
+            pendingLock = lockFactory.tryLockAsync(dataCenter, resource, priority, metadata);
+        }
+        catch (RuntimeException e)
         {
-            return myLock;
+            return CompletableFuture.failedFuture(e);
         }
 
-        String msg = String.format("Lock resources exhausted for %s", repairResource);
-        LOG.warn(msg);
-        LOG.debug("Lock ({} in datacenter {}) got error {}",
-                resource,
-                dataCenter,
-                msg);
-        throw new LockException(msg);
+        return pendingLock.toCompletableFuture().thenApply(lock ->
+        {
+            if (lock != null)
+            {
+                return lock;
+            }
+
+            String msg = String.format("Lock resources exhausted for %s", repairResource);
+            LOG.warn(msg);
+            LOG.debug("Lock ({} in datacenter {}) got error {}",
+                    resource,
+                    dataCenter,
+                    msg);
+            throw new CompletionException(new LockException(msg));
+        });
     }
 
     static class TemporaryLockHolder implements AutoCloseable
@@ -26,15 +26,22 @@ public enum RepairLockType
     DATACENTER_AND_VNODE(() -> new CombinedRepairResourceFactory(new DataCenterRepairResourceFactory(),
             new VnodeRepairResourceFactory()));
 
-    private final Supplier<RepairResourceFactory> myRepairLockingFactoryProvider;
+    private final RepairResourceFactory myRepairResourceFactory;
 
     RepairLockType(final Supplier<RepairResourceFactory> repairLockingProvider)
     {
-        myRepairLockingFactoryProvider = repairLockingProvider;
+        myRepairResourceFactory = repairLockingProvider.get();
     }
 
+    /**
+     * Get the repair resource factory of this lock type.
+     * <p>
+     * The factory is shared by all repair jobs so that the repair resources are only created once.
+     *
+     * @return The repair resource factory.
+     */
     RepairResourceFactory getLockFactory()
     {
-        return myRepairLockingFactoryProvider.get();
+        return myRepairResourceFactory;
     }
 }
@@ -23,8 +23,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class RepairResource
 {
+    private static final int FIRST_RESOURCE = 1;
+
     private final String myDataCenter;
     private final String myResourceName;
+    private final transient String myFirstResourceName;
 
     /**
      * Constructor.
@@ -36,6 +39,7 @@ public class RepairResource
     {
         myDataCenter = dataCenter;
         myResourceName = checkNotNull(resourceName);
+        myFirstResourceName = formatResourceName(FIRST_RESOURCE);
     }
 
     /**
@@ -55,6 +59,15 @@ public class RepairResource
      * @return String
      */
     public String getResourceName(final int n)
+    {
+        if (n == FIRST_RESOURCE && myFirstResourceName != null)
+        {
+            return myFirstResourceName;
+        }
+        return formatResourceName(n);
+    }
+
+    private String formatResourceName(final int n)
     {
         return String.format("RepairResource-%s-%d", myResourceName, n);
     }
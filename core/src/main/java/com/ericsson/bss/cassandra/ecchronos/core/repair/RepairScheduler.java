@@ -28,6 +28,9 @@ public interface RepairScheduler
 {
     /**
      * Create or update repair configurations for the specified table.
+     * <p>
+     * Putting unchanged configurations lets the scheduled jobs of the table reevaluate their state, e.g. after a
+     * topology change.
      *
      * @param tableReference The table to put configurations for.
      * @param repairConfigurations The new or updated repair configurations.
@@ -20,9 +20,11 @@ import com.ericsson.bss.cassandra.ecchronos.core.TableStorageStates;
 import com.ericsson.bss.cassandra.ecchronos.core.TimeBasedRunPolicy;
 import com.ericsson.bss.cassandra.ecchronos.core.metrics.TableRepairMetrics;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.AlarmPostUpdateHook;
+import com.ericsson.bss.cassandra.ecchronos.core.repair.state.PostUpdateHook;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.RepairHistory;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.RepairState;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.RepairStateFactory;
+import com.ericsson.bss.cassandra.ecchronos.core.repair.state.RepairStateSnapshot;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.ReplicationState;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.ScheduleManager;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.ScheduledJob;
@@ -70,6 +72,8 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
     private final RepairHistory myRepairHistory;
     private final CassandraMetrics myCassandraMetrics;
     private final TimeBasedRunPolicy myTimeBasedRunPolicy;
+    private final RepairTaskRunner myRepairTaskRunner;
+    private final AdaptiveUnwindController myAdaptiveUnwindController = new AdaptiveUnwindController();
 
     private RepairSchedulerImpl(final Builder builder)
     {
@@ -87,6 +91,7 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
         myCassandraMetrics = builder.myCassandraMetrics;
         myRepairHistory = builder.myRepairHistory;
         myTimeBasedRunPolicy = builder.myTimeBasedRunPolicy;
+        myRepairTaskRunner = builder.myRepairTaskRunner;
     }
 
     @Override
@@ -140,6 +145,17 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
         myExecutor.execute(() -> handleTableConfigurationRemoved(tableReference));
     }
 
+    /**
+     * Reevaluate the scheduled jobs of the provided table since its repair state has changed outside of them,
+     * e.g. by an on demand repair.
+     *
+     * @param tableReference The table that has changed.
+     */
+    public void rescheduleTable(final TableReference tableReference)
+    {
+        myExecutor.execute(() -> handleTableStateChanged(tableReference));
+    }
+
     @Override
     public List<ScheduledRepairJobView> getCurrentRepairJobs()
     {
@@ -168,6 +184,12 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
                 {
                     createTableSchedule(tableReference, repairConfigurations);
                 }
+                else
+                {
+                    // The configuration is refreshed on topology and replication changes,
+                    // let the jobs reevaluate their state before their next eligible time
+                    rescheduleTableJobs(tableReference);
+                }
             }
             catch (Exception e)
             {
@@ -238,6 +260,26 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
         }
     }
 
+    private void handleTableStateChanged(final TableReference tableReference)
+    {
+        synchronized (myLock)
+        {
+            rescheduleTableJobs(tableReference);
+        }
+    }
+
+    private void rescheduleTableJobs(final TableReference tableReference)
+    {
+        Set<ScheduledRepairJob> jobs = myScheduledJobs.get(tableReference);
+        if (jobs != null)
+        {
+            for (ScheduledRepairJob job : jobs)
+            {
+                myScheduleManager.reschedule(job);
+            }
+        }
+    }
+
     private void descheduleTableJob(final ScheduledJob job)
     {
         if (job != null)
@@ -268,14 +310,18 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
                     .withReplicationState(myReplicationState)
                     .withRepairPolices(myRepairPolicies)
                     .withCassandraMetrics(myCassandraMetrics)
+                    .withRepairTaskRunner(myRepairTaskRunner)
+                    .withAdaptiveUnwindController(myAdaptiveUnwindController)
                     .build();
         }
         else
         {
             AlarmPostUpdateHook alarmPostUpdateHook = new AlarmPostUpdateHook(tableReference, repairConfiguration,
                     myFaultReporter);
+            ReschedulingPostUpdateHook reschedulingPostUpdateHook
+                    = new ReschedulingPostUpdateHook(alarmPostUpdateHook);
             RepairState repairState = myRepairStateFactory.create(tableReference, repairConfiguration,
-                    alarmPostUpdateHook);
+                    reschedulingPostUpdateHook);
             job = new TableRepairJob.Builder()
                     .withConfiguration(configuration)
                     .withJmxProxyFactory(myJmxProxyFactory)
@@ -288,13 +334,45 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
                     .withRepairPolices(myRepairPolicies)
                     .withRepairHistory(myRepairHistory)
                     .withTimeBasedRunPolicy(myTimeBasedRunPolicy)
+                    .withRepairTaskRunner(myRepairTaskRunner)
+                    .withAdaptiveUnwindController(myAdaptiveUnwindController)
                     .build();
-
+            reschedulingPostUpdateHook.setJob(job);
         }
         job.refreshState();
         return job;
     }
 
+    /**
+     * Reevaluates the job of the repair state each time the state is updated, after running the delegate hook.
+     */
+    private final class ReschedulingPostUpdateHook implements PostUpdateHook
+    {
+        private final PostUpdateHook myDelegate;
+        private volatile ScheduledJob myJob;
+
+        ReschedulingPostUpdateHook(final PostUpdateHook delegate)
+        {
+            myDelegate = delegate;
+        }
+
+        void setJob(final ScheduledJob job)
+        {
+            myJob = job;
+        }
+
+        @Override
+        public void postUpdate(final RepairStateSnapshot repairStateSnapshot)
+        {
+            myDelegate.postUpdate(repairStateSnapshot);
+            ScheduledJob job = myJob;
+            if (job != null)
+            {
+                myScheduleManager.reschedule(job);
+            }
+        }
+    }
+
     public static Builder builder()
     {
         return new Builder();
@@ -313,6 +391,7 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
         private RepairHistory myRepairHistory;
         private CassandraMetrics myCassandraMetrics;
         private TimeBasedRunPolicy myTimeBasedRunPolicy;
+        private RepairTaskRunner myRepairTaskRunner;
         private final List<TableRepairPolicy> myRepairPolicies = new ArrayList<>();
 
         /**
@@ -459,6 +538,18 @@ public final class RepairSchedulerImpl implements RepairScheduler, Closeable
             return this;
         }
 
+        /**
+         * Build with repair task runner.
+         *
+         * @param repairTaskRunner The runner used to run repair tasks concurrently or null to run them in sequence.
+         * @return Builder
+         */
+        public Builder withRepairTaskRunner(final RepairTaskRunner repairTaskRunner)
+        {
+            myRepairTaskRunner = repairTaskRunner;
+            return this;
+        }
+
         /**
          * RepairSchedulerImpl build.
          *
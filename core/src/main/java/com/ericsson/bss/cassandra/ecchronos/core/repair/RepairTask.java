@@ -35,9 +35,9 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -47,14 +47,16 @@ public abstract class RepairTask implements NotificationListener
     private static final Logger LOG = LoggerFactory.getLogger(RepairTask.class);
     private static final Pattern RANGE_PATTERN = Pattern.compile("\\((-?[0-9]+),(-?[0-9]+)\\]");
     private static final int HEALTH_CHECK_INTERVAL = 10;
-    private final ScheduledExecutorService myExecutor = Executors.newSingleThreadScheduledExecutor(
-            new ThreadFactoryBuilder().setNameFormat("HangPreventingTask-%d").build());
+    private static final ScheduledExecutorService HANG_PREVENTION_EXECUTOR = createHangPreventionExecutor();
+    private final Object myHangPreventionLock = new Object();
     private final CountDownLatch myLatch = new CountDownLatch(1);
     private final JmxProxyFactory myJmxProxyFactory;
     private final TableReference myTableReference;
     private final TableRepairMetrics myTableRepairMetrics;
     private final RepairConfiguration myRepairConfiguration;
-    private volatile ScheduledFuture<?> myHangPreventFuture;
+    private final AdaptiveUnwindController myAdaptiveUnwindController;
+    private ScheduledFuture<?> myHangPreventFuture;
+    private boolean isCleanedUp = false;
     private volatile ScheduledJobException myLastError;
     private volatile boolean hasLostNotification = false;
     private volatile int myCommand;
@@ -62,12 +64,14 @@ public abstract class RepairTask implements NotificationListener
     private volatile Set<LongTokenRange> mySuccessfulRanges = new HashSet<>();
 
     RepairTask(final JmxProxyFactory jmxProxyFactory, final TableReference tableReference,
-            final RepairConfiguration repairConfiguration, final TableRepairMetrics tableRepairMetrics)
+            final RepairConfiguration repairConfiguration, final TableRepairMetrics tableRepairMetrics,
+            final AdaptiveUnwindController adaptiveUnwindController)
     {
         myJmxProxyFactory = Preconditions.checkNotNull(jmxProxyFactory, "Jmx proxy factory must be set");
         myTableReference = Preconditions.checkNotNull(tableReference, "Table reference must be set");
         myRepairConfiguration = Preconditions.checkNotNull(repairConfiguration, "Repair configuration must be set");
         myTableRepairMetrics = tableRepairMetrics;
+        myAdaptiveUnwindController = adaptiveUnwindController;
     }
 
     /**
@@ -81,12 +85,17 @@ public abstract class RepairTask implements NotificationListener
         long start = System.nanoTime();
         long end;
         long executionNanos;
+        long pendingCompactions = -1;
         boolean successful = true;
         onExecute();
         try (JmxProxy proxy = myJmxProxyFactory.connect())
         {
             rescheduleHangPrevention();
             repair(proxy);
+            if (isAdaptiveUnwind())
+            {
+                pendingCompactions = proxy.getPendingCompactions();
+            }
             onFinish(RepairStatus.SUCCESS);
         }
         catch (Exception e)
@@ -97,16 +106,13 @@ public abstract class RepairTask implements NotificationListener
         }
         finally
         {
-            if (myHangPreventFuture != null)
-            {
-                myHangPreventFuture.cancel(false);
-            }
+            cancelHangPrevention();
             end = System.nanoTime();
             executionNanos = end - start;
             myTableRepairMetrics.repairSession(myTableReference, executionNanos, TimeUnit.NANOSECONDS, successful);
         }
 
-        lazySleep(executionNanos);
+        lazySleep(executionNanos, getUnwindRatio(pendingCompactions));
     }
 
     /**
@@ -181,11 +187,25 @@ public abstract class RepairTask implements NotificationListener
      */
     protected abstract void onFinish(RepairStatus repairStatus);
 
-    private void lazySleep(final long executionNanos) throws ScheduledJobException
+    private double getUnwindRatio(final long pendingCompactions)
     {
-        if (myRepairConfiguration.getRepairUnwindRatio() != RepairConfiguration.NO_UNWIND)
+        if (isAdaptiveUnwind())
         {
-            double sleepDurationNanos = executionNanos * myRepairConfiguration.getRepairUnwindRatio();
+            return myAdaptiveUnwindController.nextUnwindRatio(pendingCompactions, myRepairConfiguration);
+        }
+        return myRepairConfiguration.getRepairUnwindRatio();
+    }
+
+    private boolean isAdaptiveUnwind()
+    {
+        return myRepairConfiguration.isAdaptiveUnwind() && myAdaptiveUnwindController != null;
+    }
+
+    private void lazySleep(final long executionNanos, final double unwindRatio) throws ScheduledJobException
+    {
+        if (unwindRatio != RepairConfiguration.NO_UNWIND)
+        {
+            double sleepDurationNanos = executionNanos * unwindRatio;
             long sleepDurationMs = TimeUnit.NANOSECONDS.toMillis((long) sleepDurationNanos);
             sleepDurationMs = Math.max(sleepDurationMs, 1);
             try
@@ -205,7 +225,11 @@ public abstract class RepairTask implements NotificationListener
      */
     public void cleanup()
     {
-        myExecutor.shutdown();
+        synchronized (myHangPreventionLock)
+        {
+            isCleanedUp = true;
+            cancelHangPrevention();
+        }
     }
 
     /**
@@ -255,13 +279,45 @@ public abstract class RepairTask implements NotificationListener
 
     private void rescheduleHangPrevention()
     {
-        if (myHangPreventFuture != null)
+        // Schedule the first check to happen after 10 minutes
+        scheduleHangPrevention(new HangPreventingTask());
+    }
+
+    private void scheduleHangPrevention(final HangPreventingTask hangPreventingTask)
+    {
+        synchronized (myHangPreventionLock)
         {
-            myHangPreventFuture.cancel(false);
+            cancelHangPrevention();
+            if (!isCleanedUp)
+            {
+                myHangPreventFuture = HANG_PREVENTION_EXECUTOR.schedule(hangPreventingTask, HEALTH_CHECK_INTERVAL,
+                        TimeUnit.MINUTES);
+            }
         }
-        // Schedule the first check to happen after 10 minutes
-        myHangPreventFuture = myExecutor.schedule(new HangPreventingTask(), HEALTH_CHECK_INTERVAL,
-                TimeUnit.MINUTES);
+    }
+
+    private void cancelHangPrevention()
+    {
+        synchronized (myHangPreventionLock)
+        {
+            if (myHangPreventFuture != null)
+            {
+                myHangPreventFuture.cancel(false);
+                myHangPreventFuture = null;
+            }
+        }
+    }
+
+    /**
+     * The hang prevention checks of all repair tasks share one scheduler thread.
+     * Cancelled checks are removed directly so that the queue only holds the checks of running repair tasks.
+     */
+    private static ScheduledExecutorService createHangPreventionExecutor()
+    {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactoryBuilder().setNameFormat("HangPreventingTask-%d").setDaemon(true).build());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
     }
 
     /**
@@ -387,7 +443,7 @@ public abstract class RepairTask implements NotificationListener
                     else
                     {
                         checkCount++;
-                        myHangPreventFuture = myExecutor.schedule(this, HEALTH_CHECK_INTERVAL, TimeUnit.MINUTES);
+                        scheduleHangPrevention(this);
                     }
                 }
                 else
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.repair;
+
+import com.ericsson.bss.cassandra.ecchronos.core.exceptions.ScheduledJobException;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.DriverNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs repair tasks on a shared pool of threads.
+ * <p>
+ * The number of concurrent repair sessions each node participates in is bounded by a semaphore per node.
+ * Permits are acquired in node id order to avoid deadlocks between repair groups sharing nodes.
+ */
+public final class RepairTaskRunner implements Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(RepairTaskRunner.class);
+    private static final int TERMINATION_WAIT = 10;
+
+    public static final int DEFAULT_THREADS = 4;
+    public static final int DEFAULT_MAX_SESSIONS_PER_NODE = 1;
+
+    private final ExecutorService myExecutor;
+    private final int myMaxSessionsPerNode;
+    private final Map<UUID, Semaphore> myNodeSemaphores = new ConcurrentHashMap<>();
+
+    private RepairTaskRunner(final Builder builder)
+    {
+        myMaxSessionsPerNode = builder.myMaxSessionsPerNode;
+        myExecutor = Executors.newFixedThreadPool(builder.myThreads,
+                new ThreadFactoryBuilder().setNameFormat("RepairTaskRunner-%d").build());
+    }
+
+    /**
+     * Submit a repair task to run once all participating nodes have a free repair session.
+     * <p>
+     * This method blocks until permits for all participants have been acquired.
+     * The task is cleaned up and the permits released when it has finished.
+     * <p>
+     * Cancelling the returned future interrupts a running task, the future is only completed once the task has
+     * finished and been cleaned up so that waiting for it ensures that no repair is left running.
+     *
+     * @param repairTask The repair task to run.
+     * @param participants The nodes participating in the repair.
+     * @return A future completing with true if the repair task was successful.
+     * @throws InterruptedException If interrupted while waiting for permits.
+     */
+    public Future<Boolean> submit(final RepairTask repairTask, final Collection<DriverNode> participants)
+            throws InterruptedException
+    {
+        List<Semaphore> semaphores = acquire(participants);
+        RepairTaskFuture future = new RepairTaskFuture(repairTask, semaphores);
+
+        try
+        {
+            myExecutor.execute(future::run);
+        }
+        catch (RuntimeException e)
+        {
+            release(semaphores);
+            throw e;
+        }
+        return future;
+    }
+
+    private boolean runTask(final RepairTask repairTask, final List<Semaphore> semaphores)
+    {
+        try
+        {
+            repairTask.execute();
+            return true;
+        }
+        catch (ScheduledJobException e)
+        {
+            LOG.warn("Encountered issue when running repair task {}, {}", repairTask, e.getMessage());
+            LOG.debug("", e);
+            return false;
+        }
+        finally
+        {
+            repairTask.cleanup();
+            release(semaphores);
+        }
+    }
+
+    private List<Semaphore> acquire(final Collection<DriverNode> participants) throws InterruptedException
+    {
+        List<UUID> nodeIds = new ArrayList<>(participants.size());
+        for (DriverNode participant : participants)
+        {
+            nodeIds.add(participant.getId());
+        }
+        nodeIds.sort(Comparator.naturalOrder());
+
+        List<Semaphore> acquired = new ArrayList<>(nodeIds.size());
+        try
+        {
+            for (UUID nodeId : nodeIds)
+            {
+                Semaphore semaphore = getSemaphore(nodeId);
+                semaphore.acquire();
+                acquired.add(semaphore);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            release(acquired);
+            throw e;
+        }
+        return acquired;
+    }
+
+    private void release(final List<Semaphore> semaphores)
+    {
+        for (Semaphore semaphore : semaphores)
+        {
+            semaphore.release();
+        }
+    }
+
+    @VisibleForTesting
+    int availableSessions(final DriverNode node)
+    {
+        return getSemaphore(node.getId()).availablePermits();
+    }
+
+    private Semaphore getSemaphore(final UUID nodeId)
+    {
+        return myNodeSemaphores.computeIfAbsent(nodeId, k -> new Semaphore(myMaxSessionsPerNode));
+    }
+
+    @Override
+    public void close()
+    {
+        myExecutor.shutdown();
+        try
+        {
+            if (!myExecutor.awaitTermination(TERMINATION_WAIT, TimeUnit.SECONDS))
+            {
+                LOG.warn("Waited {} seconds for repair tasks to finish, still not shut down", TERMINATION_WAIT);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            LOG.error("Interrupted while waiting for repair tasks to finish", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Future of a submitted repair task that isn't completed until the task has finished, even when cancelled.
+     */
+    private final class RepairTaskFuture implements Future<Boolean>
+    {
+        private final RepairTask myRepairTask;
+        private final List<Semaphore> mySemaphores;
+        private final CompletableFuture<Boolean> myResult = new CompletableFuture<>();
+        private boolean myStarted;
+        private Thread myRunner;
+
+        RepairTaskFuture(final RepairTask repairTask, final List<Semaphore> semaphores)
+        {
+            myRepairTask = repairTask;
+            mySemaphores = semaphores;
+        }
+
+        void run()
+        {
+            synchronized (this)
+            {
+                if (myStarted)
+                {
+                    // Cancelled before being started
+                    return;
+                }
+                myStarted = true;
+                myRunner = Thread.currentThread();
+            }
+
+            Boolean successful = null;
+            try
+            {
+                successful = runTask(myRepairTask, mySemaphores);
+            }
+            finally
+            {
+                detachRunner();
+                if (successful != null)
+                {
+                    myResult.complete(successful);
+                }
+                else
+                {
+                    myResult.completeExceptionally(
+                            new IllegalStateException("Unexpected failure of repair task " + myRepairTask));
+                }
+            }
+        }
+
+        private synchronized void detachRunner()
+        {
+            myRunner = null;
+            // Don't leak an interrupt of a cancellation to the next task of the pool thread
+            Thread.interrupted();
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            synchronized (this)
+            {
+                if (!myStarted)
+                {
+                    myStarted = true;
+                    release(mySemaphores);
+                    return myResult.cancel(false);
+                }
+
+                if (mayInterruptIfRunning && myRunner != null)
+                {
+                    LOG.debug("Interrupting repair task {}", myRepairTask);
+                    myRunner.interrupt();
+                }
+            }
+            return !myResult.isDone();
+        }
+
+        @Override
+        public boolean isCancelled()
+        {
+            return myResult.isCancelled();
+        }
+
+        @Override
+        public boolean isDone()
+        {
+            return myResult.isDone();
+        }
+
+        @Override
+        public Boolean get() throws InterruptedException, ExecutionException
+        {
+            return myResult.get();
+        }
+
+        @Override
+        public Boolean get(final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException
+        {
+            return myResult.get(timeout, unit);
+        }
+    }
+
+    public static Builder newBuilder()
+    {
+        return new Builder();
+    }
+
+    public static class Builder
+    {
+        private int myThreads = DEFAULT_THREADS;
+        private int myMaxSessionsPerNode = DEFAULT_MAX_SESSIONS_PER_NODE;
+
+        /**
+         * Build with the number of threads used to run repair tasks.
+         *
+         * @param threads The number of threads.
+         * @return Builder
+         */
+        public Builder withThreads(final int threads)
+        {
+            myThreads = threads;
+            return this;
+        }
+
+        /**
+         * Build with the maximum number of concurrent repair sessions a single node may participate in.
+         *
+         * @param maxSessionsPerNode The maximum number of sessions per node.
+         * @return Builder
+         */
+        public Builder withMaxSessionsPerNode(final int maxSessionsPerNode)
+        {
+            myMaxSessionsPerNode = maxSessionsPerNode;
+            return this;
+        }
+
+        /**
+         * Build the repair task runner.
+         *
+         * @return RepairTaskRunner
+         */
+        public RepairTaskRunner build()
+        {
+            if (myThreads < 1)
+            {
+                throw new IllegalArgumentException("Threads must be at least 1");
+            }
+            if (myMaxSessionsPerNode < 1)
+            {
+                throw new IllegalArgumentException("Max sessions per node must be at least 1");
+            }
+            return new RepairTaskRunner(this);
+        }
+    }
+}
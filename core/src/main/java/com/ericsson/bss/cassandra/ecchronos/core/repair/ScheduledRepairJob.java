@@ -24,6 +24,7 @@ import com.google.common.base.Preconditions;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public abstract class ScheduledRepairJob extends ScheduledJob
 {
@@ -103,6 +104,21 @@ public abstract class ScheduledRepairJob extends ScheduledJob
 
     public abstract ScheduledRepairJobView getView();
 
+    /**
+     * Get the point in time when the repair must start to finish within gc_grace_seconds of the last repair.
+     * <p>
+     * Tombstones older than gc_grace_seconds can be purged, so a table that has not been repaired by then
+     * risks data resurrection.
+     *
+     * @return The last repair time plus gc_grace_seconds minus the estimated repair time.
+     */
+    @Override
+    public long getDeadline()
+    {
+        return getLastSuccessfulRun() + TimeUnit.SECONDS.toMillis(myTableReference.getGcGraceSeconds())
+                - getRunOffset();
+    }
+
     /**
      * {@inheritDoc}
      */
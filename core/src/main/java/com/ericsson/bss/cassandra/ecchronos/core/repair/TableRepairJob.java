@@ -39,6 +39,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 /**
@@ -55,6 +56,9 @@ public class TableRepairJob extends ScheduledRepairJob
     private final TableStorageStates myTableStorageStates;
     private final RepairHistory myRepairHistory;
     private final TimeBasedRunPolicy myTimeBasedRunPolicy;
+    private final RepairTaskRunner myRepairTaskRunner;
+    private final AdaptiveUnwindController myAdaptiveUnwindController;
+    private final transient AtomicReference<CachedPriority> myCachedPriority = new AtomicReference<>();
 
     TableRepairJob(final Builder builder)
     {
@@ -70,6 +74,8 @@ public class TableRepairJob extends ScheduledRepairJob
                 "Repair history must be set");
         myTimeBasedRunPolicy = Preconditions.checkNotNull(builder.myTimeBasedRunPolicy,
                 "TimeBasedRunPolicy must be set");
+        myRepairTaskRunner = builder.myRepairTaskRunner;
+        myAdaptiveUnwindController = builder.myAdaptiveUnwindController;
     }
 
     /**
@@ -164,7 +170,9 @@ public class TableRepairJob extends ScheduledRepairJob
                         .withRepairPolicies(getRepairPolicies())
                         .withRepairHistory(myRepairHistory)
                         .withJobId(getId())
-                        .withTimeBasedRunPolicy(myTimeBasedRunPolicy);
+                        .withTimeBasedRunPolicy(myTimeBasedRunPolicy)
+                        .withRepairTaskRunner(myRepairTaskRunner)
+                        .withAdaptiveUnwindController(myAdaptiveUnwindController);
 
                 taskList.add(builder.build(getRealPriority(replicaRepairGroup.getLastCompletedAt())));
             }
@@ -249,29 +257,46 @@ public class TableRepairJob extends ScheduledRepairJob
         }
     }
 
-     /**
+    /**
      * Calculate real priority based on available tasks.
+     * <p>
+     * The priority is cached until the repair state snapshot changes or the priority granularity unit has passed.
+     *
      * @return priority
      */
     @Override
     public final int getRealPriority()
     {
         RepairStateSnapshot repairStateSnapshot = myRepairState.getSnapshot();
-        int priority = -1;
-        if (repairStateSnapshot.canRepair())
+        long now = System.currentTimeMillis();
+
+        CachedPriority cachedPriority = myCachedPriority.get();
+        if (cachedPriority == null || !cachedPriority.isValid(repairStateSnapshot, now))
         {
-            long minRepairedAt = System.currentTimeMillis();
-            for (ReplicaRepairGroup replicaRepairGroup : repairStateSnapshot.getRepairGroups())
+            cachedPriority = calculateRealPriority(repairStateSnapshot, now);
+            myCachedPriority.set(cachedPriority);
+        }
+        return cachedPriority.myPriority;
+    }
+
+    private CachedPriority calculateRealPriority(final RepairStateSnapshot repairStateSnapshot, final long now)
+    {
+        if (!repairStateSnapshot.canRepair())
+        {
+            return new CachedPriority(repairStateSnapshot, -1, Long.MAX_VALUE);
+        }
+
+        long minRepairedAt = now;
+        for (ReplicaRepairGroup replicaRepairGroup : repairStateSnapshot.getRepairGroups())
+        {
+            long replicaGroupCompletedAt = replicaRepairGroup.getLastCompletedAt();
+            if (replicaGroupCompletedAt < minRepairedAt)
             {
-                long replicaGroupCompletedAt = replicaRepairGroup.getLastCompletedAt();
-                if (replicaGroupCompletedAt < minRepairedAt)
-                {
-                    minRepairedAt = replicaGroupCompletedAt;
-                }
+                minRepairedAt = replicaGroupCompletedAt;
             }
-            priority = getRealPriority(minRepairedAt);
         }
-        return priority;
+        return new CachedPriority(repairStateSnapshot, getRealPriority(minRepairedAt, now),
+                getRealPriorityChangeTime(minRepairedAt, now));
     }
 
     /**
@@ -332,14 +357,38 @@ public class TableRepairJob extends ScheduledRepairJob
         TableRepairJob that = (TableRepairJob) o;
         return Objects.equals(myRepairState, that.myRepairState) && Objects.equals(myTableStorageStates,
                 that.myTableStorageStates) && Objects.equals(myRepairHistory, that.myRepairHistory)
-                && Objects.equals(myTimeBasedRunPolicy, that.myTimeBasedRunPolicy);
+                && Objects.equals(myTimeBasedRunPolicy, that.myTimeBasedRunPolicy)
+                && Objects.equals(myRepairTaskRunner, that.myRepairTaskRunner)
+                && Objects.equals(myAdaptiveUnwindController, that.myAdaptiveUnwindController);
     }
 
     @Override
     public final int hashCode()
     {
         return Objects.hash(super.hashCode(), myRepairState, myTableStorageStates, myRepairHistory,
-                myTimeBasedRunPolicy);
+                myTimeBasedRunPolicy, myRepairTaskRunner,
+                myAdaptiveUnwindController);
+    }
+
+    private static final class CachedPriority
+    {
+        private final RepairStateSnapshot mySnapshot;
+        private final List<ReplicaRepairGroup> myRepairGroups;
+        private final int myPriority;
+        private final long myValidUntil;
+
+        CachedPriority(final RepairStateSnapshot snapshot, final int priority, final long validUntil)
+        {
+            mySnapshot = snapshot;
+            myRepairGroups = snapshot.getRepairGroups();
+            myPriority = priority;
+            myValidUntil = validUntil;
+        }
+
+        boolean isValid(final RepairStateSnapshot snapshot, final long now)
+        {
+            return mySnapshot == snapshot && myRepairGroups == snapshot.getRepairGroups() && now < myValidUntil;
+        }
     }
 
     @SuppressWarnings("VisibilityModifier")
@@ -359,6 +408,8 @@ public class TableRepairJob extends ScheduledRepairJob
         private final List<TableRepairPolicy> repairPolicies = new ArrayList<>();
         private RepairHistory repairHistory;
         private TimeBasedRunPolicy myTimeBasedRunPolicy;
+        private RepairTaskRunner myRepairTaskRunner;
+        private AdaptiveUnwindController myAdaptiveUnwindController;
 
         /**
          * Build table repair job with configuration.
@@ -502,6 +553,30 @@ public class TableRepairJob extends ScheduledRepairJob
             return this;
         }
 
+        /**
+         * Build with repair task runner.
+         *
+         * @param repairTaskRunner The runner used to run repair tasks concurrently or null to run them in sequence.
+         * @return Builder
+         */
+        public Builder withRepairTaskRunner(final RepairTaskRunner repairTaskRunner)
+        {
+            myRepairTaskRunner = repairTaskRunner;
+            return this;
+        }
+
+        /**
+         * Build with adaptive unwind controller.
+         *
+         * @param adaptiveUnwindController The controller used by the repair tasks if adaptive unwind is enabled.
+         * @return Builder
+         */
+        public Builder withAdaptiveUnwindController(final AdaptiveUnwindController adaptiveUnwindController)
+        {
+            myAdaptiveUnwindController = adaptiveUnwindController;
+            return this;
+        }
+
         /**
          * Build table repair job.
          *
@@ -56,6 +56,7 @@ public final class VnodeOnDemandRepairJob extends OnDemandRepairJob
     private final Map<ScheduledTask, Set<LongTokenRange>> myTasks;
     private final int myTotalTokens;
     private final TimeBasedRunPolicy myTimeBasedRunPolicy;
+    private final AdaptiveUnwindController myAdaptiveUnwindController;
 
     private VnodeOnDemandRepairJob(final Builder builder)
     {
@@ -64,6 +65,7 @@ public final class VnodeOnDemandRepairJob extends OnDemandRepairJob
         myRepairHistory = Preconditions.checkNotNull(builder.repairHistory,
                 "Repair history must be set");
         myTimeBasedRunPolicy = builder.myTimeBasedRunPolicy;
+        myAdaptiveUnwindController = builder.myAdaptiveUnwindController;
         myTotalTokens = getOngoingJob().getTokens().size();
         myTasks = createRepairTasks(getOngoingJob().getTokens(), getOngoingJob().getRepairedTokens());
     }
@@ -112,6 +114,7 @@ public final class VnodeOnDemandRepairJob extends OnDemandRepairJob
                     .withRepairHistory(myRepairHistory)
                     .withJobId(getId())
                     .withTimeBasedRunPolicy(myTimeBasedRunPolicy)
+                    .withAdaptiveUnwindController(myAdaptiveUnwindController)
                     .build(ScheduledJob.Priority.HIGHEST.getValue()), groupTokenRange);
         }
         return taskMap;
@@ -225,6 +228,7 @@ public final class VnodeOnDemandRepairJob extends OnDemandRepairJob
         private RepairHistory repairHistory;
         private OngoingJob ongoingJob;
         private TimeBasedRunPolicy myTimeBasedRunPolicy;
+        private AdaptiveUnwindController myAdaptiveUnwindController;
 
         public final Builder withJmxProxyFactory(final JmxProxyFactory aJMXProxyFactory)
         {
@@ -280,6 +284,18 @@ public final class VnodeOnDemandRepairJob extends OnDemandRepairJob
             return this;
         }
 
+        /**
+         * Build with adaptive unwind controller.
+         *
+         * @param adaptiveUnwindController The controller used by the repair tasks if adaptive unwind is enabled.
+         * @return Builder
+         */
+        public Builder withAdaptiveUnwindController(final AdaptiveUnwindController adaptiveUnwindController)
+        {
+            myAdaptiveUnwindController = adaptiveUnwindController;
+            return this;
+        }
+
         public final VnodeOnDemandRepairJob build()
         {
             return new VnodeOnDemandRepairJob(this);
@@ -17,7 +17,11 @@ package com.ericsson.bss.cassandra.ecchronos.core.repair;
 import com.ericsson.bss.cassandra.ecchronos.core.repair.state.ReplicaRepairGroup;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.DriverNode;
 
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +29,8 @@ import java.util.stream.Collectors;
  */
 public class VnodeRepairResourceFactory implements RepairResourceFactory
 {
+    private final Map<UUID, RepairResource> myRepairResources = new ConcurrentHashMap<>();
+
     @Override
     public final Set<RepairResource> getRepairResources(final ReplicaRepairGroup replicaRepairGroup)
     {
@@ -35,6 +41,12 @@ public class VnodeRepairResourceFactory implements RepairResourceFactory
 
     private RepairResource replicaToRepairResource(final DriverNode node)
     {
-        return new RepairResource(node.getDatacenter(), node.getId().toString());
+        RepairResource repairResource = myRepairResources.get(node.getId());
+        if (repairResource == null || !Objects.equals(repairResource.getDataCenter(), node.getDatacenter()))
+        {
+            repairResource = new RepairResource(node.getDatacenter(), node.getId().toString());
+            myRepairResources.put(node.getId(), repairResource);
+        }
+        return repairResource;
     }
 }
@@ -53,9 +53,9 @@ public class VnodeRepairTask extends RepairTask
     public VnodeRepairTask(final JmxProxyFactory jmxProxyFactory, final TableReference tableReference,
             final RepairConfiguration repairConfiguration, final TableRepairMetrics tableRepairMetrics,
             final RepairHistory repairHistory, final Set<LongTokenRange> tokenRanges, final Set<DriverNode> replicas,
-            final UUID jobId)
+            final UUID jobId, final AdaptiveUnwindController adaptiveUnwindController)
     {
-        super(jmxProxyFactory, tableReference, repairConfiguration, tableRepairMetrics);
+        super(jmxProxyFactory, tableReference, repairConfiguration, tableRepairMetrics, adaptiveUnwindController);
         myTokenRanges = Preconditions.checkNotNull(tokenRanges, "Token ranges must be set");
         myReplicas = Preconditions.checkNotNull(replicas, "Replicas must be set");
         for (LongTokenRange range : myTokenRanges)
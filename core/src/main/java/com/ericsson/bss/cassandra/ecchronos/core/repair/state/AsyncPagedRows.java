@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.repair.state;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.google.common.collect.AbstractIterator;
+
+/**
+ * Utility for reading the rows of a paged asynchronous query.
+ * <p>
+ * The iterator requests the next page before the rows of the current page are handed out so that the page is fetched
+ * while the current one is processed. Pages handed to a page consumer are instead fetched one at a time, the next page
+ * is only requested when the consumer is done with the current one.
+ */
+final class AsyncPagedRows
+{
+    private AsyncPagedRows()
+    {
+        // Utility class
+    }
+
+    /**
+     * Hand the rows of the query to the consumer one page at a time.
+     * A page is handed to the consumer on the thread completing the page and the next page is not requested until
+     * the stage returned by the consumer is completed.
+     *
+     * @param firstPage The first page of the query.
+     * @param pageConsumer The consumer of the pages, returning a stage that is completed when the page is consumed.
+     * @return A stage that is completed when all pages have been consumed.
+     */
+    static CompletionStage<Void> forEachPage(final CompletionStage<AsyncResultSet> firstPage,
+                                             final Function<Iterable<Row>, CompletionStage<Void>> pageConsumer)
+    {
+        return firstPage.thenCompose(resultSet -> forEachPage(resultSet, pageConsumer));
+    }
+
+    /**
+     * Iterate over all rows of the query.
+     * The iterator blocks only when a page is needed before it has been fetched.
+     *
+     * @param firstPage The first page of the query.
+     * @return An iterator over the rows.
+     */
+    static Iterator<Row> iterator(final CompletionStage<AsyncResultSet> firstPage)
+    {
+        return new PrefetchingRowIterator(firstPage);
+    }
+
+    private static CompletionStage<Void> forEachPage(final AsyncResultSet resultSet,
+                                                     final Function<Iterable<Row>, CompletionStage<Void>> pageConsumer)
+    {
+        return pageConsumer.apply(resultSet.currentPage()).thenCompose(consumed ->
+        {
+            CompletionStage<AsyncResultSet> nextPage = fetchNextPage(resultSet);
+            if (nextPage == null)
+            {
+                return CompletableFuture.completedFuture(null);
+            }
+            return nextPage.thenCompose(next -> forEachPage(next, pageConsumer));
+        });
+    }
+
+    private static CompletionStage<AsyncResultSet> fetchNextPage(final AsyncResultSet resultSet)
+    {
+        return resultSet.hasMorePages() ? resultSet.fetchNextPage() : null;
+    }
+
+    private static final class PrefetchingRowIterator extends AbstractIterator<Row>
+    {
+        private CompletionStage<AsyncResultSet> myNextPage;
+        private Iterator<Row> myCurrentPage;
+
+        PrefetchingRowIterator(final CompletionStage<AsyncResultSet> firstPage)
+        {
+            myNextPage = firstPage;
+        }
+
+        @Override
+        protected Row computeNext()
+        {
+            while (myCurrentPage == null || !myCurrentPage.hasNext())
+            {
+                if (myNextPage == null)
+                {
+                    return endOfData();
+                }
+
+                AsyncResultSet resultSet = await(myNextPage);
+                myNextPage = fetchNextPage(resultSet);
+                myCurrentPage = resultSet.currentPage().iterator();
+            }
+
+            return myCurrentPage.next();
+        }
+
+        private static AsyncResultSet await(final CompletionStage<AsyncResultSet> page)
+        {
+            try
+            {
+                return page.toCompletableFuture().join();
+            }
+            catch (CompletionException e)
+            {
+                if (e.getCause() instanceof RuntimeException)
+                {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -18,7 +18,6 @@ import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
@@ -35,8 +34,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -66,7 +67,16 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
     private static final String COLUMN_STARTED_AT = "started_at";
     private static final String COLUMN_FINISHED_AT = "finished_at";
 
+    private static final int ITERATE_STARTED_AT_INDEX = 0;
+    private static final int ITERATE_FINISHED_AT_INDEX = 1;
+    private static final int ITERATE_STATUS_INDEX = 2;
+    private static final int ITERATE_RANGE_BEGIN_INDEX = 3;
+    private static final int ITERATE_RANGE_END_INDEX = 4;
+
+    private static final int DEFAULT_PAGE_SIZE = 5000;
+
     private final long lookbackTimeInMs;
+    private final int pageSize;
 
     private final CqlSession session;
     private final DriverNode localNode;
@@ -81,6 +91,8 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
     {
         Preconditions.checkArgument(builder.lookbackTimeInMs > 0,
                 "Lookback time must be a positive number");
+        Preconditions.checkArgument(builder.pageSize > 0,
+                "Page size must be a positive number");
 
         session = Preconditions.checkNotNull(builder.session,
                 "Session cannot be null");
@@ -91,6 +103,7 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
         replicationState = Preconditions.checkNotNull(builder.replicationState,
                 "Replication state must be set");
         lookbackTimeInMs = builder.lookbackTimeInMs;
+        pageSize = builder.pageSize;
 
         createStatement = session.prepare(QueryBuilder.insertInto(builder.keyspaceName, "repair_history")
                         .value(COLUMN_TABLE_ID, bindMarker())
@@ -105,6 +118,7 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
                         .value(COLUMN_FINISHED_AT, bindMarker())
                 .build().setConsistencyLevel(ConsistencyLevel.LOCAL_QUORUM));
 
+        // The column order must match the ITERATE_*_INDEX constants
         iterateStatement = session.prepare(QueryBuilder.selectFrom(builder.keyspaceName, "repair_history")
                 .columns(COLUMN_STARTED_AT, COLUMN_FINISHED_AT, COLUMN_STATUS, COLUMN_RANGE_BEGIN, COLUMN_RANGE_END)
                 .whereColumn(COLUMN_TABLE_ID).isEqualTo(bindMarker())
@@ -156,23 +170,92 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
                                          final long from,
                                          final Predicate<RepairEntry> predicate)
     {
-        UUID start = Uuids.startOf(from);
-        UUID finish = Uuids.endOf(to);
+        boolean clusterWide = !nodeId.equals(localNode.getId());
+        CompletionStage<AsyncResultSet> firstPage = executeAsync(bindIterate(nodeId, tableReference, to, from));
+
+        return new RepairEntryIterator(tableReference, AsyncPagedRows.iterator(firstPage), predicate, clusterWide);
+    }
+
+    /**
+     * Iterate the repair history of a node by reading the pages of the result asynchronously.
+     * The accepted entries of a page are handed to the page consumer on the thread completing the page, the next page
+     * is fetched when the page consumer is done with them.
+     */
+    @Override
+    public CompletionStage<Void> iterateAsync(final UUID nodeId,
+                                              final TableReference tableReference,
+                                              final long to,
+                                              final long from,
+                                              final Predicate<RepairEntry> predicate,
+                                              final Function<List<RepairEntry>, CompletionStage<Void>> pageConsumer)
+    {
+        boolean clusterWide = !nodeId.equals(localNode.getId());
+
+        return AsyncPagedRows.forEachPage(executeAsync(bindIterate(nodeId, tableReference, to, from)), rows ->
+        {
+            List<RepairEntry> repairEntries = new ArrayList<>();
+            for (Row row : rows)
+            {
+                RepairEntry repairEntry = toRepairEntry(tableReference, row, clusterWide);
+                if (repairEntry != null && predicate.apply(repairEntry))
+                {
+                    repairEntries.add(repairEntry);
+                }
+            }
+            return pageConsumer.apply(repairEntries);
+        });
+    }
 
-        boolean clusterWide = false;
-        if (!nodeId.equals(localNode.getId()))
+    private Statement bindIterate(final UUID nodeId, final TableReference tableReference, final long to,
+                                  final long from)
+    {
+        return iterateStatement.bind(tableReference.getId(), nodeId, Uuids.startOf(from), Uuids.endOf(to))
+                .setPageSize(pageSize);
+    }
+
+    private RepairEntry toRepairEntry(final TableReference tableReference, final Row row, final boolean clusterWide)
+    {
+        if (!validateFields(row))
+        {
+            return null;
+        }
+
+        long rangeBegin = Long.parseLong(row.getString(ITERATE_RANGE_BEGIN_INDEX));
+        long rangeEnd = Long.parseLong(row.getString(ITERATE_RANGE_END_INDEX));
+
+        LongTokenRange tokenRange = new LongTokenRange(rangeBegin, rangeEnd);
+        long startedAt = row.getInstant(ITERATE_STARTED_AT_INDEX).toEpochMilli();
+        Instant finished = row.getInstant(ITERATE_FINISHED_AT_INDEX);
+        long finishedAt = -1L;
+        if (finished != null)
+        {
+            finishedAt = finished.toEpochMilli();
+        }
+        Set<DriverNode> nodes;
+        if (clusterWide)
+        {
+            nodes = replicationState.getNodesClusterWide(tableReference, tokenRange);
+        }
+        else
+        {
+            nodes = replicationState.getNodes(tableReference, tokenRange);
+        }
+        if (nodes == null)
         {
-            clusterWide = true;
+            LOG.debug("Token range {} was not found in metadata", tokenRange);
+            return null;
         }
-        Statement statement = iterateStatement.bind(tableReference.getId(), nodeId, start, finish);
-        ResultSet resultSet = execute(statement);
+        String status = row.getString(ITERATE_STATUS_INDEX);
 
-        return new RepairEntryIterator(tableReference, resultSet, predicate, clusterWide);
+        return new RepairEntry(tokenRange, startedAt, finishedAt, nodes, status);
     }
 
-    private ResultSet execute(final Statement statement)
+    private static boolean validateFields(final Row row)
     {
-        return session.execute(statementDecorator.apply(statement));
+        return !row.isNull(ITERATE_RANGE_BEGIN_INDEX)
+                && !row.isNull(ITERATE_RANGE_END_INDEX)
+                && !row.isNull(ITERATE_STARTED_AT_INDEX)
+                && !row.isNull(ITERATE_STATUS_INDEX);
     }
 
     private CompletionStage<AsyncResultSet> executeAsync(final Statement statement)
@@ -188,12 +271,12 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
         private final boolean clusterWide;
 
         RepairEntryIterator(final TableReference aTableReference,
-                            final ResultSet aResultSet,
+                            final Iterator<Row> aRowIterator,
                             final Predicate<RepairEntry> aPredicate,
                             final boolean isClusterWide)
         {
             this.tableReference = aTableReference;
-            this.rowIterator = aResultSet.iterator();
+            this.rowIterator = aRowIterator;
             this.predicate = aPredicate;
             this.clusterWide = isClusterWide;
         }
@@ -203,60 +286,15 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
         {
             while (rowIterator.hasNext())
             {
-                Row row = rowIterator.next();
-
-                if (validateFields(row))
+                RepairEntry repairEntry = toRepairEntry(tableReference, rowIterator.next(), clusterWide);
+                if (repairEntry != null && predicate.apply(repairEntry))
                 {
-                    RepairEntry repairEntry = buildFrom(row, clusterWide);
-                    if (repairEntry != null && predicate.apply(repairEntry))
-                    {
-                        return repairEntry;
-                    }
+                    return repairEntry;
                 }
             }
 
             return endOfData();
         }
-
-        private RepairEntry buildFrom(final Row row, final boolean isClusterWide)
-        {
-            long rangeBegin = Long.parseLong(row.getString(COLUMN_RANGE_BEGIN));
-            long rangeEnd = Long.parseLong(row.getString(COLUMN_RANGE_END));
-
-            LongTokenRange tokenRange = new LongTokenRange(rangeBegin, rangeEnd);
-            long startedAt = row.getInstant(COLUMN_STARTED_AT).toEpochMilli();
-            Instant finished = row.getInstant(COLUMN_FINISHED_AT);
-            long finishedAt = -1L;
-            if (finished != null)
-            {
-                finishedAt = finished.toEpochMilli();
-            }
-            Set<DriverNode> nodes;
-            if (isClusterWide)
-            {
-                nodes = replicationState.getNodesClusterWide(tableReference, tokenRange);
-            }
-            else
-            {
-                nodes = replicationState.getNodes(tableReference, tokenRange);
-            }
-            if (nodes == null)
-            {
-                LOG.debug("Token range {} was not found in metadata", tokenRange);
-                return null;
-            }
-            String status = row.getString(COLUMN_STATUS);
-
-            return new RepairEntry(tokenRange, startedAt, finishedAt, nodes, status);
-        }
-
-        private boolean validateFields(final Row row)
-        {
-            return !row.isNull(COLUMN_RANGE_BEGIN)
-                    && !row.isNull(COLUMN_RANGE_END)
-                    && !row.isNull(COLUMN_STARTED_AT)
-                    && !row.isNull(COLUMN_STATUS);
-        }
     }
 
     private enum SessionState
@@ -419,6 +457,7 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
         private StatementDecorator statementDecorator;
         private ReplicationState replicationState;
         private long lookbackTimeInMs;
+        private int pageSize = DEFAULT_PAGE_SIZE;
         private String keyspaceName = "ecchronos";
 
         /**
@@ -482,6 +521,18 @@ public final class EccRepairHistory implements RepairHistory, RepairHistoryProvi
             return this;
         }
 
+        /**
+         * Build ECC repair history with the page size used when iterating repair history.
+         *
+         * @param thePageSize The number of rows to fetch per page.
+         * @return Builder
+         */
+        public Builder withPageSize(final int thePageSize)
+        {
+            this.pageSize = thePageSize;
+            return this;
+        }
+
         /**
          * Build ECC repair history with keyspace.
          *
@@ -14,8 +14,13 @@
  */
 package com.ericsson.bss.cassandra.ecchronos.core.repair.state;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
 import com.google.common.base.Predicate;
@@ -62,4 +67,46 @@ public interface RepairHistoryProvider
      */
     Iterator<RepairEntry> iterate(UUID nodeId, TableReference tableReference, long to, long from,
                                   Predicate<RepairEntry> predicate);
+
+    /**
+     * Asynchronously iterate the repair history of a node for the provided table starting from the {@code from} and
+     * going backwards until {@code to}. The predicate is used to decide which repair entries should be filtered out
+     * and the accepted entries are handed to the page consumer one page at a time.
+     * <p>
+     * The next page is not read until the stage returned by the page consumer for the current page is completed,
+     * which lets the consumer apply backpressure. The page consumer may be called from a driver thread and must not
+     * block. Calls for one invocation are sequential but calls for concurrent invocations are not, so a page consumer
+     * shared between invocations must be thread safe.
+     * <p>
+     * The default implementation iterates the history synchronously and hands over one entry at a time.
+     *
+     * @param nodeId The node to iterate repair history for.
+     * @param tableReference The table for which the history should be iterated.
+     * @param to The last point in time to iterate to.
+     * @param from The point in time to start iterating from.
+     * @param predicate The predicate used to filter out entries.
+     * @param pageConsumer The consumer of the accepted entries, returning a stage completed when they are consumed.
+     * @return A stage that is completed when all accepted entries have been consumed.
+     */
+    default CompletionStage<Void> iterateAsync(final UUID nodeId,
+                                               final TableReference tableReference,
+                                               final long to,
+                                               final long from,
+                                               final Predicate<RepairEntry> predicate,
+                                               final Function<List<RepairEntry>, CompletionStage<Void>> pageConsumer)
+    {
+        try
+        {
+            Iterator<RepairEntry> repairEntries = iterate(nodeId, tableReference, to, from, predicate);
+            while (repairEntries.hasNext())
+            {
+                pageConsumer.apply(Collections.singletonList(repairEntries.next())).toCompletableFuture().join();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        catch (RuntimeException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -15,16 +15,18 @@
 package com.ericsson.bss.cassandra.ecchronos.core.repair.state;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.ericsson.bss.cassandra.ecchronos.connection.StatementDecorator;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.LongTokenRange;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.DriverNode;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.NodeResolver;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.ReplicaSets;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
 import com.google.common.collect.AbstractIterator;
 import org.slf4j.Logger;
@@ -33,11 +35,18 @@ import org.slf4j.LoggerFactory;
 import java.net.InetAddress;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * Implementation of the RepairHistoryProvider interface that retrieves the repair history from Cassandra.
@@ -46,28 +55,32 @@ public class RepairHistoryProviderImpl implements RepairHistoryProvider
 {
     private static final Logger LOG = LoggerFactory.getLogger(RepairHistoryProviderImpl.class);
 
-    private static final String RANGE_BEGIN_COLUMN = "range_begin";
-    private static final String RANGE_END_COLUMN = "range_end";
-    private static final String STATUS_COLUMN = "status";
-    private static final String PARTICIPANTS_COLUMN = "participants";
-    private static final String COORDINATOR_COLUMN = "coordinator";
-    private static final String STARTED_AT_COLUMN = "started_at";
-    private static final String FINISHED_AT_COLUMN = "finished_at";
-
     private static final String KEYSPACE_NAME = "system_distributed";
     private static final String REPAIR_HISTORY = "repair_history";
 
+    // The column order must match the *_INDEX constants
     private static final String REPAIR_HISTORY_BY_TIME_STATEMENT = String
             .format("SELECT started_at, finished_at, range_begin, range_end, status, participants, coordinator "
                     + "FROM %s.%s WHERE keyspace_name=? AND columnfamily_name=? AND id >= minTimeuuid(?) and id <= "
                     + "maxTimeuuid(?)", KEYSPACE_NAME, REPAIR_HISTORY);
 
+    private static final int STARTED_AT_INDEX = 0;
+    private static final int FINISHED_AT_INDEX = 1;
+    private static final int RANGE_BEGIN_INDEX = 2;
+    private static final int RANGE_END_INDEX = 3;
+    private static final int STATUS_INDEX = 4;
+    private static final int PARTICIPANTS_INDEX = 5;
+    private static final int COORDINATOR_INDEX = 6;
+
+    private static final int DEFAULT_PAGE_SIZE = 5000;
+
     private final NodeResolver myNodeResolver;
     private final CqlSession mySession;
     private final StatementDecorator myStatementDecorator;
 
     private final PreparedStatement myRepairHistoryByTimeStatement;
     private final long myLookbackTime;
+    private final int myPageSize;
     private final Clock myClock;
 
     public RepairHistoryProviderImpl(final NodeResolver nodeResolver,
@@ -75,7 +88,16 @@ public class RepairHistoryProviderImpl implements RepairHistoryProvider
                                      final StatementDecorator statementDecorator,
                                      final long lookbackTime)
     {
-        this(nodeResolver, session, statementDecorator, lookbackTime, Clock.systemDefaultZone());
+        this(nodeResolver, session, statementDecorator, lookbackTime, DEFAULT_PAGE_SIZE);
+    }
+
+    public RepairHistoryProviderImpl(final NodeResolver nodeResolver,
+                                     final CqlSession session,
+                                     final StatementDecorator statementDecorator,
+                                     final long lookbackTime,
+                                     final int pageSize)
+    {
+        this(nodeResolver, session, statementDecorator, lookbackTime, pageSize, Clock.systemDefaultZone());
     }
 
     @VisibleForTesting
@@ -85,11 +107,24 @@ public class RepairHistoryProviderImpl implements RepairHistoryProvider
                               final long lookbackTime,
                               final Clock clock)
     {
+        this(nodeResolver, session, statementDecorator, lookbackTime, DEFAULT_PAGE_SIZE, clock);
+    }
+
+    @VisibleForTesting
+    RepairHistoryProviderImpl(final NodeResolver nodeResolver,
+                              final CqlSession session,
+                              final StatementDecorator statementDecorator,
+                              final long lookbackTime,
+                              final int pageSize,
+                              final Clock clock)
+    {
+        Preconditions.checkArgument(pageSize > 0, "Page size must be a positive number");
         myNodeResolver = nodeResolver;
         mySession = session;
         myStatementDecorator = statementDecorator;
         myRepairHistoryByTimeStatement = mySession.prepare(REPAIR_HISTORY_BY_TIME_STATEMENT);
         myLookbackTime = lookbackTime;
+        myPageSize = pageSize;
         myClock = clock;
     }
 
@@ -114,18 +149,9 @@ public class RepairHistoryProviderImpl implements RepairHistoryProvider
                                          final long from,
                                          final Predicate<RepairEntry> predicate)
     {
-        Instant fromDate = Instant.ofEpochMilli(from);
-        Instant toDate = Instant.ofEpochMilli(to);
-        if (!fromDate.isBefore(toDate))
-        {
-            throw new IllegalArgumentException(
-                    "Invalid range when iterating " + tableReference + ", from (" + fromDate + ") to (" + toDate + ")");
-        }
-        ResultSet resultSet =
-                execute(myRepairHistoryByTimeStatement.bind(tableReference.getKeyspace(), tableReference.getTable(),
-                        fromDate, toDate));
+        CompletionStage<AsyncResultSet> firstPage = executeAsync(bindByTime(tableReference, to, from));
 
-        return new RepairEntryIterator(resultSet.iterator(), predicate);
+        return new RepairEntryIterator(AsyncPagedRows.iterator(firstPage), predicate);
     }
 
     /**
@@ -141,15 +167,68 @@ public class RepairHistoryProviderImpl implements RepairHistoryProvider
         return iterate(tableReference, to, from, predicate);
     }
 
-    private ResultSet execute(final Statement statement)
+    /**
+     * Iterate the repair history by reading the pages of the result asynchronously.
+     * The accepted entries of a page are handed to the page consumer on the thread completing the page, the next page
+     * is fetched when the page consumer is done with them.
+     */
+    @Override
+    public CompletionStage<Void> iterateAsync(final UUID nodeId,
+                                              final TableReference tableReference,
+                                              final long to,
+                                              final long from,
+                                              final Predicate<RepairEntry> predicate,
+                                              final Function<List<RepairEntry>, CompletionStage<Void>> pageConsumer)
     {
-        return mySession.execute(myStatementDecorator.apply(statement));
+        Statement statement;
+        try
+        {
+            statement = bindByTime(tableReference, to, from);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        RepairEntryReader repairEntryReader = new RepairEntryReader();
+        return AsyncPagedRows.forEachPage(executeAsync(statement), rows ->
+        {
+            List<RepairEntry> repairEntries = new ArrayList<>();
+            for (Row row : rows)
+            {
+                RepairEntry repairEntry = repairEntryReader.read(row);
+                if (repairEntry != null && predicate.apply(repairEntry))
+                {
+                    repairEntries.add(repairEntry);
+                }
+            }
+            return pageConsumer.apply(repairEntries);
+        });
+    }
+
+    private Statement bindByTime(final TableReference tableReference, final long to, final long from)
+    {
+        Instant fromDate = Instant.ofEpochMilli(from);
+        Instant toDate = Instant.ofEpochMilli(to);
+        if (!fromDate.isBefore(toDate))
+        {
+            throw new IllegalArgumentException(
+                    "Invalid range when iterating " + tableReference + ", from (" + fromDate + ") to (" + toDate + ")");
+        }
+        return myRepairHistoryByTimeStatement.bind(tableReference.getKeyspace(), tableReference.getTable(),
+                fromDate, toDate).setPageSize(myPageSize);
+    }
+
+    private CompletionStage<AsyncResultSet> executeAsync(final Statement statement)
+    {
+        return mySession.executeAsync(myStatementDecorator.apply(statement));
     }
 
     class RepairEntryIterator extends AbstractIterator<RepairEntry>
     {
         private final Iterator<Row> myIterator;
         private final Predicate<RepairEntry> myPredicate;
+        private final RepairEntryReader myRepairEntryReader = new RepairEntryReader();
 
         RepairEntryIterator(final Iterator<Row> iterator, final Predicate<RepairEntry> predicate)
         {
@@ -162,66 +241,91 @@ public class RepairHistoryProviderImpl implements RepairHistoryProvider
         {
             while (myIterator.hasNext())
             {
-                Row row = myIterator.next();
-
-                if (validateFields(row))
+                RepairEntry repairEntry = myRepairEntryReader.read(myIterator.next());
+                if (repairEntry != null && myPredicate.apply(repairEntry))
                 {
-                    long rangeBegin = Long.parseLong(row.getString(RANGE_BEGIN_COLUMN));
-                    long rangeEnd = Long.parseLong(row.getString(RANGE_END_COLUMN));
-
-                    LongTokenRange tokenRange = new LongTokenRange(rangeBegin, rangeEnd);
-                    Set<InetAddress> participants = row.getSet(PARTICIPANTS_COLUMN, InetAddress.class);
-                    Set<DriverNode> nodes = new HashSet<>();
-                    InetAddress coordinator = row.get(COORDINATOR_COLUMN, InetAddress.class);
-                    Optional<DriverNode> coordinatorNode = myNodeResolver.fromIp(coordinator);
-                    if (!coordinatorNode.isPresent())
-                    {
-                        LOG.warn("Coordinator node {} not found in metadata", coordinator);
-                    }
-                    else
-                    {
-                        nodes.add(coordinatorNode.get());
-                    }
-                    for (InetAddress participant : participants)
-                    {
-                        Optional<DriverNode> node = myNodeResolver.fromIp(participant);
-                        if (!node.isPresent())
-                        {
-                            LOG.warn("Node {} not found in metadata", participant);
-                        }
-                        else
-                        {
-                            nodes.add(node.get());
-                        }
-                    }
-                    String status = row.getString(STATUS_COLUMN);
-                    long startedAt = row.getInstant(STARTED_AT_COLUMN).toEpochMilli();
-                    Instant finished = row.getInstant(FINISHED_AT_COLUMN);
-                    long finishedAt = -1L;
-                    if (finished != null)
-                    {
-                        finishedAt = finished.toEpochMilli();
-                    }
-
-                    RepairEntry repairEntry = new RepairEntry(tokenRange, startedAt, finishedAt, nodes, status);
-
-                    if (myPredicate.apply(repairEntry))
-                    {
-                        return repairEntry;
-                    }
+                    return repairEntry;
                 }
             }
 
             return endOfData();
         }
+    }
+
+    /**
+     * Reads repair entries from the rows of one iteration.
+     * <p>
+     * The nodes of each distinct coordinator and participants combination are resolved once per iteration since the
+     * same replica sets are repeated for every repair of the table.
+     */
+    private final class RepairEntryReader
+    {
+        private final Map<Participants, Set<DriverNode>> myResolvedNodes = new HashMap<>();
+
+        RepairEntry read(final Row row)
+        {
+            if (!validateFields(row))
+            {
+                return null;
+            }
+
+            long rangeBegin = Long.parseLong(row.getString(RANGE_BEGIN_INDEX));
+            long rangeEnd = Long.parseLong(row.getString(RANGE_END_INDEX));
+
+            LongTokenRange tokenRange = new LongTokenRange(rangeBegin, rangeEnd);
+            Participants participants = new Participants(row.get(COORDINATOR_INDEX, InetAddress.class),
+                    row.getSet(PARTICIPANTS_INDEX, InetAddress.class));
+            Set<DriverNode> nodes = myResolvedNodes.computeIfAbsent(participants, p -> resolve(p));
+            String status = row.getString(STATUS_INDEX);
+            long startedAt = row.getInstant(STARTED_AT_INDEX).toEpochMilli();
+            Instant finished = row.getInstant(FINISHED_AT_INDEX);
+            long finishedAt = -1L;
+            if (finished != null)
+            {
+                finishedAt = finished.toEpochMilli();
+            }
+
+            return new RepairEntry(tokenRange, startedAt, finishedAt, nodes, status);
+        }
+
+        private Set<DriverNode> resolve(final Participants participants)
+        {
+            Set<DriverNode> nodes = new HashSet<>();
+            Optional<DriverNode> coordinatorNode = myNodeResolver.fromIp(participants.coordinator());
+            if (!coordinatorNode.isPresent())
+            {
+                LOG.warn("Coordinator node {} not found in metadata", participants.coordinator());
+            }
+            else
+            {
+                nodes.add(coordinatorNode.get());
+            }
+            for (InetAddress participant : participants.participants())
+            {
+                Optional<DriverNode> node = myNodeResolver.fromIp(participant);
+                if (!node.isPresent())
+                {
+                    LOG.warn("Node {} not found in metadata", participant);
+                }
+                else
+                {
+                    nodes.add(node.get());
+                }
+            }
+            return ReplicaSets.intern(nodes);
+        }
 
         private boolean validateFields(final Row row)
         {
-            return !row.isNull(PARTICIPANTS_COLUMN)
-                    && !row.isNull(RANGE_BEGIN_COLUMN)
-                    && !row.isNull(RANGE_END_COLUMN)
-                    && !row.isNull(COORDINATOR_COLUMN)
-                    && !row.isNull(STARTED_AT_COLUMN);
+            return !row.isNull(PARTICIPANTS_INDEX)
+                    && !row.isNull(RANGE_BEGIN_INDEX)
+                    && !row.isNull(RANGE_END_INDEX)
+                    && !row.isNull(COORDINATOR_INDEX)
+                    && !row.isNull(STARTED_AT_INDEX);
         }
     }
+
+    private record Participants(InetAddress coordinator, Set<InetAddress> participants)
+    {
+    }
 }
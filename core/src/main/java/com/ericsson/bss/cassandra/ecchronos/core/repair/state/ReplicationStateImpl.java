@@ -34,7 +34,9 @@ import org.slf4j.LoggerFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.LongTokenRange;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.DriverNode;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.NodeResolver;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.ReplicaSets;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.TokenRangeIndex;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
@@ -47,10 +49,8 @@ public class ReplicationStateImpl implements ReplicationState
 {
     private static final Logger LOG = LoggerFactory.getLogger(ReplicationStateImpl.class);
 
-    private static final Map<String, Map<LongTokenRange, Set<DriverNode>>>
-            KEYSPACE_REPLICATION_CACHE = new ConcurrentHashMap<>();
-    private static final Map<String, Map<LongTokenRange, Set<DriverNode>>>
-            CLUSTER_WIDE_KEYSPACE_REPLICATION_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Replication> KEYSPACE_REPLICATION_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Replication> CLUSTER_WIDE_KEYSPACE_REPLICATION_CACHE = new ConcurrentHashMap<>();
 
     private final NodeResolver myNodeResolver;
     private final CqlSession mySession;
@@ -71,8 +71,7 @@ public class ReplicationStateImpl implements ReplicationState
     {
         String keyspace = tableReference.getKeyspace();
 
-        Map<LongTokenRange, Set<DriverNode>> replication = maybeRenew(keyspace);
-        return getNodes(replication, tokenRange);
+        return maybeRenew(keyspace).myTokenRangeIndex.getCovering(tokenRange);
     }
 
     /**
@@ -99,28 +98,7 @@ public class ReplicationStateImpl implements ReplicationState
     {
         String keyspace = tableReference.getKeyspace();
 
-        Map<LongTokenRange, Set<DriverNode>> replication = maybeRenewClusterWide(keyspace);
-        return getNodes(replication, tokenRange);
-    }
-
-    private Set<DriverNode> getNodes(final Map<LongTokenRange, Set<DriverNode>> replication,
-                                              final LongTokenRange tokenRange)
-    {
-        Set<DriverNode> nodes = replication.get(tokenRange);
-
-        if (nodes == null)
-        {
-            for (Map.Entry<LongTokenRange, Set<DriverNode>> entry : replication.entrySet())
-            {
-                if (entry.getKey().isCovering(tokenRange))
-                {
-                    nodes = entry.getValue();
-                    break;
-                }
-            }
-        }
-
-        return nodes;
+        return maybeRenewClusterWide(keyspace).myTokenRangeIndex.getCovering(tokenRange);
     }
 
     /**
@@ -134,14 +112,12 @@ public class ReplicationStateImpl implements ReplicationState
     public Map<LongTokenRange, Set<DriverNode>> getTokenRangeToReplicas(final TableReference tableReference)
     {
         String keyspace = tableReference.getKeyspace();
-        return maybeRenew(keyspace);
+        return maybeRenew(keyspace).myTokenRangeToReplicas;
     }
 
-    private Map<LongTokenRange, Set<DriverNode>> maybeRenew(final String keyspace)
+    private Replication maybeRenew(final String keyspace)
     {
-        Map<LongTokenRange, Set<DriverNode>> replication = buildTokenMap(keyspace, false);
-
-        return KEYSPACE_REPLICATION_CACHE.compute(keyspace, (k, v) -> !replication.equals(v) ? replication : v);
+        return maybeRenew(KEYSPACE_REPLICATION_CACHE, keyspace, false);
     }
 
     /**
@@ -154,43 +130,81 @@ public class ReplicationStateImpl implements ReplicationState
     public Map<LongTokenRange, Set<DriverNode>> getTokenRanges(final TableReference tableReference)
     {
         String keyspace = tableReference.getKeyspace();
-        return maybeRenewClusterWide(keyspace);
+        return maybeRenewClusterWide(keyspace).myTokenRangeToReplicas;
+    }
+
+    private Replication maybeRenewClusterWide(final String keyspace)
+    {
+        return maybeRenew(CLUSTER_WIDE_KEYSPACE_REPLICATION_CACHE, keyspace, true);
     }
 
-    private Map<LongTokenRange, Set<DriverNode>> maybeRenewClusterWide(final String keyspace)
+    /**
+     * Get the replication of the keyspace, only rebuilding it if the token map has changed since it was cached.
+     * <p>
+     * The driver replaces the token map when the topology, the tokens or the replication of a keyspace change.
+     * If the rebuilt replication is equal to the cached one the cached instance is kept so that callers holding
+     * on to it can compare it by reference.
+     */
+    private Replication maybeRenew(final Map<String, Replication> cache,
+                                   final String keyspace,
+                                   final boolean clusterWide)
     {
-        Map<LongTokenRange, Set<DriverNode>> replication = buildTokenMap(keyspace, true);
+        TokenMap tokenMap = getTokenMap();
+
+        Replication cached = cache.get(keyspace);
+        if (cached != null && cached.myTokenMap == tokenMap)
+        {
+            return cached;
+        }
+
+        return cache.compute(keyspace, (k, v) ->
+        {
+            if (v != null && v.myTokenMap == tokenMap)
+            {
+                return v;
+            }
 
-        return CLUSTER_WIDE_KEYSPACE_REPLICATION_CACHE
-                .compute(keyspace, (k, v) -> !replication.equals(v) ? replication : v);
+            Map<LongTokenRange, Set<DriverNode>> replication = buildTokenMap(tokenMap, keyspace, clusterWide);
+            if (v != null && v.myTokenRangeToReplicas.equals(replication))
+            {
+                return new Replication(tokenMap, v);
+            }
+            return new Replication(tokenMap, replication);
+        });
     }
 
-    private Map<LongTokenRange, Set<DriverNode>> buildTokenMap(final String keyspace,
-                                                                                 final boolean clusterWide)
+    private TokenMap getTokenMap()
     {
-        ImmutableMap.Builder<LongTokenRange, Set<DriverNode>> replicationBuilder = ImmutableMap.builder();
-        Map<Set<Node>, Set<DriverNode>> replicaCache = new HashMap<>();
         Metadata metadata = mySession.getMetadata();
         Optional<TokenMap> tokenMap = metadata.getTokenMap();
         if (!tokenMap.isPresent())
         {
             throw new IllegalStateException("Cannot determine ranges, is metadata/tokenMap disabled?");
         }
+        return tokenMap.get();
+    }
+
+    private Map<LongTokenRange, Set<DriverNode>> buildTokenMap(final TokenMap tokenMap,
+                                                               final String keyspace,
+                                                               final boolean clusterWide)
+    {
+        ImmutableMap.Builder<LongTokenRange, Set<DriverNode>> replicationBuilder = ImmutableMap.builder();
+        Map<Set<Node>, Set<DriverNode>> replicaCache = new HashMap<>();
         String keyspaceName = quoteIfNeeded(keyspace);
         Set<TokenRange> tokenRanges;
         if (clusterWide)
         {
-            tokenRanges = tokenMap.get().getTokenRanges();
+            tokenRanges = tokenMap.getTokenRanges();
         }
         else
         {
-            tokenRanges = tokenMap.get().getTokenRanges(keyspaceName, myLocalNode);
+            tokenRanges = tokenMap.getTokenRanges(keyspaceName, myLocalNode);
         }
         for (TokenRange tokenRange : tokenRanges)
         {
             LongTokenRange longTokenRange = convert(tokenRange);
             Set<DriverNode> replicas
-                    = replicaCache.computeIfAbsent(tokenMap.get().getReplicas(keyspaceName, tokenRange), this::convert);
+                    = replicaCache.computeIfAbsent(tokenMap.getReplicas(keyspaceName, tokenRange), this::convert);
 
             replicationBuilder.put(longTokenRange, replicas);
         }
@@ -221,7 +235,7 @@ public class ReplicationStateImpl implements ReplicationState
                 LOG.warn("Could not determine broadcast address for node {}", node.getHostId());
             }
         }
-        return builder.build();
+        return ReplicaSets.intern(builder.build());
     }
 
     private LongTokenRange convert(final TokenRange range)
@@ -231,4 +245,29 @@ public class ReplicationStateImpl implements ReplicationState
         long end = ((Murmur3Token) range.getEnd()).getValue();
         return new LongTokenRange(start, end);
     }
+
+    /**
+     * The token ranges of a keyspace together with an index used to look up sub ranges and the token map they were
+     * calculated from.
+     */
+    private static final class Replication
+    {
+        private final TokenMap myTokenMap;
+        private final Map<LongTokenRange, Set<DriverNode>> myTokenRangeToReplicas;
+        private final TokenRangeIndex<Set<DriverNode>> myTokenRangeIndex;
+
+        Replication(final TokenMap tokenMap, final Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicas)
+        {
+            myTokenMap = tokenMap;
+            myTokenRangeToReplicas = tokenRangeToReplicas;
+            myTokenRangeIndex = TokenRangeIndex.of(tokenRangeToReplicas);
+        }
+
+        Replication(final TokenMap tokenMap, final Replication unchanged)
+        {
+            myTokenMap = tokenMap;
+            myTokenRangeToReplicas = unchanged.myTokenRangeToReplicas;
+            myTokenRangeIndex = unchanged.myTokenRangeIndex;
+        }
+    }
 }
@@ -17,6 +17,9 @@ package com.ericsson.bss.cassandra.ecchronos.core.repair.state;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.LongTokenRange;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.DriverNode;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.TokenRangeIndex;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +29,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 /**
  * A repair state factory which uses a {@link RepairHistoryProvider} to determine repair state.
@@ -34,17 +43,40 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
 {
     private static final Logger LOG = LoggerFactory.getLogger(VnodeRepairStateFactoryImpl.class);
 
+    private static final int DEFAULT_MAX_CONCURRENT_HISTORY_QUERIES = 16;
+
     private final ReplicationState myReplicationState;
     private final RepairHistoryProvider myRepairHistoryProvider;
     private final boolean useSubRanges;
+    private final int myMaxConcurrentHistoryQueries;
 
     public VnodeRepairStateFactoryImpl(final ReplicationState replicationState,
                                        final RepairHistoryProvider repairHistoryProvider,
                                        final boolean toUseSubRanges)
     {
+        this(replicationState, repairHistoryProvider, toUseSubRanges, DEFAULT_MAX_CONCURRENT_HISTORY_QUERIES);
+    }
+
+    /**
+     * Create a repair state factory.
+     *
+     * @param replicationState The replication state.
+     * @param repairHistoryProvider The repair history provider.
+     * @param toUseSubRanges If sub ranges are used.
+     * @param maxConcurrentHistoryQueries The maximum number of nodes to read repair history for concurrently when
+     *                                    calculating the cluster wide state.
+     */
+    public VnodeRepairStateFactoryImpl(final ReplicationState replicationState,
+                                       final RepairHistoryProvider repairHistoryProvider,
+                                       final boolean toUseSubRanges,
+                                       final int maxConcurrentHistoryQueries)
+    {
+        Preconditions.checkArgument(maxConcurrentHistoryQueries > 0,
+                "Max concurrent history queries must be a positive number");
         myReplicationState = replicationState;
         myRepairHistoryProvider = repairHistoryProvider;
         this.useSubRanges = toUseSubRanges;
+        myMaxConcurrentHistoryQueries = maxConcurrentHistoryQueries;
     }
 
     /**
@@ -56,6 +88,7 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
     {
         Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicaMap
                 = myReplicationState.getTokenRangeToReplicas(tableReference);
+        TokenRangeIndex<Set<DriverNode>> tokenRangeIndex = TokenRangeIndex.of(tokenRangeToReplicaMap);
         long lastRepairedAt = previousLastRepairedAt(previous, tokenRangeToReplicaMap);
 
         Iterator<RepairEntry> repairEntryIterator;
@@ -64,17 +97,18 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
         {
             LOG.debug("No last repaired at found for {}, iterating over all repair entries", tableReference);
             repairEntryIterator = myRepairHistoryProvider.iterate(tableReference, iterateToTime,
-                    (repairEntry) -> acceptRepairEntries(repairEntry, tokenRangeToReplicaMap));
+                    (repairEntry) -> acceptRepairEntries(repairEntry, tokenRangeIndex));
         }
         else
         {
             LOG.debug("Table {} snapshot created at {}, iterating repair entries until that time", tableReference,
                     previous.getCreatedAt());
             repairEntryIterator = myRepairHistoryProvider.iterate(tableReference, iterateToTime,
-                    previous.getCreatedAt(), (repairEntry) -> acceptRepairEntries(repairEntry, tokenRangeToReplicaMap));
+                    previous.getCreatedAt(), (repairEntry) -> acceptRepairEntries(repairEntry, tokenRangeIndex));
         }
 
-        return generateVnodeRepairStates(lastRepairedAt, previous, repairEntryIterator, tokenRangeToReplicaMap);
+        return generateVnodeRepairStates(lastRepairedAt, previous, repairEntryIterator, tokenRangeToReplicaMap,
+                tokenRangeIndex);
     }
 
     /**
@@ -87,10 +121,11 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
     {
         Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicaMap
                 = myReplicationState.getTokenRangeToReplicas(tableReference);
+        TokenRangeIndex<Set<DriverNode>> tokenRangeIndex = TokenRangeIndex.of(tokenRangeToReplicaMap);
         Iterator<RepairEntry> repairEntryIterator = myRepairHistoryProvider.iterate(tableReference, to, from,
-                (repairEntry) -> acceptRepairEntries(repairEntry, tokenRangeToReplicaMap));
+                (repairEntry) -> acceptRepairEntries(repairEntry, tokenRangeIndex));
         return generateVnodeRepairStates(VnodeRepairState.UNREPAIRED,
-                null, repairEntryIterator, tokenRangeToReplicaMap);
+                null, repairEntryIterator, tokenRangeToReplicaMap, tokenRangeIndex);
     }
 
     /**
@@ -102,27 +137,51 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
                                                        final long from)
     {
         Map<LongTokenRange, Set<DriverNode>> tokenRanges = myReplicationState.getTokenRanges(tableReference);
+        TokenRangeIndex<Set<DriverNode>> tokenRangeIndex = TokenRangeIndex.of(tokenRanges);
         Set<DriverNode> allNodes = new HashSet<>();
         tokenRanges.values().forEach(n -> allNodes.addAll(n));
-        List<RepairEntry> allRepairEntries = new ArrayList<>();
+
+        // The history of each node is read concurrently, the pages are handed over to this thread to be merged
+        VnodeRepairStates.Builder vnodeRepairStatusesBuilder = newBuilder(VnodeRepairState.UNREPAIRED, null,
+                tokenRanges);
+        RepairHistoryMerger repairHistoryMerger = new RepairHistoryMerger(
+                (repairEntry) -> updateVnodeRepairState(vnodeRepairStatusesBuilder, repairEntry, tokenRangeIndex));
         for (DriverNode node : allNodes)
         {
-            Iterator<RepairEntry> repairEntryIterator = myRepairHistoryProvider.iterate(node.getId(),
-                    tableReference, to, from, (repairEntry) -> acceptRepairEntries(repairEntry, tokenRanges));
-            while (repairEntryIterator.hasNext())
+            while (repairHistoryMerger.getRunningQueries() >= myMaxConcurrentHistoryQueries)
             {
-                RepairEntry repairEntry = repairEntryIterator.next();
-                allRepairEntries.add(repairEntry);
+                repairHistoryMerger.awaitEvent();
             }
+            repairHistoryMerger.started(myRepairHistoryProvider.iterateAsync(node.getId(), tableReference, to, from,
+                    (repairEntry) -> acceptRepairEntries(repairEntry, tokenRangeIndex),
+                    repairHistoryMerger::mergePage));
         }
-        return generateVnodeRepairStates(VnodeRepairState.UNREPAIRED, null, allRepairEntries.iterator(), tokenRanges);
+        repairHistoryMerger.awaitCompletion();
+
+        return vnodeRepairStatusesBuilder.build();
     }
 
     private VnodeRepairStates generateVnodeRepairStates(final long lastRepairedAt,
                                                         final RepairStateSnapshot previous,
                                                         final Iterator<RepairEntry> repairEntryIterator,
                                                         final Map<LongTokenRange, Set<DriverNode>>
-                                                                tokenRangeToReplicaMap)
+                                                                tokenRangeToReplicaMap,
+                                                        final TokenRangeIndex<Set<DriverNode>> tokenRangeIndex)
+    {
+        VnodeRepairStates.Builder vnodeRepairStatusesBuilder = newBuilder(lastRepairedAt, previous,
+                tokenRangeToReplicaMap);
+
+        while (repairEntryIterator.hasNext())
+        {
+            updateVnodeRepairState(vnodeRepairStatusesBuilder, repairEntryIterator.next(), tokenRangeIndex);
+        }
+
+        return vnodeRepairStatusesBuilder.build();
+    }
+
+    private VnodeRepairStates.Builder newBuilder(final long lastRepairedAt,
+                                                 final RepairStateSnapshot previous,
+                                                 final Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicaMap)
     {
         List<VnodeRepairState> vnodeRepairStatesBase = new ArrayList<>();
 
@@ -148,19 +207,20 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
             vnodeRepairStatusesBuilder.updateVnodeRepairStates(previous.getVnodeRepairStates().getVnodeRepairStates());
         }
 
-        while (repairEntryIterator.hasNext())
-        {
-            RepairEntry repairEntry = repairEntryIterator.next();
-            LongTokenRange longTokenRange = repairEntry.getRange();
-            Set<DriverNode> replicas = getReplicasForRange(longTokenRange, tokenRangeToReplicaMap);
+        return vnodeRepairStatusesBuilder;
+    }
 
-            VnodeRepairState vnodeRepairState = new VnodeRepairState(longTokenRange,
-                    replicas, repairEntry.getStartedAt(), repairEntry.getFinishedAt());
+    private void updateVnodeRepairState(final VnodeRepairStates.Builder vnodeRepairStatusesBuilder,
+                                        final RepairEntry repairEntry,
+                                        final TokenRangeIndex<Set<DriverNode>> tokenRangeIndex)
+    {
+        LongTokenRange longTokenRange = repairEntry.getRange();
+        Set<DriverNode> replicas = getReplicasForRange(longTokenRange, tokenRangeIndex);
 
-            vnodeRepairStatusesBuilder.updateVnodeRepairState(vnodeRepairState);
-        }
+        VnodeRepairState vnodeRepairState = new VnodeRepairState(longTokenRange,
+                replicas, repairEntry.getStartedAt(), repairEntry.getFinishedAt());
 
-        return vnodeRepairStatusesBuilder.build();
+        vnodeRepairStatusesBuilder.updateVnodeRepairState(vnodeRepairState);
     }
 
     private long previousLastRepairedAt(final RepairStateSnapshot previous,
@@ -193,7 +253,7 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
     }
 
     private boolean acceptRepairEntries(final RepairEntry repairEntry,
-                                        final Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicaMap)
+                                        final TokenRangeIndex<Set<DriverNode>> tokenRangeIndex)
     {
         if (RepairStatus.SUCCESS != repairEntry.getStatus())
         {
@@ -203,7 +263,7 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
 
         LongTokenRange repairedRange = repairEntry.getRange();
 
-        Set<DriverNode> nodes = getReplicasForRange(repairedRange, tokenRangeToReplicaMap);
+        Set<DriverNode> nodes = getReplicasForRange(repairedRange, tokenRangeIndex);
         if (nodes == null)
         {
             LOG.trace("Ignoring entry {}, replicas not present in tokenRangeToReplicas", repairEntry);
@@ -220,22 +280,114 @@ public class VnodeRepairStateFactoryImpl implements VnodeRepairStateFactory
     }
 
     private Set<DriverNode> getReplicasForRange(final LongTokenRange range,
-                                                         final Map<LongTokenRange, Set<DriverNode>>
-                                                                 tokenRangeToReplicaMap)
+                                                final TokenRangeIndex<Set<DriverNode>> tokenRangeIndex)
     {
-        Set<DriverNode> nodes = tokenRangeToReplicaMap.get(range);
-        if (nodes == null && useSubRanges)
+        if (useSubRanges)
         {
-            for (Map.Entry<LongTokenRange, Set<DriverNode>> vnode : tokenRangeToReplicaMap.entrySet())
+            return tokenRangeIndex.getCovering(range);
+        }
+
+        return tokenRangeIndex.get(range);
+    }
+
+    /**
+     * Merges pages of repair history read by concurrent queries on the thread that created it.
+     * <p>
+     * Pages read on other threads are queued and the stage returned for them is completed once they are merged,
+     * so each query has at most one page waiting to be merged. Pages read on the merging thread itself are merged
+     * directly.
+     */
+    private static final class RepairHistoryMerger
+    {
+        private final BlockingQueue<Runnable> myEvents = new LinkedBlockingQueue<>();
+        private final Consumer<RepairEntry> myRepairEntryConsumer;
+        private final Thread myMergingThread = Thread.currentThread();
+        private int myRunningQueries;
+        private Throwable myFailure;
+
+        RepairHistoryMerger(final Consumer<RepairEntry> repairEntryConsumer)
+        {
+            myRepairEntryConsumer = repairEntryConsumer;
+        }
+
+        void started(final CompletionStage<Void> query)
+        {
+            myRunningQueries++;
+            query.whenComplete((v, t) -> myEvents.add(() -> queryCompleted(t)));
+        }
+
+        int getRunningQueries()
+        {
+            return myRunningQueries;
+        }
+
+        CompletionStage<Void> mergePage(final List<RepairEntry> repairEntries)
+        {
+            CompletableFuture<Void> merged = new CompletableFuture<>();
+            if (Thread.currentThread() == myMergingThread)
+            {
+                merge(repairEntries, merged);
+            }
+            else
+            {
+                myEvents.add(() -> merge(repairEntries, merged));
+            }
+            return merged;
+        }
+
+        /**
+         * Wait for and handle the next page or completed query.
+         */
+        void awaitEvent()
+        {
+            Uninterruptibles.takeUninterruptibly(myEvents).run();
+        }
+
+        /**
+         * Wait for all queries to complete.
+         *
+         * @throws RuntimeException The failure of a query.
+         */
+        void awaitCompletion()
+        {
+            while (myRunningQueries > 0)
             {
-                if (vnode.getKey().isCovering(range))
+                awaitEvent();
+            }
+
+            if (myFailure != null)
+            {
+                Throwable cause = myFailure instanceof CompletionException && myFailure.getCause() != null
+                        ? myFailure.getCause()
+                        : myFailure;
+                if (cause instanceof RuntimeException)
                 {
-                    nodes = vnode.getValue();
-                    break;
+                    throw (RuntimeException) cause;
                 }
+                throw new CompletionException(cause);
             }
         }
 
-        return nodes;
+        private void merge(final List<RepairEntry> repairEntries, final CompletableFuture<Void> merged)
+        {
+            try
+            {
+                repairEntries.forEach(myRepairEntryConsumer);
+                merged.complete(null);
+            }
+            catch (RuntimeException e)
+            {
+                merged.completeExceptionally(e);
+            }
+        }
+
+        private void queryCompleted(final Throwable failure)
+        {
+            myRunningQueries--;
+            if (failure != null && myFailure == null)
+            {
+                myFailure = failure;
+            }
+        }
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.scheduling;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+/**
+ * An earliest deadline first job comparator that can be used instead of the {@link DefaultJobComparator}.
+ * <p>
+ * This comparator compares jobs based on their {@link ScheduledJob#getDeadline() deadline} and if equal, falls back to
+ * the {@link DefaultJobComparator}.
+ */
+public class DeadlineJobComparator implements Comparator<ScheduledJob>, Serializable
+{
+    private static final long serialVersionUID = -4630591390622164935L;
+
+    private final DefaultJobComparator myPriorityComparator = new DefaultJobComparator();
+
+    @Override
+    public final int compare(final ScheduledJob j1, final ScheduledJob j2)
+    {
+        int result = Long.compare(j1.getDeadline(), j2.getDeadline());
+
+        if (result == 0)
+        {
+            result = myPriorityComparator.compare(j1, j2);
+        }
+
+        return result;
+    }
+}
@@ -15,8 +15,12 @@
 package com.ericsson.bss.cassandra.ecchronos.core.scheduling;
 
 import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
 
@@ -42,6 +46,37 @@ public interface LockFactory
     DistributedLock tryLock(String dataCenter, String resource, int priority, Map<String, String> metadata)
             throws LockException;
 
+    /**
+     * Try to lock a distributed resource using the provided priority without blocking the calling thread.
+     * <p>
+     * The returned stage completes exceptionally with a {@link LockException} if the resource could not be locked.
+     * By default this delegates to {@link #tryLock(String, String, int, Map)} in the calling thread.
+     *
+     * @param dataCenter
+     *            The data center the lock belongs to or null if it's a global lock.
+     * @param resource
+     *            The resource to lock.
+     * @param priority
+     *            The priority of the lock.
+     * @param metadata
+     *            The metadata of the lock.
+     * @return A stage completing with the lock if able to lock the resource.
+     */
+    default CompletionStage<DistributedLock> tryLockAsync(String dataCenter,
+                                                          String resource,
+                                                          int priority,
+                                                          Map<String, String> metadata)
+    {
+        try
+        {
+            return CompletableFuture.completedFuture(tryLock(dataCenter, resource, priority, metadata));
+        }
+        catch (LockException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Get the metadata of a resource lock.
      *
@@ -81,6 +116,30 @@ public interface LockFactory
         return Optional.empty();
     }
 
+    /**
+     * Register a listener that is notified when a resource that this node failed to lock might be available again.
+     * <p>
+     * By default no notifications are sent and waiters have to retry on their own.
+     *
+     * @param listener The listener to notify.
+     */
+    default void addLockReleaseListener(Runnable listener)
+    {
+        // NOOP
+    }
+
+    /**
+     * Get the status of the locks known to this factory, ordered by the number of contentions seen by this node.
+     * <p>
+     * By default no lock statuses are available.
+     *
+     * @return The lock statuses.
+     */
+    default List<LockStatus> getLockStatuses()
+    {
+        return Collections.emptyList();
+    }
+
     /**
      * A locked resource that gets released by the call of the {@link DistributedLock#close() close()} method.
      */
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.scheduling;
+
+import java.util.Map;
+
+/**
+ * The status of a lock resource.
+ *
+ * @param resource The resource.
+ * @param holder The node currently holding the lock or null if the lock is not held.
+ * @param metadata The metadata of the lock if it is held.
+ * @param leaseExpiresInSeconds The number of seconds until the lease of the lock expires unless renewed,
+ *                              0 if the lock is not held.
+ * @param contentions The number of times this node failed to acquire the lock since it was started.
+ */
+public record LockStatus(
+    String resource,
+    String holder,
+    Map<String, String> metadata,
+    long leaseExpiresInSeconds,
+    long contentions
+)
+{
+}
@@ -33,12 +33,20 @@ public interface ScheduleManager
     void deschedule(ScheduledJob job);
 
     /**
-     * Retrieves the current status of the job being managed by this scheduler.
+     * Reevaluate the provided job before its next eligible time since its state has changed.
+     *
+     * @param job
+     *            The job to reevaluate.
+     */
+    void reschedule(ScheduledJob job);
+
+    /**
+     * Retrieves the current status of the jobs being managed by this scheduler.
      * <p>
      * It's intended for monitoring and logging purposes, allowing users to query the job's current state
-     * without affecting its execution.
+     * without affecting its execution. When several jobs are running concurrently there is one line per job.
      *
-     * @return A {@code String} representing the current status of the job.
+     * @return A {@code String} representing the current status of the jobs.
      */
     String getCurrentJobStatus();
 }
@@ -15,12 +15,29 @@
 package com.ericsson.bss.cassandra.ecchronos.core.scheduling;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
 import com.google.common.annotations.VisibleForTesting;
@@ -31,47 +48,96 @@ import org.slf4j.LoggerFactory;
 
 /**
  * ScheduleManager handles the run scheduler and update scheduler.
+ * <p>
+ * By default the queue is checked with a fixed delay. When wake-up on events is enabled the run task is also triggered
+ * directly when a job is scheduled, when a job has been executed and its locks released, when the lock factory reports
+ * that a resource this node failed to lock has been released and when a job that was rejected by a run policy becomes
+ * runnable again. In that mode the fixed delay only acts as a safety net.
+ * <p>
+ * Jobs are executed in one or more execution slots. Each slot retrieves the next job from the queue, takes the locks
+ * for its tasks and runs them independently of the other slots. A job is only executed by one slot at a time.
+ * <p>
+ * When lock prefetching is enabled a slot acquires the locks of the upcoming tasks of a job in the background while the
+ * current task is running. Only tasks that {@link ScheduledTask#canLockConcurrentlyWith(ScheduledTask) can be locked
+ * concurrently} with the running and already prefetched tasks are prefetched. Prefetched locks that are not used, e.g.
+ * because the job is stopped by a run policy, are released.
  */
 public final class ScheduleManagerImpl implements ScheduleManager, Closeable
 {
     private static final Logger LOG = LoggerFactory.getLogger(ScheduleManagerImpl.class);
 
     static final long DEFAULT_RUN_DELAY_IN_MS = TimeUnit.SECONDS.toMillis(30);
+    static final int DEFAULT_EXECUTION_SLOTS = 1;
+    static final int DEFAULT_LOCK_PREFETCH = 0;
 
     private static final String NO_RUNNING_JOB = "No job is currently running";
 
-    private final ScheduledJobQueue myQueue = new ScheduledJobQueue(new DefaultJobComparator());
-    private final AtomicReference<ScheduledJob> currentExecutingJob = new AtomicReference<>();
+    private final ScheduledJobQueue myQueue;
     private final Set<RunPolicy> myRunPolicies = Sets.newConcurrentHashSet();
-    private final ScheduledFuture<?> myRunFuture;
+    private final Set<ScheduledJob> myExecutingJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<ScheduledFuture<?>> myRunFutures = new ArrayList<>();
+    private final AtomicLong myNextTimedWakeUp = new AtomicLong(Long.MAX_VALUE);
 
-    private final JobRunTask myRunTask = new JobRunTask();
+    private final List<JobRunTask> myRunTasks;
     private final LockFactory myLockFactory;
-    private final ScheduledExecutorService myExecutor = Executors.newSingleThreadScheduledExecutor(
-            new ThreadFactoryBuilder().setNameFormat("TaskExecutor-%d").build());
+    private final boolean myWakeUpOnEvents;
+    private final ScheduledExecutorService myExecutor;
+    private final int myLockPrefetch;
+    private final ExecutorService myLockPrefetchExecutor;
 
     private ScheduleManagerImpl(final Builder builder)
     {
+        myQueue = new ScheduledJobQueue(builder.myJobComparator, new ExecutingJobClaims());
         myLockFactory = builder.myLockFactory;
-        myRunFuture = myExecutor.scheduleWithFixedDelay(myRunTask,
-                builder.myRunIntervalInMs,
-                builder.myRunIntervalInMs,
-                TimeUnit.MILLISECONDS);
+        myWakeUpOnEvents = builder.myWakeUpOnEvents;
+        myExecutor = Executors.newScheduledThreadPool(builder.myExecutionSlots,
+                new ThreadFactoryBuilder().setNameFormat("TaskExecutor-%d").build());
+        myLockPrefetch = builder.myLockPrefetch;
+        if (myLockPrefetch > 0)
+        {
+            myLockPrefetchExecutor = Executors.newFixedThreadPool(builder.myExecutionSlots * myLockPrefetch,
+                    new ThreadFactoryBuilder().setNameFormat("LockPrefetcher-%d").build());
+        }
+        else
+        {
+            myLockPrefetchExecutor = null;
+        }
+
+        List<JobRunTask> runTasks = new ArrayList<>();
+        for (int slot = 0; slot < builder.myExecutionSlots; slot++)
+        {
+            JobRunTask runTask = new JobRunTask(slot);
+            runTasks.add(runTask);
+
+            // Spread out the slots so that they don't all check the queue at the same time
+            long initialDelay = builder.myRunIntervalInMs + builder.myRunIntervalInMs * slot / builder.myExecutionSlots;
+            myRunFutures.add(myExecutor.scheduleWithFixedDelay(runTask,
+                    initialDelay,
+                    builder.myRunIntervalInMs,
+                    TimeUnit.MILLISECONDS));
+        }
+        myRunTasks = Collections.unmodifiableList(runTasks);
+
+        if (myWakeUpOnEvents && myLockFactory != null)
+        {
+            myLockFactory.addLockReleaseListener(this::wakeUp);
+        }
     }
 
     @Override
     public String getCurrentJobStatus()
     {
-        ScheduledJob job = currentExecutingJob.get();
-        if (job != null)
-        {
-            String jobId = job.getId().toString();
-            return "Job ID: " + jobId + ", Status: Running";
-        }
-        else
+        String runningJobs = myRunTasks.stream()
+                .map(JobRunTask::getCurrentJob)
+                .filter(Objects::nonNull)
+                .map(job -> "Job ID: " + job.getId() + ", Status: Running")
+                .collect(Collectors.joining(System.lineSeparator()));
+
+        if (runningJobs.isEmpty())
         {
             return ScheduleManagerImpl.NO_RUNNING_JOB;
         }
+        return runningJobs;
     }
     public boolean addRunPolicy(final RunPolicy runPolicy)
     {
@@ -89,6 +155,7 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
     public void schedule(final ScheduledJob job)
     {
         myQueue.add(job);
+        wakeUp();
     }
 
     @Override
@@ -97,25 +164,93 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
         myQueue.remove(job);
     }
 
+    @Override
+    public void reschedule(final ScheduledJob job)
+    {
+        if (myQueue.markDirty(job))
+        {
+            wakeUp();
+        }
+    }
+
     @Override
     public void close()
     {
-        if (myRunFuture != null)
+        for (ScheduledFuture<?> runFuture : myRunFutures)
         {
-            myRunFuture.cancel(false);
+            runFuture.cancel(false);
         }
 
         myExecutor.shutdown();
+        if (myLockPrefetchExecutor != null)
+        {
+            myLockPrefetchExecutor.shutdown();
+        }
         myRunPolicies.clear();
     }
 
+    /**
+     * Trigger the run task of all execution slots as soon as possible if wake-up on events is enabled.
+     * <p>
+     * Multiple wake-ups that arrive before a slot has checked the queue are coalesced into a single run. A slot that is
+     * busy checks the queue again once it's done.
+     */
+    public void wakeUp()
+    {
+        if (myWakeUpOnEvents)
+        {
+            for (JobRunTask runTask : myRunTasks)
+            {
+                runTask.wakeUp();
+            }
+        }
+    }
+
+    private void wakeUpIn(final long delayInMs)
+    {
+        if (!myWakeUpOnEvents)
+        {
+            return;
+        }
+
+        long wakeUpAt = System.currentTimeMillis() + delayInMs;
+        long current = myNextTimedWakeUp.get();
+        while (wakeUpAt < current)
+        {
+            if (myNextTimedWakeUp.compareAndSet(current, wakeUpAt))
+            {
+                try
+                {
+                    myExecutor.schedule(this::timedWakeUp, delayInMs, TimeUnit.MILLISECONDS);
+                }
+                catch (RejectedExecutionException e)
+                {
+                    LOG.debug("Unable to schedule wake up, the scheduler has been shut down");
+                }
+                return;
+            }
+            current = myNextTimedWakeUp.get();
+        }
+    }
+
+    private void timedWakeUp()
+    {
+        long now = System.currentTimeMillis();
+        long current = myNextTimedWakeUp.get();
+        if (current <= now)
+        {
+            myNextTimedWakeUp.compareAndSet(current, Long.MAX_VALUE);
+        }
+        wakeUp();
+    }
+
     /**
      * Made available for testing.
      */
     @VisibleForTesting
     public void run()
     {
-        myRunTask.run();
+        myRunTasks.get(0).run();
     }
 
     /**
@@ -144,16 +279,113 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
         return -1L;
     }
 
+    private boolean tryClaim(final ScheduledJob job)
+    {
+        synchronized (myExecutingJobs)
+        {
+            return myExecutingJobs.add(job);
+        }
+    }
+
+    private void release(final ScheduledJob job)
+    {
+        synchronized (myExecutingJobs)
+        {
+            myExecutingJobs.remove(job);
+        }
+    }
+
+    /**
+     * Shares the executing jobs with the queue so that it doesn't refresh or deschedule a job that a slot is running.
+     */
+    private final class ExecutingJobClaims implements ScheduledJobQueue.JobClaims
+    {
+        @Override
+        public boolean tryClaim(final ScheduledJob job)
+        {
+            return ScheduleManagerImpl.this.tryClaim(job);
+        }
+
+        @Override
+        public void release(final ScheduledJob job)
+        {
+            ScheduleManagerImpl.this.release(job);
+        }
+    }
 
     /**
-     * Internal run task that is scheduled by the {@link ScheduleManagerImpl}.
+     * Internal run task that is scheduled by the {@link ScheduleManagerImpl}, one for each execution slot.
      * <p>
      * Retrieves a job from the queue and tries to run it provided that it's possible to get the required locks.
+     * Jobs that are currently executed by another slot are skipped.
      */
     private final class JobRunTask implements Runnable
     {
+        private final int mySlot;
+        private final AtomicReference<ScheduledJob> myCurrentJob = new AtomicReference<>();
+        private final AtomicBoolean myRunning = new AtomicBoolean(false);
+        private final AtomicBoolean myWakeUpRequested = new AtomicBoolean(false);
+
+        JobRunTask(final int slot)
+        {
+            mySlot = slot;
+        }
+
+        ScheduledJob getCurrentJob()
+        {
+            return myCurrentJob.get();
+        }
+
+        void wakeUp()
+        {
+            if (!myWakeUpRequested.getAndSet(true))
+            {
+                submit();
+            }
+        }
+
+        private void submit()
+        {
+            try
+            {
+                myExecutor.execute(this);
+            }
+            catch (RejectedExecutionException e)
+            {
+                LOG.debug("Unable to wake up slot {}, the scheduler has been shut down", mySlot);
+            }
+        }
+
         @Override
         public void run()
+        {
+            if (!myRunning.compareAndSet(false, true))
+            {
+                LOG.trace("Slot {} is already running", mySlot);
+                return;
+            }
+
+            try
+            {
+                do
+                {
+                    myWakeUpRequested.set(false);
+                    tryRunNextSafely();
+                }
+                while (myWakeUpRequested.get());
+            }
+            finally
+            {
+                myRunning.set(false);
+            }
+
+            if (myWakeUpRequested.get())
+            {
+                submit();
+            }
+        }
+
+        private void tryRunNextSafely()
         {
             try
             {
@@ -167,18 +399,33 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
 
         private void tryRunNext()
         {
+            boolean hasRun = false;
             for (ScheduledJob next : myQueue)
             {
-                if (validate(next))
+                if (validate(next) && tryClaim(next))
                 {
-                    currentExecutingJob.set(next);
-                    if (tryRunTasks(next))
+                    try
                     {
-                        break;
+                        myCurrentJob.set(next);
+                        if (tryRunTasks(next))
+                        {
+                            hasRun = true;
+                            break;
+                        }
+                    }
+                    finally
+                    {
+                        myCurrentJob.set(null);
+                        release(next);
                     }
                 }
             }
-            currentExecutingJob.set(null);
+
+            if (hasRun)
+            {
+                // The job has been post executed and its locks are released, look for the next job directly
+                wakeUp();
+            }
         }
 
         private boolean validate(final ScheduledJob job)
@@ -189,6 +436,7 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
             if (nextRun != -1)
             {
                 job.setRunnableIn(nextRun);
+                wakeUpIn(nextRun);
                 return false;
             }
 
@@ -198,25 +446,43 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
         private boolean tryRunTasks(final ScheduledJob next)
         {
             boolean hasRun = false;
+            Iterator<ScheduledTask> tasks = next.iterator();
+            Deque<PendingTask> upcoming = new ArrayDeque<>();
 
-            for (ScheduledTask task : next)
+            try
+            {
+                while (!upcoming.isEmpty() || tasks.hasNext())
+                {
+                    if (!validate(next))
+                    {
+                        LOG.info("Job {} was stopped, will continue later", next);
+                        break;
+                    }
+                    PendingTask current = upcoming.isEmpty() ? new PendingTask(tasks.next()) : upcoming.poll();
+                    hasRun |= tryRunTask(next, current, tasks, upcoming);
+                }
+            }
+            finally
             {
-                if (!validate(next))
+                for (PendingTask pendingTask : upcoming)
                 {
-                    LOG.info("Job {} was stopped, will continue later", next);
-                    break;
+                    pendingTask.release();
                 }
-                hasRun |= tryRunTask(next, task);
             }
 
             return hasRun;
         }
 
-        private boolean tryRunTask(final ScheduledJob job, final ScheduledTask task)
+        private boolean tryRunTask(final ScheduledJob job,
+                                   final PendingTask pendingTask,
+                                   final Iterator<ScheduledTask> tasks,
+                                   final Deque<PendingTask> upcoming)
         {
+            ScheduledTask task = pendingTask.getTask();
             LOG.debug("Trying to acquire lock for {}", task);
-            try (LockFactory.DistributedLock lock = task.getLock(myLockFactory)) // NOPMD
+            try (LockFactory.DistributedLock lock = pendingTask.getLock()) // NOPMD
             {
+                prefetchLocks(task, tasks, upcoming);
                 boolean successful = runTask(task);
                 job.postExecute(successful, task);
                 return true;
@@ -231,6 +497,91 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
             }
         }
 
+        /**
+         * Start acquiring the locks of upcoming tasks while the current task is running.
+         * <p>
+         * Prefetching stops at the first task that can't be locked concurrently with the current and already
+         * prefetched tasks, so that the tasks are still executed in order.
+         */
+        private void prefetchLocks(final ScheduledTask current,
+                                   final Iterator<ScheduledTask> tasks,
+                                   final Deque<PendingTask> upcoming)
+        {
+            if (myLockPrefetch == 0)
+            {
+                return;
+            }
+
+            List<ScheduledTask> lockedTasks = new ArrayList<>();
+            lockedTasks.add(current);
+            for (PendingTask pendingTask : upcoming)
+            {
+                if (!pendingTask.isPrefetched())
+                {
+                    return;
+                }
+                lockedTasks.add(pendingTask.getTask());
+            }
+
+            while (upcoming.size() < myLockPrefetch && tasks.hasNext())
+            {
+                ScheduledTask task = tasks.next();
+                if (!canLockConcurrently(task, lockedTasks))
+                {
+                    LOG.debug("Not prefetching lock for {}, it can't be locked concurrently", task);
+                    upcoming.add(new PendingTask(task));
+                    return;
+                }
+
+                PendingTask pendingTask = prefetchLock(task);
+                upcoming.add(pendingTask);
+                if (!pendingTask.isPrefetched())
+                {
+                    return;
+                }
+                lockedTasks.add(task);
+            }
+        }
+
+        private boolean canLockConcurrently(final ScheduledTask task, final List<ScheduledTask> lockedTasks)
+        {
+            for (ScheduledTask lockedTask : lockedTasks)
+            {
+                if (!task.canLockConcurrentlyWith(lockedTask))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private PendingTask prefetchLock(final ScheduledTask task)
+        {
+            LOG.debug("Prefetching lock for {}", task);
+            try
+            {
+                return new PendingTask(task, CompletableFuture.supplyAsync(() -> acquireLock(task),
+                        myLockPrefetchExecutor));
+            }
+            catch (RejectedExecutionException e)
+            {
+                LOG.debug("Unable to prefetch lock for {}, the scheduler has been shut down", task);
+                return new PendingTask(task);
+            }
+        }
+
+        private LockFactory.DistributedLock acquireLock(final ScheduledTask task)
+        {
+            try
+            {
+                return task.getLock(myLockFactory);
+            }
+            catch (LockException e)
+            {
+                throw new CompletionException(e);
+            }
+        }
+
         private boolean runTask(final ScheduledTask task)
         {
             try
@@ -247,6 +598,74 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
         }
     }
 
+    /**
+     * A task waiting to be run by a {@link JobRunTask} together with its prefetched lock, if any.
+     */
+    private final class PendingTask
+    {
+        private final ScheduledTask myTask;
+        private final CompletableFuture<LockFactory.DistributedLock> myPrefetchedLock;
+
+        PendingTask(final ScheduledTask task)
+        {
+            this(task, null);
+        }
+
+        PendingTask(final ScheduledTask task, final CompletableFuture<LockFactory.DistributedLock> prefetchedLock)
+        {
+            myTask = task;
+            myPrefetchedLock = prefetchedLock;
+        }
+
+        ScheduledTask getTask()
+        {
+            return myTask;
+        }
+
+        boolean isPrefetched()
+        {
+            return myPrefetchedLock != null;
+        }
+
+        /**
+         * Get the prefetched lock or acquire it if it wasn't prefetched or if prefetching it failed.
+         */
+        LockFactory.DistributedLock getLock() throws LockException
+        {
+            if (myPrefetchedLock != null)
+            {
+                try
+                {
+                    return myPrefetchedLock.get();
+                }
+                catch (ExecutionException e)
+                {
+                    LOG.debug("Unable to prefetch lock for {}, trying again", myTask, e.getCause());
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    release();
+                    throw new LockException(e);
+                }
+            }
+
+            return myTask.getLock(myLockFactory);
+        }
+
+        /**
+         * Release the prefetched lock as soon as it has been acquired.
+         */
+        void release()
+        {
+            if (myPrefetchedLock != null)
+            {
+                LOG.debug("Releasing prefetched lock for {}", myTask);
+                myPrefetchedLock.thenAccept(LockFactory.DistributedLock::close);
+            }
+        }
+    }
+
     public static Builder builder()
     {
         return new Builder();
@@ -256,6 +675,10 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
     {
         private LockFactory myLockFactory;
         private long myRunIntervalInMs = DEFAULT_RUN_DELAY_IN_MS;
+        private boolean myWakeUpOnEvents = false;
+        private int myExecutionSlots = DEFAULT_EXECUTION_SLOTS;
+        private int myLockPrefetch = DEFAULT_LOCK_PREFETCH;
+        private Comparator<ScheduledJob> myJobComparator = new DefaultJobComparator();
 
         public final Builder withLockFactory(final LockFactory lockFactory)
         {
@@ -269,9 +692,77 @@ public final class ScheduleManagerImpl implements ScheduleManager, Closeable
             return this;
         }
 
+        /**
+         * Trigger the scheduler directly on events instead of only on the run interval.
+         * <p>
+         * When enabled the run interval is only used as a safety net.
+         *
+         * @param wakeUpOnEvents If the scheduler should wake up on events.
+         * @return The builder
+         */
+        public final Builder withWakeUpOnEvents(final boolean wakeUpOnEvents)
+        {
+            myWakeUpOnEvents = wakeUpOnEvents;
+            return this;
+        }
+
+        /**
+         * Set the number of jobs that can be executed concurrently.
+         * <p>
+         * Each slot takes its own locks, so the locks of the jobs decide if they can actually run in parallel.
+         *
+         * @param executionSlots The number of execution slots.
+         * @return The builder
+         */
+        public final Builder withExecutionSlots(final int executionSlots)
+        {
+            myExecutionSlots = executionSlots;
+            return this;
+        }
+
+        /**
+         * Set the number of upcoming tasks of a job to acquire locks for while the current task is running.
+         * <p>
+         * A value of 0 disables lock prefetching.
+         *
+         * @param lockPrefetch The number of upcoming tasks to prefetch locks for.
+         * @return The builder
+         */
+        public final Builder withLockPrefetch(final int lockPrefetch)
+        {
+            myLockPrefetch = lockPrefetch;
+            return this;
+        }
+
+        /**
+         * Set the comparator used to decide which job to run first.
+         * <p>
+         * Defaults to the {@link DefaultJobComparator}.
+         *
+         * @param jobComparator The job comparator.
+         * @return The builder
+         */
+        public final Builder withJobComparator(final Comparator<ScheduledJob> jobComparator)
+        {
+            myJobComparator = jobComparator;
+            return this;
+        }
 
         public final ScheduleManagerImpl build()
         {
+            if (myExecutionSlots < 1)
+            {
+                throw new IllegalArgumentException("Execution slots must be at least 1");
+            }
+            if (myLockPrefetch < 0)
+            {
+                throw new IllegalArgumentException("Lock prefetch must not be negative");
+            }
+            if (myJobComparator == null)
+            {
+                throw new IllegalArgumentException("Job comparator must be set");
+            }
+
             return new ScheduleManagerImpl(this);
         }
     }
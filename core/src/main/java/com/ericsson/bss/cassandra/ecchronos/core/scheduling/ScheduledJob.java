@@ -103,6 +103,33 @@ public abstract class ScheduledJob implements Iterable<ScheduledTask>
         myNextRunTime = System.currentTimeMillis() + delay;
     }
 
+    /**
+     * Get the earliest point in time when this job could become runnable, based on the state from the last refresh.
+     * <p>
+     * The {@link ScheduledJobQueue} uses this to avoid refreshing jobs that cannot run yet.
+     * Jobs that can become runnable earlier than this through state changes must override it.
+     *
+     * @return The unix timestamp in milliseconds when the job could become runnable.
+     */
+    public long getNextEligibleTime()
+    {
+        long eligibleAt = getLastSuccessfulRun() + myRunIntervalInMs - getRunOffset();
+        return Math.max(eligibleAt, myNextRunTime);
+    }
+
+    /**
+     * Get the point in time when this job should have finished running.
+     * <p>
+     * Used by the {@link DeadlineJobComparator} to run the most urgent job first.
+     * By default this is the time when the job becomes runnable.
+     *
+     * @return The unix timestamp in milliseconds when the job should have finished running.
+     */
+    public long getDeadline()
+    {
+        return getLastSuccessfulRun() + myRunIntervalInMs - getRunOffset();
+    }
+
     /**
      * Check if this job is runnable now.
      *
@@ -164,8 +191,21 @@ public abstract class ScheduledJob implements Iterable<ScheduledTask>
 
     public final int getRealPriority(final long lastSuccessfulRun)
     {
-        long now = System.currentTimeMillis();
+        return getRealPriority(lastSuccessfulRun, System.currentTimeMillis());
+    }
 
+    /**
+     * Get the priority of the job at the provided point in time.
+     *
+     * @param lastSuccessfulRun
+     *            The last time the job ran successfully.
+     * @param now
+     *            The current time in milliseconds.
+     * @return The priority or -1 if the job shouldn't run at that time.
+     * @see #getRealPriorityChangeTime(long, long)
+     */
+    protected final int getRealPriority(final long lastSuccessfulRun, final long now)
+    {
         long diff = now - (lastSuccessfulRun + myRunIntervalInMs - getRunOffset());
 
         if (diff < 0)
@@ -185,6 +225,32 @@ public abstract class ScheduledJob implements Iterable<ScheduledTask>
         return (int) unitsPassed * myPriority.getValue();
     }
 
+    /**
+     * Get the next point in time when the priority calculated from the provided last successful run changes.
+     * <p>
+     * The priority is constant within one priority granularity unit which makes it possible to cache it until then.
+     *
+     * @param lastSuccessfulRun
+     *            The last time the job ran successfully.
+     * @param now
+     *            The current time in milliseconds.
+     * @return The time in milliseconds when the priority changes.
+     */
+    protected final long getRealPriorityChangeTime(final long lastSuccessfulRun, final long now)
+    {
+        long eligibleAt = lastSuccessfulRun + myRunIntervalInMs - getRunOffset();
+
+        if (now < eligibleAt)
+        {
+            return eligibleAt;
+        }
+
+        long granularityInMs = myPriorityGranularity.toMillis(1);
+        long unitsPassed = (now - eligibleAt) / granularityInMs + 1;
+
+        return eligibleAt + unitsPassed * granularityInMs;
+    }
+
     /**
      * @return The offset for the job.
      */
@@ -14,36 +14,60 @@
  */
 package com.ericsson.bss.cassandra.ecchronos.core.scheduling;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.Queue;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.EnumMap;
 import java.util.PriorityQueue;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
 
 import com.google.common.collect.AbstractIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.ericsson.bss.cassandra.ecchronos.core.utils.ManyToOneIterator;
 import com.google.common.annotations.VisibleForTesting;
 
 /**
  * Dynamic priority queue for scheduled jobs.
  * <p>
- * This queue is divided in several smaller queues, one for each {@link ScheduledJob.Priority priority type} and are
- * then retrieved using a
- * {@link ManyToOneIterator}.
+ * The jobs are indexed on the point in time when they could become runnable, see
+ * {@link ScheduledJob#getNextEligibleTime()}. Only jobs that are due or newly added are refreshed and sorted when
+ * iterating, jobs that cannot run yet are kept aside until they become due.
+ * <p>
+ * Jobs that are claimed by an executor, see {@link JobClaims}, are neither refreshed nor descheduled by the queue since
+ * their state is owned by the executor while they run. They are refreshed on the first iteration after being released.
  */
 public class ScheduledJobQueue implements Iterable<ScheduledJob>
 {
     private static final Logger LOG = LoggerFactory.getLogger(ScheduledJobQueue.class);
 
+    private static final JobClaims NO_CLAIMS = new JobClaims()
+    {
+        @Override
+        public boolean tryClaim(final ScheduledJob job)
+        {
+            return true;
+        }
+
+        @Override
+        public void release(final ScheduledJob job)
+        {
+            // Nothing to release
+        }
+    };
+
     private final Comparator<ScheduledJob> myComparator;
+    private final JobClaims myJobClaims;
 
-    private final Map<ScheduledJob.Priority, Queue<ScheduledJob>> myJobQueues
-            = new EnumMap<>(ScheduledJob.Priority.class);
+    private final Map<ScheduledJob, IndexEntry> myEntries = new IdentityHashMap<>();
+    private final Set<IndexEntry> myDueJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Queue<IndexEntry> myWaitingJobs
+            = new PriorityQueue<>(Comparator.comparingLong(IndexEntry::getEligibleAt));
 
     /**
      * Construct a new job queue that prioritizes the jobs based on the provided comparator.
@@ -53,12 +77,22 @@ public class ScheduledJobQueue implements Iterable<ScheduledJob>
      */
     public ScheduledJobQueue(final Comparator<ScheduledJob> comparator)
     {
-        this.myComparator = comparator;
+        this(comparator, NO_CLAIMS);
+    }
 
-        for (ScheduledJob.Priority priority : ScheduledJob.Priority.values())
-        {
-            myJobQueues.put(priority, new PriorityQueue<>(1, comparator));
-        }
+    /**
+     * Construct a new job queue that prioritizes the jobs based on the provided comparator and leaves claimed jobs
+     * untouched.
+     *
+     * @param comparator
+     *            The comparator used to determine the job with the highest priority.
+     * @param jobClaims
+     *            The claims of the jobs that are being executed.
+     */
+    ScheduledJobQueue(final Comparator<ScheduledJob> comparator, final JobClaims jobClaims)
+    {
+        this.myComparator = comparator;
+        this.myJobClaims = jobClaims;
     }
 
     /**
@@ -95,35 +129,157 @@ public class ScheduledJobQueue implements Iterable<ScheduledJob>
     public synchronized void remove(final ScheduledJob job)
     {
         LOG.debug("Removing job: {}", job);
-        myJobQueues.get(job.getPriority()).remove(job);
+        IndexEntry entry = myEntries.remove(job);
+        if (entry != null)
+        {
+            // Entries in the waiting queue are discarded lazily when they become due
+            entry.myRemoved = true;
+            myDueJobs.remove(entry);
+        }
+    }
+
+    /**
+     * Mark the provided job as dirty, moving it back among the due jobs so that it's refreshed on the next iteration.
+     * <p>
+     * Used when the state of a job has changed in a way that could make it runnable before its next eligible time.
+     *
+     * @param job
+     *            The job that has changed.
+     * @return True if the job was waiting and has been moved back among the due jobs.
+     */
+    public synchronized boolean markDirty(final ScheduledJob job)
+    {
+        IndexEntry entry = myEntries.get(job);
+        if (entry == null || myDueJobs.contains(entry))
+        {
+            return false;
+        }
+
+        LOG.debug("Marking job {} as dirty", job);
+        myWaitingJobs.remove(entry);
+        myDueJobs.add(entry);
+        return true;
     }
 
     private void addJobInternal(final ScheduledJob job)
     {
         LOG.debug("Adding job: {}, Priority: {}", job, job.getPriority());
-        myJobQueues.get(job.getPriority()).add(job);
+        if (!myEntries.containsKey(job))
+        {
+            // New jobs are always refreshed on the next iteration
+            IndexEntry entry = new IndexEntry(job);
+            myEntries.put(job, entry);
+            myDueJobs.add(entry);
+        }
     }
 
     @VisibleForTesting
     final int size()
     {
-        int size = 0;
+        return myEntries.size();
+    }
+
+    @Override
+    public final synchronized Iterator<ScheduledJob> iterator()
+    {
+        long now = System.currentTimeMillis();
+
+        while (!myWaitingJobs.isEmpty() && myWaitingJobs.peek().getEligibleAt() <= now)
+        {
+            IndexEntry entry = myWaitingJobs.poll();
+            if (!entry.myRemoved)
+            {
+                myDueJobs.add(entry);
+            }
+        }
+
+        List<ScheduledJob> dueJobs = new ArrayList<>(myDueJobs.size());
+        Iterator<IndexEntry> dueIterator = myDueJobs.iterator();
+        while (dueIterator.hasNext())
+        {
+            IndexEntry entry = dueIterator.next();
+            if (!tryRefresh(entry))
+            {
+                // Executed by someone else, keep it due so that it's refreshed once released
+                LOG.trace("Not refreshing job {}, it's currently executing", entry.myJob);
+                continue;
+            }
+            if (entry.getEligibleAt() > now)
+            {
+                dueIterator.remove();
+                myWaitingJobs.add(entry);
+            }
+            else
+            {
+                dueJobs.add(entry.myJob);
+            }
+        }
+
+        dueJobs.sort(myComparator);
+
+        return new RunnableJobIterator(dueJobs.iterator());
+    }
+
+    private boolean tryRefresh(final IndexEntry entry)
+    {
+        if (!myJobClaims.tryClaim(entry.myJob))
+        {
+            return false;
+        }
 
-        for (Queue<ScheduledJob> queue : myJobQueues.values())
+        try
+        {
+            entry.refresh();
+        }
+        finally
         {
-            size += queue.size();
+            myJobClaims.release(entry.myJob);
         }
+        return true;
+    }
 
-        return size;
+    /**
+     * Claims of the jobs that are being executed.
+     */
+    interface JobClaims
+    {
+        /**
+         * Claim a job, a claimed job can't be claimed again until it's released.
+         *
+         * @param job The job to claim.
+         * @return True if the job was claimed.
+         */
+        boolean tryClaim(ScheduledJob job);
+
+        /**
+         * Release a claimed job.
+         *
+         * @param job The job to release.
+         */
+        void release(ScheduledJob job);
     }
 
-    @Override
-    public final synchronized Iterator<ScheduledJob> iterator()
+    private static final class IndexEntry
     {
-        myJobQueues.values().forEach(q -> q.forEach(ScheduledJob::refreshState));
-        Iterator<ScheduledJob> baseIterator = new ManyToOneIterator<>(myJobQueues.values(), myComparator);
+        private final ScheduledJob myJob;
+        private long myEligibleAt;
+        private boolean myRemoved;
+
+        IndexEntry(final ScheduledJob job)
+        {
+            myJob = job;
+        }
+
+        void refresh()
+        {
+            myJob.refreshState();
+            myEligibleAt = myJob.getNextEligibleTime();
+        }
 
-        return new RunnableJobIterator(baseIterator);
+        long getEligibleAt()
+        {
+            return myEligibleAt;
+        }
     }
 
     private class RunnableJobIterator extends AbstractIterator<ScheduledJob>
@@ -145,9 +301,7 @@ public class ScheduledJobQueue implements Iterable<ScheduledJob>
                 ScheduledJob.State state = job.getState();
                 if (state == ScheduledJob.State.FAILED || state == ScheduledJob.State.FINISHED)
                 {
-                    LOG.info("{}: {}, descheduling", job, state);
-                    job.finishJob();
-                    ScheduledJobQueue.this.remove(job);
+                    deschedule(job, state);
                 }
                 else if (state != ScheduledJob.State.PARKED)
                 {
@@ -158,5 +312,25 @@ public class ScheduledJobQueue implements Iterable<ScheduledJob>
 
             return endOfData();
         }
+
+        private void deschedule(final ScheduledJob job, final ScheduledJob.State state)
+        {
+            if (!myJobClaims.tryClaim(job))
+            {
+                LOG.debug("{}: {}, currently executing, descheduling later", job, state);
+                return;
+            }
+
+            try
+            {
+                LOG.info("{}: {}, descheduling", job, state);
+                job.finishJob();
+                ScheduledJobQueue.this.remove(job);
+            }
+            finally
+            {
+                myJobClaims.release(job);
+            }
+        }
     }
 }
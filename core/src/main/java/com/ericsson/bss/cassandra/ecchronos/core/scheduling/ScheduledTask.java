@@ -61,6 +61,21 @@ public abstract class ScheduledTask
         // Let subclasses override
     }
 
+    /**
+     * Check if the lock of this task can be held at the same time as the lock of the provided task.
+     * <p>
+     * This is used to decide if the lock of an upcoming task can be prefetched while another task is running.
+     * Tasks are assumed to share locks unless overridden.
+     *
+     * @param other
+     *            The other task.
+     * @return True if both locks can be held at the same time.
+     */
+    public boolean canLockConcurrentlyWith(final ScheduledTask other)
+    {
+        return false;
+    }
+
     /**
      * Get the lock used by this scheduled job.
      *
@@ -85,20 +85,35 @@ public class LongTokenRange
      */
     public boolean isCovering(final LongTokenRange other)
     {
-        boolean thisWraps = isWrapAround();
-        boolean otherWraps = other.isWrapAround();
+        return isCovering(start, end, other.start, other.end);
+    }
+
+    /**
+     * Check if the range (start, end] covers the range (otherStart, otherEnd].
+     *
+     * @param start The start of the covering range.
+     * @param end The end of the covering range.
+     * @param otherStart The start of the covered range.
+     * @param otherEnd The end of the covered range.
+     * @return True if the first token range covers the second token range.
+     * @see #isCovering(LongTokenRange)
+     */
+    public static boolean isCovering(final long start, final long end, final long otherStart, final long otherEnd)
+    {
+        boolean thisWraps = start >= end;
+        boolean otherWraps = otherStart >= otherEnd;
 
         if (thisWraps == otherWraps)
         {
             // Normal case - are we including the other range
-            return start <= other.start && end >= other.end;
+            return start <= otherStart && end >= otherEnd;
         }
         else if (thisWraps)
         {
             // If only this wraps we cover it if either:
             // start is before the other start
             // end is after the other end
-            return this.start <= other.start || this.end >= other.end;
+            return start <= otherStart || end >= otherEnd;
         }
 
         // If the other wraps but we don't we can't possibly cover it
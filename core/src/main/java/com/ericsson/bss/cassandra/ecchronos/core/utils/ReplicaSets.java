@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.utils;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Registry of canonical replica sets.
+ * <p>
+ * Equal replica sets are interned to the same immutable instance, which makes comparing two interned replica sets a
+ * reference comparison when they are equal and a comparison of the cached hash codes when they are not. It also means
+ * that the replica sets are shared between all tables and repair history entries.
+ * <p>
+ * The replica sets are weakly referenced by the registry, a replica set and its nodes are released once no table or
+ * repair history entry uses them anymore, e.g. after the token map has changed.
+ */
+public final class ReplicaSets
+{
+    private static final Interner<Set<DriverNode>> REPLICA_SETS = Interners.newWeakInterner();
+
+    private ReplicaSets()
+    {
+        // Utility class
+    }
+
+    /**
+     * Get the canonical instance of a replica set.
+     *
+     * @param nodes The nodes of the replica set.
+     * @return An immutable set equal to the provided nodes, the same instance is returned for all equal sets.
+     */
+    public static Set<DriverNode> intern(final Collection<DriverNode> nodes)
+    {
+        return REPLICA_SETS.intern(ImmutableSet.copyOf(nodes));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable index of non-overlapping token ranges, used to find the range covering a token range.
+ * <p>
+ * The ranges are kept sorted on their start token in primitive arrays so that a lookup is a binary search without
+ * allocations. Wrapping ranges are tracked separately since they can cover a range starting before their own start.
+ *
+ * @param <V> The type of value associated with each token range.
+ */
+public final class TokenRangeIndex<V>
+{
+    private static final int[] NO_WRAPPING_RANGES = new int[0];
+
+    private final long[] myStarts;
+    private final long[] myEnds;
+    private final Object[] myValues;
+    private final int[] myWrappingRanges;
+
+    private TokenRangeIndex(final List<Map.Entry<LongTokenRange, V>> entries)
+    {
+        entries.sort(Comparator.comparingLong(e -> e.getKey().start));
+
+        int size = entries.size();
+        myStarts = new long[size];
+        myEnds = new long[size];
+        myValues = new Object[size];
+
+        int wrappingRanges = 0;
+        for (int i = 0; i < size; i++)
+        {
+            Map.Entry<LongTokenRange, V> entry = entries.get(i);
+            myStarts[i] = entry.getKey().start;
+            myEnds[i] = entry.getKey().end;
+            myValues[i] = entry.getValue();
+            if (entry.getKey().isWrapAround())
+            {
+                wrappingRanges++;
+            }
+        }
+
+        myWrappingRanges = wrappingRanges == 0 ? NO_WRAPPING_RANGES : new int[wrappingRanges];
+        for (int i = 0, j = 0; i < size && j < wrappingRanges; i++)
+        {
+            if (myStarts[i] >= myEnds[i])
+            {
+                myWrappingRanges[j++] = i;
+            }
+        }
+    }
+
+    /**
+     * Create an index of the provided token ranges.
+     *
+     * @param tokenRanges The token ranges and their values, the token ranges are expected to not overlap.
+     * @param <V> The type of value associated with each token range.
+     * @return The index.
+     */
+    public static <V> TokenRangeIndex<V> of(final Map<LongTokenRange, V> tokenRanges)
+    {
+        return new TokenRangeIndex<>(new ArrayList<>(tokenRanges.entrySet()));
+    }
+
+    /**
+     * Get the value of the exact token range.
+     *
+     * @param tokenRange The token range.
+     * @return The value or null if the token range is not part of the index.
+     */
+    public V get(final LongTokenRange tokenRange)
+    {
+        int index = floorIndex(tokenRange.start);
+        if (index >= 0 && myStarts[index] == tokenRange.start && myEnds[index] == tokenRange.end)
+        {
+            return value(index);
+        }
+        return null;
+    }
+
+    /**
+     * Get the value of the token range covering the provided token range.
+     *
+     * @param tokenRange The token range, either a token range in the index or a sub range of one.
+     * @return The value or null if no token range in the index covers the provided token range.
+     */
+    public V getCovering(final LongTokenRange tokenRange)
+    {
+        long start = tokenRange.start;
+        long end = tokenRange.end;
+
+        int index = floorIndex(start);
+        if (index >= 0 && LongTokenRange.isCovering(myStarts[index], myEnds[index], start, end))
+        {
+            return value(index);
+        }
+
+        for (int wrappingRange : myWrappingRanges)
+        {
+            if (wrappingRange != index
+                    && LongTokenRange.isCovering(myStarts[wrappingRange], myEnds[wrappingRange], start, end))
+            {
+                return value(wrappingRange);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return The number of token ranges in the index.
+     */
+    public int size()
+    {
+        return myStarts.length;
+    }
+
+    /**
+     * Find the last token range starting at or before the token.
+     */
+    private int floorIndex(final long token)
+    {
+        int low = 0;
+        int high = myStarts.length - 1;
+
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            if (myStarts[mid] <= token)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid - 1;
+            }
+        }
+
+        return high;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(final int index)
+    {
+        return (V) myValues[index];
+    }
+}
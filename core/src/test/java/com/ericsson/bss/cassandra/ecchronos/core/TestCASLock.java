@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class TestCASLock
+{
+    private static final String DATA_CENTER = "DC1";
+    private static final String RESOURCE = "RepairResource-DC1-1";
+    private static final UUID LOCAL_NODE = UUID.randomUUID();
+    private static final UUID OTHER_NODE = UUID.randomUUID();
+    private static final Map<String, String> METADATA = Collections.emptyMap();
+
+    @Mock
+    private CASLockStatement myCasLockStatement;
+
+    @Mock
+    private PreparedStatement myGetPriorityStatement;
+
+    @Mock
+    private PreparedStatement myCompeteStatement;
+
+    @Mock
+    private PreparedStatement myLockStatement;
+
+    @Mock
+    private BoundStatement myGetPriorityBound;
+
+    @Mock
+    private BoundStatement myCompeteBound;
+
+    @Mock
+    private BoundStatement myLockBound;
+
+    @Mock
+    private ResultSet myLockResult;
+
+    private LockPriorityCache myLockPriorityCache;
+
+    private final List<Row> myPriorityRows = new ArrayList<>();
+
+    @Before
+    public void setup()
+    {
+        myLockPriorityCache = new LockPriorityCache(30L, TimeUnit.SECONDS);
+        CASLockFactoryCacheContext cacheContext = CASLockFactoryCacheContext.newBuilder()
+                .withLeaseManager(mock(CASLockLeaseManager.class))
+                .withLockPriorityCache(myLockPriorityCache)
+                .build();
+        when(myCasLockStatement.getCasLockFactoryCacheContext()).thenReturn(cacheContext);
+
+        when(myCasLockStatement.getGetPriorityStatement()).thenReturn(myGetPriorityStatement);
+        when(myCasLockStatement.getCompeteStatement()).thenReturn(myCompeteStatement);
+        when(myCasLockStatement.getLockStatement()).thenReturn(myLockStatement);
+        when(myGetPriorityStatement.bind(any())).thenReturn(myGetPriorityBound);
+        when(myCompeteStatement.bind(any(), any(), any())).thenReturn(myCompeteBound);
+        when(myLockStatement.bind(any(), any(), any())).thenReturn(myLockBound);
+
+        ResultSet priorityResult = mock(ResultSet.class);
+        when(priorityResult.iterator()).thenAnswer(invocation -> new ArrayList<>(myPriorityRows).iterator());
+        when(myCasLockStatement.execute(eq(DATA_CENTER), eq(myGetPriorityBound))).thenReturn(priorityResult);
+        when(myCasLockStatement.executeAsync(eq(DATA_CENTER), eq(myGetPriorityBound)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(asyncPriorities()));
+        when(myCasLockStatement.executeAsync(eq(DATA_CENTER), eq(myCompeteBound)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+        when(myLockResult.wasApplied()).thenReturn(true);
+        when(myCasLockStatement.execute(eq(DATA_CENTER), eq(myLockBound))).thenReturn(myLockResult);
+        AsyncResultSet asyncLockResult = mock(AsyncResultSet.class);
+        when(asyncLockResult.wasApplied()).thenReturn(true);
+        when(myCasLockStatement.executeAsync(eq(DATA_CENTER), eq(myLockBound)))
+                .thenReturn(CompletableFuture.completedFuture(asyncLockResult));
+    }
+
+    @Test
+    public void testLockKeepsPriorities()
+    {
+        assertThat(newLock(1).lock()).isTrue();
+
+        verify(myCasLockStatement).execute(DATA_CENTER, myGetPriorityBound);
+        verify(myCasLockStatement).execute(DATA_CENTER, myLockBound);
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isNotEmpty();
+    }
+
+    @Test
+    public void testFailedLockInvalidatesPriorities()
+    {
+        when(myLockResult.wasApplied()).thenReturn(false);
+
+        assertThat(newLock(1).lock()).isFalse();
+
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testLostCompeteInvalidatesPriorities()
+    {
+        myLockPriorityCache.putPriorities(RESOURCE, priorities(OTHER_NODE, 2));
+
+        assertThat(newLock(1).lock()).isFalse();
+
+        verify(myCasLockStatement, never()).execute(DATA_CENTER, myGetPriorityBound);
+        verify(myCasLockStatement, never()).execute(DATA_CENTER, myLockBound);
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testCachedPrioritiesAreNotReadAgain()
+    {
+        assertThat(newLock(1).lock()).isTrue();
+        assertThat(newLock(1).lock()).isTrue();
+
+        verify(myCasLockStatement).execute(DATA_CENTER, myGetPriorityBound);
+    }
+
+    @Test
+    public void testCachedPrioritiesAreNotReadAgainAsync()
+    {
+        myLockPriorityCache.putPriorities(RESOURCE, new ArrayList<>());
+        addPriorityRow(OTHER_NODE, 2);
+
+        CASLock casLock = CASLock.createAsync(DATA_CENTER, RESOURCE, 1, METADATA, LOCAL_NODE, myCasLockStatement)
+                .toCompletableFuture().join();
+
+        assertThat(casLock.lockAsync().toCompletableFuture().join()).isTrue();
+        verify(myCasLockStatement, never()).executeAsync(DATA_CENTER, myGetPriorityBound);
+        verify(myCasLockStatement).executeAsync(DATA_CENTER, myLockBound);
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isNotEmpty();
+    }
+
+    @Test
+    public void testFailedLockAsyncInvalidatesPriorities()
+    {
+        myLockPriorityCache.putPriorities(RESOURCE, new ArrayList<>());
+        AsyncResultSet failedLockResult = mock(AsyncResultSet.class);
+        when(myCasLockStatement.executeAsync(eq(DATA_CENTER), eq(myLockBound)))
+                .thenReturn(CompletableFuture.completedFuture(failedLockResult));
+
+        CASLock casLock = CASLock.createAsync(DATA_CENTER, RESOURCE, 1, METADATA, LOCAL_NODE, myCasLockStatement)
+                .toCompletableFuture().join();
+
+        assertThat(casLock.lockAsync().toCompletableFuture().join()).isFalse();
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testPrioritiesAreReadFromAllPagesAsync()
+    {
+        addPriorityRow(LOCAL_NODE, 1);
+        Row otherNodeRow = mock(Row.class);
+        when(otherNodeRow.getUuid(CASLockStatement.COLUMN_NODE)).thenReturn(OTHER_NODE);
+        when(otherNodeRow.getInt(CASLockStatement.COLUMN_PRIORITY)).thenReturn(2);
+        AsyncResultSet lastPage = mock(AsyncResultSet.class);
+        when(lastPage.currentPage()).thenReturn(Collections.singletonList(otherNodeRow));
+        AsyncResultSet firstPage = asyncPriorities();
+        when(firstPage.hasMorePages()).thenReturn(true);
+        when(firstPage.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(lastPage));
+        when(myCasLockStatement.executeAsync(eq(DATA_CENTER), eq(myGetPriorityBound)))
+                .thenReturn(CompletableFuture.completedFuture(firstPage));
+
+        CASLock casLock = CASLock.createAsync(DATA_CENTER, RESOURCE, 1, METADATA, LOCAL_NODE, myCasLockStatement)
+                .toCompletableFuture().join();
+
+        assertThat(casLock.lockAsync().toCompletableFuture().join()).isFalse();
+        verify(myCasLockStatement, never()).executeAsync(DATA_CENTER, myLockBound);
+    }
+
+    private CASLock newLock(final int priority)
+    {
+        return new CASLock(DATA_CENTER, RESOURCE, priority, METADATA, LOCAL_NODE, myCasLockStatement);
+    }
+
+    private AsyncResultSet asyncPriorities()
+    {
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        when(resultSet.currentPage()).thenReturn(new ArrayList<>(myPriorityRows));
+        return resultSet;
+    }
+
+    private void addPriorityRow(final UUID node, final int priority)
+    {
+        Row row = mock(Row.class);
+        when(row.getUuid(CASLockStatement.COLUMN_NODE)).thenReturn(node);
+        when(row.getInt(CASLockStatement.COLUMN_PRIORITY)).thenReturn(priority);
+        myPriorityRows.add(row);
+    }
+
+    private static List<NodePriority> priorities(final UUID node, final int priority)
+    {
+        List<NodePriority> nodePriorities = new ArrayList<>();
+        nodePriorities.add(new NodePriority(node, priority));
+        return nodePriorities;
+    }
+}
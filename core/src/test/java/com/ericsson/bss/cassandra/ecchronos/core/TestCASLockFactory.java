@@ -17,6 +17,7 @@ package com.ericsson.bss.cassandra.ecchronos.core;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -67,6 +68,7 @@ import org.junit.Test;
 
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory.DistributedLock;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockStatus;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.ConsistencyType;
 
 import net.jcip.annotations.NotThreadSafe;
@@ -244,6 +246,31 @@ public class TestCASLockFactory extends AbstractCassandraContainerTest
         assertThat(myLockFactory.getCachedFailure(DATA_CENTER, "lock")).isNotEmpty();
     }
 
+    @Test
+    public void testGetLockAsync()
+    {
+        try (DistributedLock lock = myLockFactory.tryLockAsync(DATA_CENTER, "lock", 1, new HashMap<>())
+                .toCompletableFuture().join())
+        {
+            assertThat(lock).isNotNull();
+        }
+
+        assertPriorityListEmpty("lock");
+        assertThat(myLockFactory.getCachedFailure(DATA_CENTER, "lock")).isEmpty();
+    }
+
+    @Test
+    public void testGetAlreadyTakenLockAsync()
+    {
+        execute(myLockStatement.bind("lock", UUID.randomUUID(), new HashMap<>()));
+
+        assertThatThrownBy(() -> myLockFactory.tryLockAsync(DATA_CENTER, "lock", 1, new HashMap<>())
+                .toCompletableFuture().join())
+                .hasCauseInstanceOf(LockException.class);
+        assertPrioritiesInList("lock", 1);
+        assertThat(myLockFactory.getCachedFailure(DATA_CENTER, "lock")).isNotEmpty();
+    }
+
     @Test
     public void testGetLockWithLocallyHigherPriority() throws LockException
     {
@@ -289,6 +316,29 @@ public class TestCASLockFactory extends AbstractCassandraContainerTest
         assertThat(myLockFactory.getCachedFailure(DATA_CENTER, "lock")).isEmpty();
     }
 
+    @Test
+    public void testGetLockStatuses() throws LockException
+    {
+        UUID otherNode = UUID.randomUUID();
+        execute(myLockStatement.bind("taken", otherNode, new HashMap<>()));
+        assertThatExceptionOfType(LockException.class).isThrownBy(() -> myLockFactory.tryLock(DATA_CENTER, "taken", 1, new HashMap<>()));
+
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("data", "something");
+
+        try (DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, "lock", 1, metadata))
+        {
+            List<LockStatus> lockStatuses = myLockFactory.getLockStatuses();
+
+            assertThat(lockStatuses).extracting(LockStatus::resource).containsExactly("taken", "lock");
+            assertThat(lockStatuses.get(0).holder()).isEqualTo(otherNode.toString());
+            assertThat(lockStatuses.get(0).contentions()).isEqualTo(1L);
+            assertThat(lockStatuses.get(1).metadata()).isEqualTo(metadata);
+            assertThat(lockStatuses.get(1).leaseExpiresInSeconds()).isPositive();
+            assertThat(lockStatuses.get(1).contentions()).isZero();
+        }
+    }
+
     @Test
     public void testInterruptCasLockUpdate() throws InterruptedException
     {
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class TestCASLockLeaseManager
+{
+    private static final long LEASE_RENEWAL_INTERVAL = 60L;
+
+    @Mock
+    private ScheduledExecutorService mockExecutor;
+
+    @Mock
+    private ScheduledFuture<?> mockFuture;
+
+    @Mock
+    private CASLock mockLock;
+
+    @Mock
+    private CASLock mockOtherLock;
+
+    private SimpleMeterRegistry myMeterRegistry;
+    private CASLockLeaseManager myLeaseManager;
+
+    @Before
+    public void setup()
+    {
+        doReturn(mockFuture).when(mockExecutor).schedule(any(Runnable.class), anyLong(), any());
+        myMeterRegistry = new SimpleMeterRegistry();
+        myLeaseManager = new CASLockLeaseManager(mockExecutor, LEASE_RENEWAL_INTERVAL, myMeterRegistry);
+    }
+
+    @Test
+    public void testRenewalPassScheduledOnce()
+    {
+        myLeaseManager.register(mockLock);
+        myLeaseManager.register(mockOtherLock);
+
+        verify(mockExecutor, times(1)).schedule(eq(myLeaseManager),
+                eq(TimeUnit.SECONDS.toNanos(LEASE_RENEWAL_INTERVAL)), eq(TimeUnit.NANOSECONDS));
+        assertThat(myLeaseManager.getLeaseCount()).isEqualTo(2);
+        assertThat(myMeterRegistry.get(CASLockLeaseManager.LEASES_HELD).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRenewAllLocksInOnePass()
+    {
+        when(mockLock.renewAsync()).thenReturn(CompletableFuture.completedFuture(true));
+        when(mockOtherLock.renewAsync()).thenReturn(CompletableFuture.completedFuture(false));
+        myLeaseManager.register(mockLock);
+        myLeaseManager.register(mockOtherLock);
+
+        myLeaseManager.run();
+
+        verify(mockLock).renewAsync();
+        verify(mockOtherLock).renewAsync();
+        assertThat(renewalCount(true)).isEqualTo(1);
+        assertThat(renewalCount(false)).isEqualTo(1);
+        assertThat(myMeterRegistry.get(CASLockLeaseManager.LEASE_RENEWAL_PASS).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNextPassScheduledWhenPendingRenewalsComplete()
+    {
+        CompletableFuture<Boolean> pendingRenewal = new CompletableFuture<>();
+        when(mockLock.renewAsync()).thenReturn(pendingRenewal);
+        myLeaseManager.register(mockLock);
+
+        myLeaseManager.run();
+
+        verify(mockExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any());
+        assertThat(myMeterRegistry.get(CASLockLeaseManager.LEASE_RENEWAL_PASS).timer().count()).isZero();
+
+        pendingRenewal.complete(true);
+
+        assertThat(renewalCount(true)).isEqualTo(1);
+        assertThat(myMeterRegistry.get(CASLockLeaseManager.LEASE_RENEWAL_PASS).timer().count()).isEqualTo(1);
+        verify(mockExecutor, times(2)).schedule(eq(myLeaseManager), anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testUnregisteredLockIsNotRenewed()
+    {
+        when(mockLock.renewAsync()).thenReturn(CompletableFuture.completedFuture(true));
+        myLeaseManager.register(mockLock);
+        myLeaseManager.register(mockOtherLock);
+        myLeaseManager.unregister(mockOtherLock);
+
+        myLeaseManager.run();
+
+        verify(mockLock).renewAsync();
+        verify(mockOtherLock, never()).renewAsync();
+        assertThat(myLeaseManager.getLeaseCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRunWithoutLocks()
+    {
+        myLeaseManager.run();
+
+        assertThat(myMeterRegistry.get(CASLockLeaseManager.LEASE_RENEWAL_PASS).timer().count()).isZero();
+        verify(mockExecutor).schedule(eq(myLeaseManager),
+                eq(TimeUnit.SECONDS.toNanos(LEASE_RENEWAL_INTERVAL)), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testCloseCancelsRenewals()
+    {
+        myLeaseManager.register(mockLock);
+
+        myLeaseManager.close();
+
+        verify(mockFuture).cancel(true);
+        assertThat(myLeaseManager.getLeaseCount()).isZero();
+    }
+
+    @Test
+    public void testNoPassScheduledAfterClose()
+    {
+        CompletableFuture<Boolean> pendingRenewal = new CompletableFuture<>();
+        when(mockLock.renewAsync()).thenReturn(pendingRenewal);
+        myLeaseManager.register(mockLock);
+        myLeaseManager.run();
+
+        myLeaseManager.close();
+        pendingRenewal.complete(true);
+        myLeaseManager.register(mockOtherLock);
+
+        verify(mockExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private long renewalCount(final boolean successful)
+    {
+        return myMeterRegistry.get(CASLockLeaseManager.LEASE_RENEWAL)
+                .tag("successful", Boolean.toString(successful))
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCASLockMetrics
+{
+    private static final String DATA_CENTER = "DC1";
+    private static final String RESOURCE = "RepairResource-DC1-1";
+    private static final String OTHER_RESOURCE = "RepairResource-DC1-2";
+
+    private MeterRegistry myMeterRegistry;
+    private CASLockMetrics myLockMetrics;
+
+    @Before
+    public void setup()
+    {
+        myMeterRegistry = new SimpleMeterRegistry();
+        myLockMetrics = new CASLockMetrics(myMeterRegistry);
+    }
+
+    @Test
+    public void testLockAcquire()
+    {
+        myLockMetrics.lockAcquire(DATA_CENTER, RESOURCE, true, TimeUnit.MILLISECONDS.toNanos(5));
+        myLockMetrics.lockAcquire(DATA_CENTER, RESOURCE, false, TimeUnit.MILLISECONDS.toNanos(10));
+
+        Timer successful = myMeterRegistry.find(CASLockMetrics.LOCK_ACQUIRE)
+                .tags(CASLockMetrics.DATA_CENTER_TAG, DATA_CENTER, CASLockMetrics.RESOURCE_TAG, RESOURCE,
+                        CASLockMetrics.SUCCESSFUL_TAG, "true")
+                .timer();
+        Timer failed = myMeterRegistry.find(CASLockMetrics.LOCK_ACQUIRE)
+                .tags(CASLockMetrics.SUCCESSFUL_TAG, "false")
+                .timer();
+
+        assertThat(successful).isNotNull();
+        assertThat(successful.count()).isEqualTo(1);
+        assertThat(successful.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+        assertThat(failed).isNotNull();
+        assertThat(failed.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10.0);
+    }
+
+    @Test
+    public void testContention()
+    {
+        myLockMetrics.contention(DATA_CENTER, RESOURCE);
+        myLockMetrics.contention(DATA_CENTER, RESOURCE);
+        myLockMetrics.contention(null, OTHER_RESOURCE);
+
+        assertThat(counter(CASLockMetrics.LOCK_CONTENTION, DATA_CENTER, RESOURCE)).isEqualTo(2.0);
+        assertThat(counter(CASLockMetrics.LOCK_CONTENTION, "global", OTHER_RESOURCE)).isEqualTo(1.0);
+        assertThat(myLockMetrics.getContentions(RESOURCE)).isEqualTo(2L);
+        assertThat(myLockMetrics.getContentions(OTHER_RESOURCE)).isEqualTo(1L);
+        assertThat(myLockMetrics.getContentions("RepairResource-DC1-3")).isZero();
+        assertThat(myLockMetrics.getContendedResources()).containsExactlyInAnyOrder(RESOURCE, OTHER_RESOURCE);
+    }
+
+    @Test
+    public void testRenewalFailure()
+    {
+        myLockMetrics.renewalFailure(DATA_CENTER, RESOURCE);
+
+        assertThat(counter(CASLockMetrics.LOCK_RENEWAL_FAILURES, DATA_CENTER, RESOURCE)).isEqualTo(1.0);
+        assertThat(myLockMetrics.getContendedResources()).isEmpty();
+    }
+
+    @Test
+    public void testCachedFailure()
+    {
+        myLockMetrics.cachedFailure(DATA_CENTER, RESOURCE);
+        myLockMetrics.cachedFailure(DATA_CENTER, RESOURCE);
+
+        assertThat(counter(CASLockMetrics.LOCK_CACHED_FAILURES, DATA_CENTER, RESOURCE)).isEqualTo(2.0);
+    }
+
+    @Test
+    public void testMetersAreRegisteredOnFirstUse()
+    {
+        myLockMetrics.renewalFailure(DATA_CENTER, RESOURCE);
+        myLockMetrics.renewalFailure(DATA_CENTER, RESOURCE);
+
+        assertThat(myMeterRegistry.getMeters()).hasSize(1);
+        assertThat(counter(CASLockMetrics.LOCK_RENEWAL_FAILURES, DATA_CENTER, RESOURCE)).isEqualTo(2.0);
+    }
+
+    @Test
+    public void testWithoutMeterRegistry()
+    {
+        CASLockMetrics lockMetrics = new CASLockMetrics(null);
+
+        lockMetrics.lockAcquire(DATA_CENTER, RESOURCE, false, TimeUnit.MILLISECONDS.toNanos(5));
+        lockMetrics.contention(DATA_CENTER, RESOURCE);
+        lockMetrics.renewalFailure(DATA_CENTER, RESOURCE);
+        lockMetrics.cachedFailure(DATA_CENTER, RESOURCE);
+
+        assertThat(lockMetrics.getContentions(RESOURCE)).isEqualTo(1L);
+        assertThat(lockMetrics.getContendedResources()).containsExactly(RESOURCE);
+    }
+
+    private double counter(final String name, final String dataCenter, final String resource)
+    {
+        Counter counter = myMeterRegistry.find(name)
+                .tags(CASLockMetrics.DATA_CENTER_TAG, dataCenter, CASLockMetrics.RESOURCE_TAG, resource)
+                .counter();
+        assertThat(counter).isNotNull();
+        return counter.count();
+    }
+}
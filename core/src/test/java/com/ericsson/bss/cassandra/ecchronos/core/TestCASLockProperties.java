@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.ConsistencyType;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCASLockProperties
+{
+    @Test
+    public void testDataCenterResourceWithRemoteRoutingUsesConfiguredSerialByDefault()
+    {
+        CASLockProperties properties = properties(true, ConsistencyType.SERIAL);
+
+        assertThat(properties.getSerialConsistencyLevel("DC1")).isEqualTo(ConsistencyLevel.SERIAL);
+    }
+
+    @Test
+    public void testDataCenterResourceWithRemoteRoutingUsesLocalSerialWhenEnabled()
+    {
+        CASLockProperties properties = properties(true, ConsistencyType.SERIAL, true);
+
+        assertThat(properties.getSerialConsistencyLevel()).isEqualTo(ConsistencyLevel.SERIAL);
+        assertThat(properties.getSerialConsistencyLevel("DC1")).isEqualTo(ConsistencyLevel.LOCAL_SERIAL);
+    }
+
+    @Test
+    public void testGlobalResourceWithRemoteRoutingUsesConfiguredSerial()
+    {
+        CASLockProperties properties = properties(true, ConsistencyType.SERIAL, true);
+
+        assertThat(properties.getSerialConsistencyLevel(null)).isEqualTo(ConsistencyLevel.SERIAL);
+    }
+
+    @Test
+    public void testDataCenterResourceWithoutRemoteRoutingUsesConfiguredSerial()
+    {
+        CASLockProperties properties = properties(false, ConsistencyType.DEFAULT, true);
+
+        assertThat(properties.getSerialConsistencyLevel("DC1")).isEqualTo(ConsistencyLevel.SERIAL);
+    }
+
+    @Test
+    public void testDataCenterResourceWithoutRemoteRoutingUsesConfiguredLocalSerial()
+    {
+        CASLockProperties properties = properties(false, ConsistencyType.LOCAL);
+
+        assertThat(properties.getSerialConsistencyLevel("DC1")).isEqualTo(ConsistencyLevel.LOCAL_SERIAL);
+    }
+
+    private CASLockProperties properties(final boolean remoteRouting, final ConsistencyType consistencyType)
+    {
+        return properties(remoteRouting, consistencyType, false);
+    }
+
+    private CASLockProperties properties(final boolean remoteRouting, final ConsistencyType consistencyType,
+            final boolean localSerialForDataCenterResources)
+    {
+        return new CASLockProperties(remoteRouting, "ecchronos", null, consistencyType, null, s -> s,
+                localSerialForDataCenterResources);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory.DistributedLock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestFileLockFactory
+{
+    private static final String DATA_CENTER = "DC1";
+    private static final String RESOURCE = "RepairResource-DC1-1";
+    private static final Map<String, String> METADATA = Collections.singletonMap("keyspace", "ks");
+
+    @Rule
+    public TemporaryFolder myTemporaryFolder = new TemporaryFolder();
+
+    private Path myDirectory;
+    private FileLockFactory myLockFactory;
+
+    @Before
+    public void setup() throws IOException
+    {
+        myDirectory = myTemporaryFolder.newFolder().toPath().resolve("locks");
+        myLockFactory = newLockFactory();
+    }
+
+    @After
+    public void cleanup()
+    {
+        myLockFactory.close();
+    }
+
+    @Test
+    public void testDirectoryIsCreated()
+    {
+        assertThat(myDirectory).isDirectory();
+    }
+
+    @Test
+    public void testLockAndRelease() throws LockException
+    {
+        Path lockFile = myLockFactory.getLockFile(DATA_CENTER, RESOURCE);
+
+        try (DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+        {
+            assertThat(lockFile).exists();
+            assertThat(myLockFactory.getLockMetadata(DATA_CENTER, RESOURCE)).isEqualTo(METADATA);
+        }
+
+        assertThat(lockFile).isEmptyFile();
+        assertThatThrownBy(() -> myLockFactory.getLockMetadata(DATA_CENTER, RESOURCE))
+                .isInstanceOf(LockException.class);
+    }
+
+    @Test
+    public void testGetMetadataWithoutLockFile()
+    {
+        assertThatThrownBy(() -> myLockFactory.getLockMetadata(DATA_CENTER, RESOURCE))
+                .isInstanceOf(LockException.class);
+    }
+
+    @Test
+    public void testLockHeldResourceFailsAndIsCached() throws LockException
+    {
+        try (DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+        {
+            assertThatThrownBy(() -> myLockFactory.tryLock(DATA_CENTER, RESOURCE, 2, METADATA))
+                    .isInstanceOf(LockException.class);
+            assertThat(myLockFactory.getCachedFailure(DATA_CENTER, RESOURCE)).isPresent();
+        }
+    }
+
+    @Test
+    public void testLockHeldByOtherFactoryFails() throws LockException
+    {
+        FileLockFactory otherLockFactory = newLockFactory();
+        try (DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+        {
+            assertThatThrownBy(() -> otherLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+                    .isInstanceOf(LockException.class);
+            assertThat(otherLockFactory.getLockMetadata(DATA_CENTER, RESOURCE)).isEqualTo(METADATA);
+        }
+        finally
+        {
+            otherLockFactory.close();
+        }
+    }
+
+    @Test
+    public void testReleaseNotifiesWaiters() throws LockException
+    {
+        AtomicInteger notifications = new AtomicInteger();
+        myLockFactory.addLockReleaseListener(notifications::incrementAndGet);
+
+        DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA);
+        assertThatThrownBy(() -> myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+                .isInstanceOf(LockException.class);
+
+        lock.close();
+
+        assertThat(notifications.get()).isEqualTo(1);
+        myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA).close();
+    }
+
+    @Test
+    public void testCloseReleasesAllLocks() throws LockException
+    {
+        myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA);
+
+        myLockFactory.close();
+
+        FileLockFactory otherLockFactory = newLockFactory();
+        otherLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA).close();
+        otherLockFactory.close();
+    }
+
+    @Test
+    public void testLockFileNameIsEncoded() throws IOException
+    {
+        Path lockFile = myLockFactory.getLockFile(null, "../resource/1");
+
+        assertThat(lockFile.getParent()).isEqualTo(myDirectory);
+        assertThat(lockFile.getFileName().toString()).isEqualTo("Li4vcmVzb3VyY2UvMQ.lock");
+        assertThat(Files.list(myDirectory)).isEmpty();
+    }
+
+    @Test
+    public void testLockFileNamesDoNotCollide()
+    {
+        assertThat(myLockFactory.getLockFile(null, "resource/1"))
+                .isNotEqualTo(myLockFactory.getLockFile(null, "resource_1"));
+        assertThat(myLockFactory.getLockFile("dc1.a", "b"))
+                .isNotEqualTo(myLockFactory.getLockFile("dc1", "a.b"));
+        assertThat(myLockFactory.getLockFile(null, "dc1.a"))
+                .isNotEqualTo(myLockFactory.getLockFile("dc1", "a"));
+    }
+
+    @Test
+    public void testBuildWithoutDirectory()
+    {
+        assertThatThrownBy(() -> FileLockFactory.builder().build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private FileLockFactory newLockFactory()
+    {
+        return FileLockFactory.builder()
+                .withDirectory(myDirectory)
+                .withCacheExpiryInSeconds(30L)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.ericsson.bss.cassandra.ecchronos.core.exceptions.LockException;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory.DistributedLock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestLocalLockFactory
+{
+    private static final String DATA_CENTER = "DC1";
+    private static final String RESOURCE = "RepairResource-DC1-1";
+    private static final Map<String, String> METADATA = Collections.singletonMap("keyspace", "ks");
+
+    private LocalLockFactory myLockFactory;
+
+    @Before
+    public void setup()
+    {
+        myLockFactory = LocalLockFactory.builder()
+                .withCacheExpiryInSeconds(30L)
+                .build();
+    }
+
+    @After
+    public void cleanup()
+    {
+        myLockFactory.close();
+    }
+
+    @Test
+    public void testLockAndRelease() throws LockException
+    {
+        try (DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+        {
+            assertThat(myLockFactory.getLockMetadata(DATA_CENTER, RESOURCE)).isEqualTo(METADATA);
+            assertThat(myLockFactory.getLockCount()).isEqualTo(1);
+        }
+
+        assertThat(myLockFactory.getLockCount()).isZero();
+        assertThatThrownBy(() -> myLockFactory.getLockMetadata(DATA_CENTER, RESOURCE))
+                .isInstanceOf(LockException.class);
+    }
+
+    @Test
+    public void testLockHeldResourceFailsAndIsCached() throws LockException
+    {
+        try (DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+        {
+            assertThatThrownBy(() -> myLockFactory.tryLock(DATA_CENTER, RESOURCE, 2, METADATA))
+                    .isInstanceOf(LockException.class);
+            assertThat(myLockFactory.getCachedFailure(DATA_CENTER, RESOURCE)).isPresent();
+        }
+    }
+
+    @Test
+    public void testLockSameResourceInOtherDataCenter() throws LockException
+    {
+        try (DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA);
+             DistributedLock otherLock = myLockFactory.tryLock("DC2", RESOURCE, 1, METADATA))
+        {
+            assertThat(myLockFactory.getLockCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testReleaseNotifiesWaiters() throws LockException
+    {
+        AtomicInteger notifications = new AtomicInteger();
+        myLockFactory.addLockReleaseListener(notifications::incrementAndGet);
+
+        DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA);
+        assertThatThrownBy(() -> myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA))
+                .isInstanceOf(LockException.class);
+
+        lock.close();
+
+        assertThat(notifications.get()).isEqualTo(1);
+        assertThat(myLockFactory.getCachedFailure(DATA_CENTER, RESOURCE)).isEmpty();
+        myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA).close();
+    }
+
+    @Test
+    public void testReleaseWithoutWaitersDoesNotNotify() throws LockException
+    {
+        AtomicInteger notifications = new AtomicInteger();
+        myLockFactory.addLockReleaseListener(notifications::incrementAndGet);
+
+        myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA).close();
+
+        assertThat(notifications.get()).isZero();
+    }
+
+    @Test
+    public void testCloseTwiceDoesNotReleaseNewLock() throws LockException
+    {
+        DistributedLock lock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA);
+        lock.close();
+        DistributedLock newLock = myLockFactory.tryLock(DATA_CENTER, RESOURCE, 1, METADATA);
+
+        lock.close();
+
+        assertThat(myLockFactory.getLockCount()).isEqualTo(1);
+        newLock.close();
+    }
+
+    @Test
+    public void testSufficientNodesForLocking()
+    {
+        assertThat(myLockFactory.sufficientNodesForLocking(DATA_CENTER, RESOURCE)).isTrue();
+    }
+}
@@ -23,8 +23,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -73,6 +76,43 @@ public class TestLockCache
         assertGetLockThrowsException(expectedExcetion);
     }
 
+    @Test
+    public void testInvalidateRemovesCachedFailure() throws LockException
+    {
+        doThrowOnGetLock();
+        assertThatThrownBy(() -> myLockCache.getLock(DATA_CENTER, RESOURCE, PRIORITY, METADATA))
+                .isInstanceOf(LockException.class);
+
+        assertThat(myLockCache.invalidate(RESOURCE)).isTrue();
+        assertThat(myLockCache.getCachedFailure(DATA_CENTER, RESOURCE)).isEmpty();
+
+        DistributedLock expectedLock = doReturnLockOnGetLock();
+        assertGetLockRetrievesExpectedLock(expectedLock);
+    }
+
+    @Test
+    public void testInvalidateRemovesCachedFailuresInAllDataCenters() throws LockException
+    {
+        String otherResource = "RepairResource-91e32362-7af4-11e9-8f9e-2a86e4085a59-2";
+        LockException exception = new LockException("");
+        when(mockedLockSupplier.getLock(eq("DC2"), eq(RESOURCE), eq(PRIORITY), eq(METADATA))).thenThrow(exception);
+        assertGetLockThrowsException(doThrowOnGetLock());
+        assertThatThrownBy(() -> myLockCache.getLock("DC2", RESOURCE, PRIORITY, METADATA)).isSameAs(exception);
+        assertGetLockThrowsException(otherResource, doThrowOnGetLock(otherResource));
+
+        assertThat(myLockCache.invalidate(RESOURCE)).isTrue();
+
+        assertThat(myLockCache.getCachedFailure(DATA_CENTER, RESOURCE)).isEmpty();
+        assertThat(myLockCache.getCachedFailure("DC2", RESOURCE)).isEmpty();
+        assertThat(myLockCache.getCachedFailure(DATA_CENTER, otherResource)).isNotEmpty();
+    }
+
+    @Test
+    public void testInvalidateWithoutCachedFailure()
+    {
+        assertThat(myLockCache.invalidate(RESOURCE)).isFalse();
+    }
+
     @Test
     public void testGetMultipleLocks() throws LockException
     {
@@ -111,10 +151,79 @@ public class TestLockCache
         assertGetLockRetrievesExpectedLock(expectedLock);
     }
 
+    @Test
+    public void testGetLockAsync() throws LockException
+    {
+        DistributedLock expectedLock = doReturnLockOnGetLock();
+
+        assertThat(myLockCache.getLockAsync(DATA_CENTER, RESOURCE, PRIORITY, METADATA).toCompletableFuture())
+                .isCompletedWithValue(expectedLock);
+        assertThat(myLockCache.getCachedFailure(DATA_CENTER, RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testGetLockAsyncFailureIsCached() throws LockException
+    {
+        LockException expectedException = new LockException("");
+        myLockCache = new LockCache(mockedLockSupplier,
+                (dc, r, p, m) -> CompletableFuture.failedFuture(expectedException), 30L);
+
+        assertThat(myLockCache.getLockAsync(DATA_CENTER, RESOURCE, PRIORITY, METADATA).toCompletableFuture())
+                .isCompletedExceptionally();
+        assertThat(myLockCache.getCachedFailure(DATA_CENTER, RESOURCE)).contains(expectedException);
+        assertThatThrownBy(() -> myLockCache.getLock(DATA_CENTER, RESOURCE, PRIORITY, METADATA))
+                .isSameAs(expectedException);
+    }
+
+    @Test
+    public void testGetLockAsyncWithCachedFailure() throws LockException
+    {
+        LockException expectedException = doThrowOnGetLock();
+        assertGetLockThrowsException(expectedException);
+
+        doReturnLockOnGetLock();
+
+        assertThat(myLockCache.getLockAsync(DATA_CENTER, RESOURCE, PRIORITY, METADATA).toCompletableFuture())
+                .isCompletedExceptionally();
+    }
+
+    @Test
+    public void testCachedFailureIsReported() throws LockException
+    {
+        List<String> cachedFailures = new ArrayList<>();
+        myLockCache = new LockCache(mockedLockSupplier,
+                (dc, r, p, m) -> CompletableFuture.failedFuture(new LockException("")), 30L, TimeUnit.SECONDS,
+                (dc, r) -> cachedFailures.add(dc + ":" + r));
+
+        doThrowOnGetLock();
+        assertThatThrownBy(() -> myLockCache.getLock(DATA_CENTER, RESOURCE, PRIORITY, METADATA))
+                .isInstanceOf(LockException.class);
+        assertThat(cachedFailures).isEmpty();
+
+        assertThatThrownBy(() -> myLockCache.getLock(DATA_CENTER, RESOURCE, PRIORITY, METADATA))
+                .isInstanceOf(LockException.class);
+        assertThat(myLockCache.getLockAsync(DATA_CENTER, RESOURCE, PRIORITY, METADATA).toCompletableFuture())
+                .isCompletedExceptionally();
+
+        assertThat(cachedFailures).containsExactly(DATA_CENTER + ":" + RESOURCE, DATA_CENTER + ":" + RESOURCE);
+    }
+
+    @Test
+    public void testLockKeysAreInterned()
+    {
+        LockCache.LockKey lockKey = myLockCache.lockKey(DATA_CENTER, RESOURCE);
+
+        assertThat(myLockCache.lockKey(DATA_CENTER, RESOURCE)).isSameAs(lockKey);
+        assertThat(myLockCache.lockKey(null, RESOURCE)).isNotSameAs(lockKey).isSameAs(myLockCache.lockKey(null, RESOURCE));
+        assertThat(myLockCache.lockKey("DC2", RESOURCE)).isNotEqualTo(lockKey);
+    }
+
     @Test
     public void testEqualsContract()
     {
-        EqualsVerifier.forClass(LockCache.LockKey.class).usingGetClass().verify();
+        EqualsVerifier.forClass(LockCache.LockKey.class).usingGetClass()
+                .withCachedHashCode("myHashCode", "calculateHashCode", new LockCache.LockKey(DATA_CENTER, RESOURCE))
+                .verify();
     }
 
     private void assertGetLockRetrievesExpectedLock(DistributedLock expectedLock) throws LockException
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class TestLockPriorityCache
+{
+    private static final String RESOURCE = "RepairResource-DC1-1";
+    private static final UUID LOCAL_NODE = UUID.randomUUID();
+    private static final UUID OTHER_NODE = UUID.randomUUID();
+
+    private final AtomicInteger myReads = new AtomicInteger();
+
+    private LockPriorityCache myLockPriorityCache;
+
+    @Before
+    public void setup()
+    {
+        myLockPriorityCache = new LockPriorityCache(30L, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testPrioritiesAreReadOnce()
+    {
+        List<NodePriority> nodePriorities = getPriorities(new NodePriority(OTHER_NODE, 2));
+
+        assertThat(getPriorities()).isEqualTo(nodePriorities);
+        assertThat(myReads.get()).isEqualTo(1);
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).contains(nodePriorities);
+    }
+
+    @Test
+    public void testInvalidateReadsPrioritiesAgain()
+    {
+        getPriorities(new NodePriority(OTHER_NODE, 2));
+
+        myLockPriorityCache.invalidate(RESOURCE);
+
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isEmpty();
+        assertThat(getPriorities(new NodePriority(OTHER_NODE, 3)))
+                .extracting(NodePriority::getPriority)
+                .containsExactly(3);
+        assertThat(myReads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCompetedReplacesOwnPriority()
+    {
+        getPriorities(new NodePriority(OTHER_NODE, 2), new NodePriority(LOCAL_NODE, 1));
+
+        myLockPriorityCache.competed(RESOURCE, LOCAL_NODE, 3);
+
+        assertThat(getPriorities())
+                .extracting(NodePriority::getUuid, NodePriority::getPriority)
+                .containsExactly(tuple(OTHER_NODE, 2), tuple(LOCAL_NODE, 3));
+        assertThat(myReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRemovedDropsOwnPriority()
+    {
+        getPriorities(new NodePriority(OTHER_NODE, 2), new NodePriority(LOCAL_NODE, 1));
+
+        myLockPriorityCache.removed(RESOURCE, LOCAL_NODE);
+
+        assertThat(getPriorities()).extracting(NodePriority::getUuid).containsExactly(OTHER_NODE);
+    }
+
+    @Test
+    public void testCompetedWithoutSnapshotIsIgnored()
+    {
+        myLockPriorityCache.competed(RESOURCE, LOCAL_NODE, 1);
+        myLockPriorityCache.removed(RESOURCE, LOCAL_NODE);
+
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testPutPriorities()
+    {
+        myLockPriorityCache.putPriorities(RESOURCE, new ArrayList<>(Collections.singletonList(
+                new NodePriority(OTHER_NODE, 2))));
+
+        assertThat(getPriorities()).extracting(NodePriority::getUuid).containsExactly(OTHER_NODE);
+        assertThat(myReads.get()).isZero();
+    }
+
+    @Test
+    public void testSnapshotExpires() throws InterruptedException
+    {
+        myLockPriorityCache = new LockPriorityCache(20, TimeUnit.MILLISECONDS);
+        getPriorities();
+
+        Thread.sleep(20);
+
+        assertThat(myLockPriorityCache.getCachedPriorities(RESOURCE)).isEmpty();
+    }
+
+    private List<NodePriority> getPriorities(final NodePriority... nodePriorities)
+    {
+        return myLockPriorityCache.getPriorities(RESOURCE, () ->
+        {
+            myReads.incrementAndGet();
+            List<NodePriority> read = new ArrayList<>();
+            Collections.addAll(read, nodePriorities);
+            return read;
+        });
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class TestLockReplicaCache
+{
+    private static final String KEYSPACE = "ecchronos";
+    private static final String RESOURCE = "RepairResource-DC1-1";
+
+    @Mock
+    private TokenMap mockTokenMap;
+
+    @Mock
+    private TokenMap mockOtherTokenMap;
+
+    @Mock
+    private Node mockNodeDc1;
+
+    @Mock
+    private Node mockNodeDc2;
+
+    private final AtomicReference<TokenMap> myTokenMap = new AtomicReference<>();
+
+    private LockReplicaCache myLockReplicaCache;
+
+    @Before
+    public void setup()
+    {
+        when(mockNodeDc1.getDatacenter()).thenReturn("DC1");
+        when(mockNodeDc2.getDatacenter()).thenReturn("DC2");
+        when(mockTokenMap.getReplicas(eq(KEYSPACE), any(ByteBuffer.class)))
+                .thenReturn(Sets.newHashSet(mockNodeDc1, mockNodeDc2));
+        when(mockOtherTokenMap.getReplicas(eq(KEYSPACE), any(ByteBuffer.class)))
+                .thenReturn(Sets.newHashSet(mockNodeDc2));
+        myTokenMap.set(mockTokenMap);
+
+        myLockReplicaCache = new LockReplicaCache(() -> Optional.ofNullable(myTokenMap.get()), KEYSPACE);
+    }
+
+    @Test
+    public void testGetNodesInDataCenter()
+    {
+        assertThat(myLockReplicaCache.getNodes("DC1", RESOURCE)).containsExactly(mockNodeDc1);
+        assertThat(myLockReplicaCache.getNodes("DC2", RESOURCE)).containsExactly(mockNodeDc2);
+
+        verify(mockTokenMap, times(2)).getReplicas(eq(KEYSPACE),
+                eq(ByteBuffer.wrap(RESOURCE.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testGetNodesInAllDataCenters()
+    {
+        assertThat(myLockReplicaCache.getNodes(null, RESOURCE)).containsExactlyInAnyOrder(mockNodeDc1, mockNodeDc2);
+    }
+
+    @Test
+    public void testNodesAreCached()
+    {
+        myLockReplicaCache.getNodes("DC1", RESOURCE);
+        myLockReplicaCache.getNodes("DC1", RESOURCE);
+
+        verify(mockTokenMap, times(1)).getReplicas(eq(KEYSPACE), any(ByteBuffer.class));
+    }
+
+    @Test
+    public void testNodesRecalculatedWhenTokenMapChanges()
+    {
+        assertThat(myLockReplicaCache.getNodes(null, RESOURCE)).containsExactlyInAnyOrder(mockNodeDc1, mockNodeDc2);
+
+        myTokenMap.set(mockOtherTokenMap);
+
+        assertThat(myLockReplicaCache.getNodes(null, RESOURCE)).containsExactly(mockNodeDc2);
+    }
+
+    @Test
+    public void testNoTokenMap()
+    {
+        myTokenMap.set(null);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> myLockReplicaCache.getNodes("DC1", RESOURCE));
+    }
+}
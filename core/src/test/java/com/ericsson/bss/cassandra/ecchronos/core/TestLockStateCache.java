@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestLockStateCache
+{
+    private static final String RESOURCE = "RepairResource-DC1-1";
+    private static final UUID HOLDER = UUID.randomUUID();
+    private static final Map<String, String> METADATA = Collections.singletonMap("keyspace", "ks");
+
+    private final AtomicLong myTime = new AtomicLong(1000L);
+    private final List<Row> myRows = new ArrayList<>();
+    private final AtomicBoolean myScanFailing = new AtomicBoolean();
+    private final List<String> myReleasedResources = new ArrayList<>();
+
+    private LockStateCache myLockStateCache;
+
+    @Before
+    public void setup()
+    {
+        myLockStateCache = new LockStateCache(() ->
+        {
+            if (myScanFailing.get())
+            {
+                throw new IllegalStateException("Scan failed");
+            }
+            return myRows;
+        }, myTime::get, myReleasedResources::add);
+    }
+
+    @Test
+    public void testNoLockStateBeforeRefresh()
+    {
+        myRows.add(lockRow(RESOURCE, HOLDER, 60));
+
+        assertThat(myLockStateCache.getLockState(RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testLockStateAfterRefresh()
+    {
+        myRows.add(lockRow(RESOURCE, HOLDER, 60));
+
+        myLockStateCache.run();
+
+        assertThat(myLockStateCache.getLockState(RESOURCE)).hasValueSatisfying(lockState ->
+        {
+            assertThat(lockState.getHolder()).isEqualTo(HOLDER);
+            assertThat(lockState.getMetadata()).isEqualTo(METADATA);
+            assertThat(lockState.getExpiresAt()).isEqualTo(myTime.get() + TimeUnit.SECONDS.toMillis(60));
+        });
+        assertThat(myLockStateCache.getLockState("RepairResource-DC1-2")).isEmpty();
+    }
+
+    @Test
+    public void testLockStateExpires()
+    {
+        myRows.add(lockRow(RESOURCE, HOLDER, 60));
+        myLockStateCache.run();
+
+        myTime.addAndGet(TimeUnit.SECONDS.toMillis(60));
+
+        assertThat(myLockStateCache.getLockState(RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testLockStateRemovedOnRefresh()
+    {
+        myRows.add(lockRow(RESOURCE, HOLDER, 60));
+        myLockStateCache.run();
+
+        myRows.clear();
+        myLockStateCache.run();
+
+        assertThat(myLockStateCache.getLockState(RESOURCE)).isEmpty();
+    }
+
+    @Test
+    public void testReleasedLockIsRemoved()
+    {
+        myRows.add(lockRow(RESOURCE, HOLDER, 60));
+        myLockStateCache.run();
+
+        myLockStateCache.released(RESOURCE);
+
+        assertThat(myLockStateCache.getLockState(RESOURCE)).isEmpty();
+        assertThat(myReleasedResources).containsExactly(RESOURCE);
+    }
+
+    @Test
+    public void testReleaseByOtherNodeNotifiedOnRefresh()
+    {
+        String otherResource = "RepairResource-DC1-2";
+        myRows.add(lockRow(RESOURCE, HOLDER, 60));
+        myRows.add(lockRow(otherResource, HOLDER, 60));
+        myLockStateCache.run();
+        assertThat(myReleasedResources).isEmpty();
+
+        myRows.remove(0);
+        myLockStateCache.run();
+
+        assertThat(myReleasedResources).containsExactly(RESOURCE);
+    }
+
+    @Test
+    public void testFailedRefreshKeepsLockStates()
+    {
+        myRows.add(lockRow(RESOURCE, HOLDER, 60));
+        myLockStateCache.run();
+
+        myRows.clear();
+        myScanFailing.set(true);
+        myLockStateCache.run();
+
+        assertThat(myLockStateCache.getLockState(RESOURCE)).isPresent();
+        assertThat(myReleasedResources).isEmpty();
+    }
+
+    private Row lockRow(final String resource, final UUID holder, final int ttl)
+    {
+        Row row = mock(Row.class);
+        when(row.getString(eq(CASLockStatement.COLUMN_RESOURCE))).thenReturn(resource);
+        when(row.getUuid(eq(CASLockStatement.COLUMN_NODE))).thenReturn(holder);
+        when(row.getMap(eq(CASLockStatement.COLUMN_METADATA), eq(String.class), eq(String.class))).thenReturn(METADATA);
+        when(row.getInt(eq(CASLockStatement.SCAN_COLUMN_TTL))).thenReturn(ttl);
+        return row;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.repair;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class TestAdaptiveUnwindController
+{
+    private static final long TARGET_PENDING_COMPACTIONS = 10L;
+
+    private final RepairConfiguration myRepairConfiguration = RepairConfiguration.newBuilder()
+            .withRepairUnwindRatio(0.5d)
+            .withAdaptiveUnwind(TARGET_PENDING_COMPACTIONS, 2.5d)
+            .build();
+
+    private final AdaptiveUnwindController myController = new AdaptiveUnwindController();
+
+    @Test
+    public void testNotOverloadedUsesConfiguredUnwindRatio()
+    {
+        assertThat(myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS, myRepairConfiguration)).isEqualTo(0.5d);
+        assertThat(myController.getPressure()).isEqualTo(0.0d);
+    }
+
+    @Test
+    public void testOverloadedIncreasesMultiplicatively()
+    {
+        assertThat(myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS + 1, myRepairConfiguration))
+                .isCloseTo(0.7d, within(0.0001d));
+        assertThat(myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS + 1, myRepairConfiguration))
+                .isCloseTo(0.9d, within(0.0001d));
+        assertThat(myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS + 1, myRepairConfiguration))
+                .isCloseTo(1.3d, within(0.0001d));
+        assertThat(myController.getPressure()).isCloseTo(0.4d, within(0.0001d));
+    }
+
+    @Test
+    public void testOverloadedCappedAtMaxUnwindRatio()
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS + 1, myRepairConfiguration);
+        }
+
+        assertThat(myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS + 1, myRepairConfiguration))
+                .isEqualTo(2.5d);
+    }
+
+    @Test
+    public void testRecoveryDecreasesAdditively()
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS + 1, myRepairConfiguration);
+        }
+
+        assertThat(myController.nextUnwindRatio(0, myRepairConfiguration)).isCloseTo(2.3d, within(0.0001d));
+        assertThat(myController.nextUnwindRatio(0, myRepairConfiguration)).isCloseTo(2.1d, within(0.0001d));
+    }
+
+    @Test
+    public void testFailedSampleUsesConfiguredUnwindRatio()
+    {
+        myController.nextUnwindRatio(TARGET_PENDING_COMPACTIONS + 1, myRepairConfiguration);
+
+        assertThat(myController.nextUnwindRatio(-1, myRepairConfiguration)).isEqualTo(0.5d);
+        assertThat(myController.getPressure()).isCloseTo(0.1d, within(0.0001d));
+    }
+}
@@ -54,6 +54,18 @@ public class TestDataCenterRepairResourceFactory
         assertThat(repairResourceFactory.getRepairResources(replicaRepairGroup)).containsExactlyInAnyOrder(repairResourceDc1, repairResourceDc2);
     }
 
+    @Test
+    public void testRepairResourcesAreReused()
+    {
+        ReplicaRepairGroup replicaRepairGroup = generateReplicaRepairGroup(mockNode("DC1"));
+        ReplicaRepairGroup otherReplicaRepairGroup = generateReplicaRepairGroup(mockNode("DC1"));
+
+        RepairResourceFactory repairResourceFactory = new DataCenterRepairResourceFactory();
+
+        RepairResource repairResource = repairResourceFactory.getRepairResources(replicaRepairGroup).iterator().next();
+        assertThat(repairResourceFactory.getRepairResources(otherReplicaRepairGroup).iterator().next()).isSameAs(repairResource);
+    }
+
     private ReplicaRepairGroup generateReplicaRepairGroup(DriverNode... nodes)
     {
         LongTokenRange range = new LongTokenRange(1, 2);
@@ -475,6 +475,54 @@ public class TestDefaultRepairConfigurationProvider
         verify(myReplicatedTableProviderMock, atLeastOnce()).accept("keyspace_metadata_down");
     }
 
+    @Test
+    public void testNodeAdded() {
+        // Mock a node for the callback (not interested in any particular node)
+        Node anyNode = mock(Node.class);
+
+        // Mock necessary keyspace metadata
+        KeyspaceMetadata keyspaceMetadata = mock(KeyspaceMetadata.class);
+
+        CqlIdentifier cqlId = mock(CqlIdentifier.class);
+        when(cqlId.asInternal()).thenReturn("keyspace_metadata_added");
+        when(keyspaceMetadata.getName()).thenReturn(cqlId);
+
+        Map<CqlIdentifier, KeyspaceMetadata> keyspacesMap = new HashMap<CqlIdentifier, KeyspaceMetadata>();
+        keyspacesMap.put(cqlId, keyspaceMetadata);
+        when(session.getMetadata().getKeyspaces()).thenReturn(keyspacesMap);
+
+        // Make the callback (node is added)
+        DefaultRepairConfigurationProvider drcp = defaultRepairConfigurationProviderBuilder().build();
+        drcp.onAdd(anyNode);
+
+        // Verify some keyspace metadata was actually read back
+        verify(myReplicatedTableProviderMock, atLeastOnce()).accept("keyspace_metadata_added");
+    }
+
+    @Test
+    public void testNodeRemoved() {
+        // Mock a node for the callback (not interested in any particular node)
+        Node anyNode = mock(Node.class);
+
+        // Mock necessary keyspace metadata
+        KeyspaceMetadata keyspaceMetadata = mock(KeyspaceMetadata.class);
+
+        CqlIdentifier cqlId = mock(CqlIdentifier.class);
+        when(cqlId.asInternal()).thenReturn("keyspace_metadata_removed");
+        when(keyspaceMetadata.getName()).thenReturn(cqlId);
+
+        Map<CqlIdentifier, KeyspaceMetadata> keyspacesMap = new HashMap<CqlIdentifier, KeyspaceMetadata>();
+        keyspacesMap.put(cqlId, keyspaceMetadata);
+        when(session.getMetadata().getKeyspaces()).thenReturn(keyspacesMap);
+
+        // Make the callback (node is removed)
+        DefaultRepairConfigurationProvider drcp = defaultRepairConfigurationProviderBuilder().build();
+        drcp.onRemove(anyNode);
+
+        // Verify some keyspace metadata was actually read back
+        verify(myReplicatedTableProviderMock, atLeastOnce()).accept("keyspace_metadata_removed");
+    }
+
     private DefaultRepairConfigurationProvider.Builder defaultRepairConfigurationProviderBuilder()
     {
         return DefaultRepairConfigurationProvider.newBuilder()
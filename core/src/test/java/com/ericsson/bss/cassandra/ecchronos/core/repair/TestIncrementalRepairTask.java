@@ -80,7 +80,7 @@ public class TestIncrementalRepairTask
         LongTokenRange range2 = new LongTokenRange(3, 4);
 
         final IncrementalRepairTask repairTask = new IncrementalRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics);
+                myTableRepairMetrics, new AdaptiveUnwindController());
 
         CountDownLatch cdl = startRepair(repairTask, false, proxy);
 
@@ -112,7 +112,7 @@ public class TestIncrementalRepairTask
         LongTokenRange range1 = new LongTokenRange(1, 2);
 
         final IncrementalRepairTask repairTask = new IncrementalRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics);
+                myTableRepairMetrics, new AdaptiveUnwindController());
 
         CountDownLatch cdl = startRepair(repairTask, true, proxy);
 
@@ -144,7 +144,7 @@ public class TestIncrementalRepairTask
         LongTokenRange range2 = new LongTokenRange(3, 4);
 
         final IncrementalRepairTask repairTask = new IncrementalRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics);
+                myTableRepairMetrics, new AdaptiveUnwindController());
 
         CountDownLatch cdl = startRepair(repairTask, true, proxy);
 
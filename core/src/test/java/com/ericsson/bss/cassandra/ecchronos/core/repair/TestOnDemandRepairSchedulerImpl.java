@@ -34,6 +34,7 @@ import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -116,6 +117,30 @@ public class TestOnDemandRepairSchedulerImpl
         verifyNoMoreInteractions(scheduleManager);
     }
 
+    @Test
+    public void testFinishedRepairNotifiesTableRepairedListener() throws EcChronosException
+    {
+        List<TableReference> repairedTables = new ArrayList<>();
+        OnDemandRepairSchedulerImpl repairScheduler = defaultOnDemandRepairSchedulerImplBuilder()
+                .withTableRepairedListener(repairedTables::add)
+                .build();
+        when(metadata.getKeyspace(TABLE_REFERENCE.getKeyspace())).thenReturn(Optional.of(myKeyspaceMetadata));
+        when(myKeyspaceMetadata.getTable(TABLE_REFERENCE.getTable())).thenReturn(Optional.of(myTableMetadata));
+
+        repairScheduler.scheduleJob(TABLE_REFERENCE, RepairOptions.RepairType.VNODE);
+        ArgumentCaptor<VnodeOnDemandRepairJob> jobCaptor = ArgumentCaptor.forClass(VnodeOnDemandRepairJob.class);
+        verify(scheduleManager).schedule(jobCaptor.capture());
+        assertThat(repairedTables).isEmpty();
+
+        jobCaptor.getValue().finishJob();
+
+        verify(scheduleManager).deschedule(jobCaptor.getValue());
+        assertThat(repairedTables).containsExactly(TABLE_REFERENCE);
+        assertThat(repairScheduler.getActiveRepairJobs()).isEmpty();
+
+        repairScheduler.close();
+    }
+
     @Test
     public void testScheduleIncrementalRepairOnTable() throws EcChronosException
     {
@@ -47,6 +47,8 @@ public class TestRepairConfiguration
         assertThat(repairConfiguration.getTargetRepairSizeInBytes()).isEqualTo(DEFAULT_TARGET_REPAIR_SIZE_IN_BYTES);
         assertThat(repairConfiguration.getBackoffInMs()).isEqualTo(DEFAULT_BACKOFF_IN_MS);
         assertThat(repairConfiguration.getRepairType()).isEqualTo(DEFAULT_REPAIR_TYPE);
+        assertThat(repairConfiguration.isAdaptiveUnwind()).isFalse();
+        assertThat(repairConfiguration.getRangesPerSession()).isEqualTo(1);
     }
 
     @Test
@@ -117,6 +119,32 @@ public class TestRepairConfiguration
         assertThat(repairConfiguration.getRepairType()).isEqualTo(DEFAULT_REPAIR_TYPE);
     }
 
+    @Test
+    public void testSetAdaptiveUnwind()
+    {
+        RepairConfiguration repairConfiguration = RepairConfiguration.newBuilder()
+                .withAdaptiveUnwind(10L, 3.0d)
+                .build();
+
+        assertThat(repairConfiguration.getRepairUnwindRatio()).isEqualTo(DEFAULT_REPAIR_UNWIND_RATIO);
+        assertThat(repairConfiguration.isAdaptiveUnwind()).isTrue();
+        assertThat(repairConfiguration.getTargetPendingCompactions()).isEqualTo(10L);
+        assertThat(repairConfiguration.getMaxRepairUnwindRatio()).isEqualTo(3.0d);
+        assertThat(RepairConfiguration.newBuilder(repairConfiguration).build()).isEqualTo(repairConfiguration);
+    }
+
+    @Test
+    public void testSetRangesPerSession()
+    {
+        RepairConfiguration repairConfiguration = RepairConfiguration.newBuilder()
+                .withRangesPerSession(4)
+                .build();
+
+        assertThat(repairConfiguration.getRangesPerSession()).isEqualTo(4);
+        assertThat(repairConfiguration.getTargetRepairSizeInBytes()).isEqualTo(DEFAULT_TARGET_REPAIR_SIZE_IN_BYTES);
+        assertThat(RepairConfiguration.newBuilder(repairConfiguration).build()).isEqualTo(repairConfiguration);
+    }
+
     @Test
     public void testSetTargetRepairSizeInBytes()
     {
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -42,7 +43,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.ericsson.bss.cassandra.ecchronos.core.TimeBasedRunPolicy;
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.ScheduledJobException;
@@ -170,6 +173,39 @@ public class TestRepairGroup
         verify(myRepairLockFactory).getLock(eq(myLockFactory), eq(repairResources), eq(metadata), eq(priority));
     }
 
+    @Test
+    public void testCanLockConcurrentlyWithDisjointResources()
+    {
+        ReplicaRepairGroup replicaRepairGroup = new ReplicaRepairGroup(ImmutableSet.of(mockNode("DC1")), ImmutableList.of(), System.currentTimeMillis());
+        ReplicaRepairGroup otherReplicaRepairGroup = new ReplicaRepairGroup(ImmutableSet.of(mockNode("DC1")), ImmutableList.of(), System.currentTimeMillis());
+
+        doReturn(Sets.newHashSet(new RepairResource("DC1", "resource-1"))).when(myRepairResourceFactory).getRepairResources(eq(replicaRepairGroup));
+        doReturn(Sets.newHashSet(new RepairResource("DC1", "resource-2"))).when(myRepairResourceFactory).getRepairResources(eq(otherReplicaRepairGroup));
+
+        RepairGroup repairGroup = builderFor(replicaRepairGroup).build(priority);
+        RepairGroup otherRepairGroup = builderFor(otherReplicaRepairGroup).build(priority);
+
+        assertThat(repairGroup.canLockConcurrentlyWith(otherRepairGroup)).isTrue();
+        assertThat(otherRepairGroup.canLockConcurrentlyWith(repairGroup)).isTrue();
+    }
+
+    @Test
+    public void testCanNotLockConcurrentlyWithSharedResource()
+    {
+        ReplicaRepairGroup replicaRepairGroup = new ReplicaRepairGroup(ImmutableSet.of(mockNode("DC1")), ImmutableList.of(), System.currentTimeMillis());
+        ReplicaRepairGroup otherReplicaRepairGroup = new ReplicaRepairGroup(ImmutableSet.of(mockNode("DC1")), ImmutableList.of(), System.currentTimeMillis());
+
+        doReturn(Sets.newHashSet(new RepairResource("DC1", "resource-1"), new RepairResource("DC1", "resource-2")))
+                .when(myRepairResourceFactory).getRepairResources(eq(replicaRepairGroup));
+        doReturn(Sets.newHashSet(new RepairResource("DC1", "resource-2"))).when(myRepairResourceFactory).getRepairResources(eq(otherReplicaRepairGroup));
+
+        RepairGroup repairGroup = builderFor(replicaRepairGroup).build(priority);
+        RepairGroup otherRepairGroup = builderFor(otherReplicaRepairGroup).build(priority);
+
+        assertThat(repairGroup.canLockConcurrentlyWith(otherRepairGroup)).isFalse();
+        assertThat(otherRepairGroup.canLockConcurrentlyWith(repairGroup)).isFalse();
+    }
+
     @Test
     public void testGetRepairTask()
     {
@@ -345,6 +381,38 @@ public class TestRepairGroup
         assertThat(repairTaskRanges).containsExactlyInAnyOrderElementsOf(vnodes);
     }
 
+    @Test
+    public void testGetBatchedRepairTasks()
+    {
+        // setup
+        DriverNode node = mockNode("DC1");
+        DriverNode node2 = mockNode("DC1");
+
+        ImmutableList<LongTokenRange> vnodes = ImmutableList.of(
+                new LongTokenRange(1, 2),
+                new LongTokenRange(2, 3),
+                new LongTokenRange(4, 5));
+
+        ReplicaRepairGroup replicaRepairGroup = new ReplicaRepairGroup(ImmutableSet.of(node, node2), vnodes, System.currentTimeMillis());
+        RepairConfiguration repairConfiguration = RepairConfiguration.newBuilder(myRepairConfiguration)
+                .withRangesPerSession(2)
+                .build();
+
+        RepairGroup repairGroup = builderFor(replicaRepairGroup).withRepairConfiguration(repairConfiguration)
+                .withTimeBasedRunPolicy(myTimeBasedRunPolicy).withRepairPolicies(myRepairPolicies).build(priority);
+
+        List<RepairTask> tasks = new ArrayList<>(repairGroup.getRepairTasks());
+
+        assertThat(tasks).hasSize(2);
+        assertThat(((VnodeRepairTask) tasks.get(0)).getTokenRanges())
+                .containsExactly(new LongTokenRange(1, 2), new LongTokenRange(2, 3));
+        assertThat(((VnodeRepairTask) tasks.get(1)).getTokenRanges()).containsExactly(new LongTokenRange(4, 5));
+        for (RepairTask task : tasks)
+        {
+            assertThat(((VnodeRepairTask) task).getReplicas()).containsExactlyInAnyOrder(node, node2);
+        }
+    }
+
     @Test
     public void testExecuteAllTasksSuccessful() throws ScheduledJobException
     {
@@ -420,6 +488,108 @@ public class TestRepairGroup
         assertThat(success).isFalse();
     }
 
+    @Test
+    public void testExecuteConcurrentlyAllTasksSuccessful() throws ScheduledJobException
+    {
+        DriverNode node = mockNode("DC1");
+        LongTokenRange range = new LongTokenRange(1, 2);
+        ImmutableSet<DriverNode> nodes = ImmutableSet.of(node);
+        ReplicaRepairGroup replicaRepairGroup = new ReplicaRepairGroup(nodes, ImmutableList.of(range), System.currentTimeMillis());
+
+        try (RepairTaskRunner repairTaskRunner = RepairTaskRunner.newBuilder().build())
+        {
+            RepairGroup repairGroup = spy(builderFor(replicaRepairGroup).withRepairTaskRunner(repairTaskRunner).build(priority));
+            RepairTask repairTask1 = mock(RepairTask.class);
+            RepairTask repairTask2 = mock(RepairTask.class);
+            doReturn(Arrays.asList(repairTask1, repairTask2)).when(repairGroup).getRepairTasks();
+
+            boolean success = repairGroup.execute();
+            assertThat(success).isTrue();
+            verify(repairTask1).execute();
+            verify(repairTask1).cleanup();
+            verify(repairTask2).execute();
+            verify(repairTask2).cleanup();
+            assertThat(repairTaskRunner.availableSessions(node)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testExecuteConcurrentlySomeTasksFailed() throws ScheduledJobException
+    {
+        DriverNode node = mockNode("DC1");
+        LongTokenRange range = new LongTokenRange(1, 2);
+        ImmutableSet<DriverNode> nodes = ImmutableSet.of(node);
+        ReplicaRepairGroup replicaRepairGroup = new ReplicaRepairGroup(nodes, ImmutableList.of(range), System.currentTimeMillis());
+
+        try (RepairTaskRunner repairTaskRunner = RepairTaskRunner.newBuilder().build())
+        {
+            RepairGroup repairGroup = spy(builderFor(replicaRepairGroup).withRepairTaskRunner(repairTaskRunner).build(priority));
+            RepairTask repairTask1 = mock(RepairTask.class);
+            RepairTask repairTask2 = mock(RepairTask.class);
+            doReturn(Arrays.asList(repairTask1, repairTask2)).when(repairGroup).getRepairTasks();
+            doThrow(new ScheduledJobException("foo")).when(repairTask1).execute();
+
+            boolean success = repairGroup.execute();
+            assertThat(success).isFalse();
+            verify(repairTask2).execute();
+            assertThat(repairTaskRunner.availableSessions(node)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testExecuteConcurrentlyInterruptedCancelsAndAwaitsTasks() throws Exception
+    {
+        DriverNode node = mockNode("DC1");
+        LongTokenRange range = new LongTokenRange(1, 2);
+        ImmutableSet<DriverNode> nodes = ImmutableSet.of(node);
+        ReplicaRepairGroup replicaRepairGroup = new ReplicaRepairGroup(nodes, ImmutableList.of(range), System.currentTimeMillis());
+
+        try (RepairTaskRunner repairTaskRunner = RepairTaskRunner.newBuilder().withMaxSessionsPerNode(2).build())
+        {
+            RepairGroup repairGroup = spy(builderFor(replicaRepairGroup).withRepairTaskRunner(repairTaskRunner).build(priority));
+            CountDownLatch started = new CountDownLatch(2);
+            RepairTask repairTask1 = mock(RepairTask.class);
+            RepairTask repairTask2 = mock(RepairTask.class);
+            doReturn(Arrays.asList(repairTask1, repairTask2)).when(repairGroup).getRepairTasks();
+            doAnswer(invocation -> awaitInterrupt(started)).when(repairTask1).execute();
+            doAnswer(invocation -> awaitInterrupt(started)).when(repairTask2).execute();
+
+            AtomicBoolean success = new AtomicBoolean(true);
+            AtomicBoolean interrupted = new AtomicBoolean();
+            Thread executor = new Thread(() ->
+            {
+                success.set(repairGroup.execute());
+                interrupted.set(Thread.currentThread().isInterrupted());
+            });
+            executor.start();
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            executor.interrupt();
+            executor.join(TimeUnit.SECONDS.toMillis(1));
+
+            assertThat(executor.isAlive()).isFalse();
+            assertThat(success.get()).isFalse();
+            assertThat(interrupted.get()).isTrue();
+            verify(repairTask1).cleanup();
+            verify(repairTask2).cleanup();
+            assertThat(repairTaskRunner.availableSessions(node)).isEqualTo(2);
+        }
+    }
+
+    private static Object awaitInterrupt(CountDownLatch started) throws ScheduledJobException
+    {
+        started.countDown();
+        try
+        {
+            new CountDownLatch(1).await();
+        }
+        catch (InterruptedException e)
+        {
+            throw new ScheduledJobException(e);
+        }
+        return null;
+    }
+
     private RepairGroup.Builder builderFor(ReplicaRepairGroup replicaRepairGroup)
     {
         return RepairGroup.newBuilder()
@@ -438,6 +608,7 @@ public class TestRepairGroup
     {
         DriverNode node = mock(DriverNode.class);
         when(node.getDatacenter()).thenReturn(dataCenter);
+        when(node.getId()).thenReturn(UUID.randomUUID());
         return node;
     }
 }
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -149,6 +150,41 @@ public class TestRepairGroupTasks
         verify(repairSessions.get(range(1, 2))).finish(RepairStatus.SUCCESS);
     }
 
+    @Test
+    public void testExecuteManyTasksSharesHangPreventionThread() throws Exception
+    {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("keyspace", keyspaceName);
+        metadata.put("table", tableName);
+        List<LongTokenRange> vnodes = new ArrayList<>();
+        for (int i = 1; i <= 20; i++)
+        {
+            vnodes.add(range(i, i + 1));
+        }
+        ReplicaRepairGroup replicaRepairGroup = new ReplicaRepairGroup(ImmutableSet.of(withNode("127.0.0.1")),
+                ImmutableList.copyOf(vnodes), System.currentTimeMillis());
+        Set<RepairResource> repairResources = Sets.newHashSet(new RepairResource("DC1", "my-resource"));
+
+        when(mockJmxProxyFactory.connect()).thenReturn(new CustomJmxProxy((notificationListener, i) -> progressAndComplete(notificationListener, range(i, i + 1))));
+
+        when(mockRepairResourceFactory.getRepairResources(eq(replicaRepairGroup))).thenReturn(repairResources);
+        when(mockRepairLockFactory.getLock(eq(mockLockFactory), eq(repairResources), eq(metadata), eq(priority))).thenReturn(new DummyLock());
+        when(myTimeBasedRunPolicy.shouldRun(any(TableReference.class))).thenReturn(true);
+
+        RepairGroup repairGroup = builderFor(replicaRepairGroup).withTimeBasedRunPolicy(myTimeBasedRunPolicy).withRepairPolicies(myRepairPolicies).build(priority);
+
+        assertThat(repairGroup.execute()).isTrue();
+
+        long hangPreventionThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("HangPreventingTask-"))
+                .count();
+        assertThat(hangPreventionThreads).isLessThanOrEqualTo(1);
+        for (LongTokenRange vnode : vnodes)
+        {
+            verify(repairSessions.get(vnode)).finish(RepairStatus.SUCCESS);
+        }
+    }
+
     @Test (timeout = 1000L)
     public void testExecuteWithPolicyStoppingSecondTask() throws Exception
     {
@@ -314,6 +350,12 @@ public class TestRepairGroupTasks
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public long getPendingCompactions()
+        {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public String getNodeStatus()
         {
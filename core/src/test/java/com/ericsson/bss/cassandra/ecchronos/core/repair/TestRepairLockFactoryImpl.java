@@ -14,12 +14,17 @@
  */
 package com.ericsson.bss.cassandra.ecchronos.core.repair;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,10 +32,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -43,7 +53,7 @@ public class TestRepairLockFactoryImpl
 {
     private static final int LOCKS_PER_RESOURCE = 1;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private LockFactory mockLockFactory;
 
     @Mock
@@ -227,6 +237,107 @@ public class TestRepairLockFactoryImpl
         verify(mockLock, never()).close();
     }
 
+    @Test
+    public void testMultipleLocksAreCompetedForConcurrently() throws LockException
+    {
+        RepairResource repairResourceDc1 = new RepairResource("DC1", "my-resource-dc1");
+        RepairResource repairResourceDc2 = new RepairResource("DC2", "my-resource-dc2");
+        RepairLockFactoryImpl repairLockFactory = new RepairLockFactoryImpl();
+        Map<String, String> metadata = Collections.singletonMap("metadatakey", "metadatavalue");
+        int priority = 1;
+        CompletableFuture<LockFactory.DistributedLock> pendingLockDc1 = new CompletableFuture<>();
+        LockFactory.DistributedLock mockLockDc2 = mock(LockFactory.DistributedLock.class);
+
+        withSufficientNodesForLocking(repairResourceDc1);
+        withSufficientNodesForLocking(repairResourceDc2);
+        withPendingLocking(repairResourceDc1, priority, metadata, pendingLockDc1);
+        withPendingLocking(repairResourceDc2, priority, metadata, CompletableFuture.completedFuture(mockLockDc2));
+
+        CompletableFuture<LockFactory.DistributedLock> lock = CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                return repairLockFactory.getLock(mockLockFactory,
+                        Sets.newLinkedHashSet(Arrays.asList(repairResourceDc1, repairResourceDc2)), metadata, priority);
+            }
+            catch (LockException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        verify(mockLockFactory, timeout(1000)).tryLockAsync(eq(repairResourceDc2.getDataCenter()),
+                eq(repairResourceDc2.getResourceName(LOCKS_PER_RESOURCE)), eq(priority), eq(metadata));
+        assertThat(lock).isNotDone();
+
+        pendingLockDc1.complete(mockLock);
+        lock.join().close();
+
+        verify(mockLock).close();
+        verify(mockLockDc2).close();
+    }
+
+    @Test
+    public void testMultipleLocksFirstFailingAsynchronously()
+    {
+        RepairResource repairResourceDc1 = new RepairResource("DC1", "my-resource-dc1");
+        RepairResource repairResourceDc2 = new RepairResource("DC2", "my-resource-dc2");
+        RepairLockFactoryImpl repairLockFactory = new RepairLockFactoryImpl();
+        Map<String, String> metadata = Collections.singletonMap("metadatakey", "metadatavalue");
+        int priority = 1;
+        CompletableFuture<LockFactory.DistributedLock> pendingLockDc1 = new CompletableFuture<>();
+
+        withSufficientNodesForLocking(repairResourceDc1);
+        withSufficientNodesForLocking(repairResourceDc2);
+        withPendingLocking(repairResourceDc1, priority, metadata, pendingLockDc1);
+        withPendingLocking(repairResourceDc2, priority, metadata, CompletableFuture.completedFuture(mockLock));
+
+        CompletableFuture<Void> lock = CompletableFuture.runAsync(() ->
+                verifyExceptionIsThrownWhenGettingLock(repairLockFactory, priority, metadata, repairResourceDc1, repairResourceDc2));
+
+        verify(mockLockFactory, timeout(1000)).tryLockAsync(eq(repairResourceDc2.getDataCenter()),
+                eq(repairResourceDc2.getResourceName(LOCKS_PER_RESOURCE)), eq(priority), eq(metadata));
+        pendingLockDc1.completeExceptionally(new LockException("Unable to lock"));
+        lock.join();
+
+        verify(mockLock).close();
+    }
+
+    @Test
+    public void testInterruptedLockingReleasesLockAcquiredOnOtherThread() throws Exception
+    {
+        RepairResource repairResourceDc1 = new RepairResource("DC1", "my-resource-dc1");
+        ExecutorService releaseExecutor = Executors.newSingleThreadExecutor();
+        RepairLockFactoryImpl repairLockFactory = new RepairLockFactoryImpl(releaseExecutor);
+        Map<String, String> metadata = Collections.singletonMap("metadatakey", "metadatavalue");
+        int priority = 1;
+        CompletableFuture<LockFactory.DistributedLock> pendingLock = new CompletableFuture<>();
+        CompletableFuture<Thread> closingThread = new CompletableFuture<>();
+        doAnswer(invocation -> closingThread.complete(Thread.currentThread())).when(mockLock).close();
+
+        withSufficientNodesForLocking(repairResourceDc1);
+        withPendingLocking(repairResourceDc1, priority, metadata, pendingLock);
+
+        try
+        {
+            Thread.currentThread().interrupt();
+            assertThatExceptionOfType(LockException.class).isThrownBy(
+                    () -> repairLockFactory.getLock(mockLockFactory, Sets.newHashSet(repairResourceDc1), metadata,
+                            priority));
+            assertThat(Thread.interrupted()).isTrue();
+
+            Thread completingThread = new Thread(() -> pendingLock.complete(mockLock));
+            completingThread.start();
+            completingThread.join();
+
+            assertThat(closingThread.get(1, TimeUnit.SECONDS)).isNotSameAs(completingThread);
+        }
+        finally
+        {
+            releaseExecutor.shutdownNow();
+        }
+    }
+
     private void verifyNoLockWasTried() throws LockException
     {
         verify(mockLockFactory, never()).tryLock(anyString(), anyString(), anyInt(), anyMap());
@@ -273,6 +384,11 @@ public class TestRepairLockFactoryImpl
         when(mockLockFactory.tryLock(eq(repairResource.getDataCenter()), eq(repairResource.getResourceName(LOCKS_PER_RESOURCE)), eq(priority), eq(metadata))).thenThrow(exceptionClass);
     }
 
+    private void withPendingLocking(RepairResource repairResource, int priority, Map<String, String> metadata, CompletableFuture<LockFactory.DistributedLock> pendingLock)
+    {
+        doReturn(pendingLock).when(mockLockFactory).tryLockAsync(eq(repairResource.getDataCenter()), eq(repairResource.getResourceName(LOCKS_PER_RESOURCE)), eq(priority), eq(metadata));
+    }
+
     private void withSufficientNodesForLocking(RepairResource repairResource)
     {
         when(mockLockFactory.sufficientNodesForLocking(eq(repairResource.getDataCenter()), eq(repairResource.getResourceName(LOCKS_PER_RESOURCE)))).thenReturn(true);
@@ -31,6 +31,14 @@ public class TestRepairResource
         assertThat(repairResource.getResourceName(2)).isEqualTo("RepairResource-my-resource-2");
     }
 
+    @Test
+    public void testFirstResourceNameIsReused()
+    {
+        RepairResource repairResource = new RepairResource("dc1", "my-resource");
+
+        assertThat(repairResource.getResourceName(1)).isSameAs(repairResource.getResourceName(1));
+    }
+
     @Test
     public void testRepairResourceEquality()
     {
@@ -24,10 +24,12 @@ import com.ericsson.bss.cassandra.ecchronos.core.scheduling.ScheduleManager;
 import com.ericsson.bss.cassandra.ecchronos.core.scheduling.ScheduledJob;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.DriverNode;
 import com.ericsson.bss.cassandra.ecchronos.core.utils.TableReference;
+import com.ericsson.bss.cassandra.ecchronos.fm.RepairFaultReporter;
 import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -115,6 +117,45 @@ public class TestRepairSchedulerImpl
         verifyNoMoreInteractions(scheduleManager);
     }
 
+    @Test
+    public void testRescheduleTable()
+    {
+        RepairSchedulerImpl repairSchedulerImpl = defaultRepairSchedulerImplBuilder().build();
+
+        repairSchedulerImpl.putConfigurations(TABLE_REFERENCE, Collections.singleton(RepairConfiguration.DEFAULT));
+        ArgumentCaptor<ScheduledJob> jobCaptor = ArgumentCaptor.forClass(ScheduledJob.class);
+        verify(scheduleManager, timeout(1000)).schedule(jobCaptor.capture());
+
+        repairSchedulerImpl.rescheduleTable(TABLE_REFERENCE2);
+        repairSchedulerImpl.rescheduleTable(TABLE_REFERENCE);
+
+        verify(scheduleManager, timeout(1000)).reschedule(jobCaptor.getValue());
+
+        repairSchedulerImpl.close();
+        verify(scheduleManager).deschedule(jobCaptor.getValue());
+        verifyNoMoreInteractions(scheduleManager);
+    }
+
+    @Test
+    public void testRepairStateUpdateReschedulesJob()
+    {
+        RepairSchedulerImpl repairSchedulerImpl = defaultRepairSchedulerImplBuilder()
+                .withFaultReporter(mock(RepairFaultReporter.class))
+                .build();
+
+        repairSchedulerImpl.putConfigurations(TABLE_REFERENCE, Collections.singleton(RepairConfiguration.DEFAULT));
+        ArgumentCaptor<ScheduledJob> jobCaptor = ArgumentCaptor.forClass(ScheduledJob.class);
+        verify(scheduleManager, timeout(1000)).schedule(jobCaptor.capture());
+        ArgumentCaptor<PostUpdateHook> hookCaptor = ArgumentCaptor.forClass(PostUpdateHook.class);
+        verify(myRepairStateFactory).create(eq(TABLE_REFERENCE), eq(RepairConfiguration.DEFAULT), hookCaptor.capture());
+
+        hookCaptor.getValue().postUpdate(myRepairStateSnapshot);
+
+        verify(scheduleManager).reschedule(jobCaptor.getValue());
+
+        repairSchedulerImpl.close();
+    }
+
     @Test
     public void testConfigureTwoTables()
     {
@@ -211,6 +252,7 @@ public class TestRepairSchedulerImpl
 
         repairSchedulerImpl.putConfigurations(TABLE_REFERENCE, Collections.singleton(RepairConfiguration.DEFAULT));
 
+        verify(scheduleManager, timeout(1000)).reschedule(any(ScheduledJob.class));
         assertOneTableViewExist(repairSchedulerImpl, TABLE_REFERENCE, RepairConfiguration.DEFAULT);
 
         repairSchedulerImpl.close();
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.repair;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.bss.cassandra.ecchronos.core.exceptions.ScheduledJobException;
+import com.ericsson.bss.cassandra.ecchronos.core.utils.DriverNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestRepairTaskRunner
+{
+    private final DriverNode myNode1 = mockNode();
+    private final DriverNode myNode2 = mockNode();
+
+    private RepairTaskRunner myRepairTaskRunner;
+
+    @Before
+    public void setup()
+    {
+        myRepairTaskRunner = RepairTaskRunner.newBuilder()
+                .withThreads(2)
+                .withMaxSessionsPerNode(1)
+                .build();
+    }
+
+    @After
+    public void cleanup()
+    {
+        myRepairTaskRunner.close();
+    }
+
+    @Test
+    public void testSubmitSuccessfulTask() throws Exception
+    {
+        RepairTask repairTask = mock(RepairTask.class);
+
+        Future<Boolean> future = myRepairTaskRunner.submit(repairTask, Arrays.asList(myNode1, myNode2));
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isTrue();
+        verify(repairTask).execute();
+        verify(repairTask).cleanup();
+        assertThat(myRepairTaskRunner.availableSessions(myNode1)).isEqualTo(1);
+        assertThat(myRepairTaskRunner.availableSessions(myNode2)).isEqualTo(1);
+    }
+
+    @Test
+    public void testSubmitFailingTask() throws Exception
+    {
+        RepairTask repairTask = mock(RepairTask.class);
+        doThrow(new ScheduledJobException("foo")).when(repairTask).execute();
+
+        Future<Boolean> future = myRepairTaskRunner.submit(repairTask, Collections.singleton(myNode1));
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isFalse();
+        verify(repairTask).cleanup();
+        assertThat(myRepairTaskRunner.availableSessions(myNode1)).isEqualTo(1);
+    }
+
+    @Test
+    public void testSessionsPerNodeAreLimited() throws Exception
+    {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        RepairTask firstTask = mock(RepairTask.class);
+        doAnswer(invocation ->
+        {
+            firstStarted.countDown();
+            releaseFirst.await();
+            return null;
+        }).when(firstTask).execute();
+        RepairTask secondTask = mock(RepairTask.class);
+
+        Future<Boolean> firstFuture = myRepairTaskRunner.submit(firstTask, Arrays.asList(myNode1, myNode2));
+        assertThat(firstStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        ExecutorService submitter = Executors.newSingleThreadExecutor();
+        try
+        {
+            Future<Future<Boolean>> secondSubmit = submitter.submit(
+                    () -> myRepairTaskRunner.submit(secondTask, Collections.singleton(myNode2)));
+
+            Thread.sleep(100);
+            assertThat(secondSubmit.isDone()).isFalse();
+
+            releaseFirst.countDown();
+
+            assertThat(firstFuture.get(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(secondSubmit.get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS)).isTrue();
+        }
+        finally
+        {
+            submitter.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTasksOnDifferentNodesRunConcurrently() throws Exception
+    {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        RepairTask firstTask = mock(RepairTask.class);
+        RepairTask secondTask = mock(RepairTask.class);
+        doAnswer(invocation ->
+        {
+            bothStarted.countDown();
+            bothStarted.await();
+            return null;
+        }).when(firstTask).execute();
+        doAnswer(invocation ->
+        {
+            bothStarted.countDown();
+            bothStarted.await();
+            return null;
+        }).when(secondTask).execute();
+
+        Future<Boolean> firstFuture = myRepairTaskRunner.submit(firstTask, Collections.singleton(myNode1));
+        Future<Boolean> secondFuture = myRepairTaskRunner.submit(secondTask, Collections.singleton(myNode2));
+
+        assertThat(firstFuture.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondFuture.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testCancelRunningTaskWaitsForTaskToFinish() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch(1);
+        RepairTask repairTask = mock(RepairTask.class);
+        doAnswer(invocation -> awaitInterrupt(started)).when(repairTask).execute();
+
+        Future<Boolean> future = myRepairTaskRunner.submit(repairTask, Collections.singleton(myNode1));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(future.cancel(true)).isTrue();
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isFalse();
+        assertThat(future.isCancelled()).isFalse();
+        verify(repairTask).cleanup();
+        assertThat(myRepairTaskRunner.availableSessions(myNode1)).isEqualTo(1);
+    }
+
+    @Test
+    public void testCancelQueuedTaskReleasesSessions() throws Exception
+    {
+        RepairTaskRunner repairTaskRunner = RepairTaskRunner.newBuilder()
+                .withThreads(1)
+                .withMaxSessionsPerNode(2)
+                .build();
+        try
+        {
+            CountDownLatch firstStarted = new CountDownLatch(1);
+            RepairTask firstTask = mock(RepairTask.class);
+            doAnswer(invocation -> awaitInterrupt(firstStarted)).when(firstTask).execute();
+            RepairTask secondTask = mock(RepairTask.class);
+
+            Future<Boolean> firstFuture = repairTaskRunner.submit(firstTask, Collections.singleton(myNode1));
+            assertThat(firstStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> secondFuture = repairTaskRunner.submit(secondTask, Collections.singleton(myNode1));
+            assertThat(repairTaskRunner.availableSessions(myNode1)).isEqualTo(0);
+
+            assertThat(secondFuture.cancel(true)).isTrue();
+
+            assertThat(secondFuture.isCancelled()).isTrue();
+            assertThatExceptionOfType(CancellationException.class).isThrownBy(secondFuture::get);
+            assertThat(repairTaskRunner.availableSessions(myNode1)).isEqualTo(1);
+
+            firstFuture.cancel(true);
+            assertThat(firstFuture.get(1, TimeUnit.SECONDS)).isFalse();
+            verify(secondTask, never()).execute();
+            verify(secondTask, never()).cleanup();
+            assertThat(repairTaskRunner.availableSessions(myNode1)).isEqualTo(2);
+        }
+        finally
+        {
+            repairTaskRunner.close();
+        }
+    }
+
+    @Test
+    public void testBuildWithInvalidThreads()
+    {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RepairTaskRunner.newBuilder().withThreads(0).build());
+    }
+
+    @Test
+    public void testBuildWithInvalidMaxSessionsPerNode()
+    {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RepairTaskRunner.newBuilder().withMaxSessionsPerNode(0).build());
+    }
+
+    private static Object awaitInterrupt(CountDownLatch started) throws ScheduledJobException
+    {
+        started.countDown();
+        try
+        {
+            new CountDownLatch(1).await();
+        }
+        catch (InterruptedException e)
+        {
+            throw new ScheduledJobException(e);
+        }
+        return null;
+    }
+
+    private static DriverNode mockNode()
+    {
+        DriverNode node = mock(DriverNode.class);
+        when(node.getId()).thenReturn(UUID.randomUUID());
+        return node;
+    }
+}
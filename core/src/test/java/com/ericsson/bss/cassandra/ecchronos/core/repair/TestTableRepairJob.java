@@ -17,6 +17,7 @@ package com.ericsson.bss.cassandra.ecchronos.core.repair;
 import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
 import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
 import com.ericsson.bss.cassandra.ecchronos.core.JmxProxyFactory;
+import com.ericsson.bss.cassandra.ecchronos.core.MockTableReferenceFactory;
 import com.ericsson.bss.cassandra.ecchronos.core.TableStorageStates;
 import com.ericsson.bss.cassandra.ecchronos.core.TimeBasedRunPolicy;
 import com.ericsson.bss.cassandra.ecchronos.core.metrics.TableRepairMetrics;
@@ -803,6 +804,80 @@ public class TestTableRepairJob
         assertThat(myRepairJob.getRealPriority()).isEqualTo(2);
     }
 
+    @Test
+    public void testGetDeadline()
+    {
+        long lastRepaired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1);
+        long estimatedRepairTime = TimeUnit.MINUTES.toMillis(30);
+        doReturn(lastRepaired).when(myRepairStateSnapshot).lastCompletedAt();
+        doReturn(estimatedRepairTime).when(myRepairStateSnapshot).getEstimatedRepairTime();
+
+        long expectedDeadline = lastRepaired
+                + TimeUnit.SECONDS.toMillis(MockTableReferenceFactory.DEFAULT_GC_GRACE_SECONDS)
+                - estimatedRepairTime;
+        assertThat(myRepairJob.getDeadline()).isEqualTo(expectedDeadline);
+    }
+
+    @Test
+    public void testGetRealPriorityIsCachedForSameSnapshot()
+    {
+        long lastRepaired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(RUN_INTERVAL_IN_DAYS);
+        doReturn(true).when(myRepairStateSnapshot).canRepair();
+        mockRepairGroup(lastRepaired);
+
+        assertThat(myRepairJob.getRealPriority()).isEqualTo(1);
+        assertThat(myRepairJob.getRealPriority()).isEqualTo(1);
+
+        verify(myRepairStateSnapshot, times(1)).canRepair();
+    }
+
+    @Test
+    public void testGetRealPriorityRecalculatedOnNewSnapshot()
+    {
+        long lastRepaired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(RUN_INTERVAL_IN_DAYS);
+        doReturn(true).when(myRepairStateSnapshot).canRepair();
+        mockRepairGroup(lastRepaired);
+        assertThat(myRepairJob.getRealPriority()).isEqualTo(1);
+
+        RepairStateSnapshot newRepairStateSnapshot = mock(RepairStateSnapshot.class);
+        doReturn(false).when(newRepairStateSnapshot).canRepair();
+        doReturn(newRepairStateSnapshot).when(myRepairState).getSnapshot();
+
+        assertThat(myRepairJob.getRealPriority()).isEqualTo(-1);
+    }
+
+    @Test
+    public void testGetRealPriorityRecalculatedAfterGranularityUnit() throws InterruptedException
+    {
+        ScheduledJob.Configuration configuration = new ScheduledJob.ConfigurationBuilder()
+                .withPriority(ScheduledJob.Priority.LOW)
+                .withRunInterval(RUN_INTERVAL_IN_DAYS, TimeUnit.DAYS)
+                .withPriorityGranularity(TimeUnit.MILLISECONDS)
+                .build();
+
+        myRepairJob = new TableRepairJob.Builder()
+                .withConfiguration(configuration)
+                .withTableReference(myTableReference)
+                .withJmxProxyFactory(myJmxProxyFactory)
+                .withRepairState(myRepairState)
+                .withTableRepairMetrics(myTableRepairMetrics)
+                .withRepairConfiguration(myRepairConfiguration)
+                .withRepairLockType(RepairLockType.VNODE)
+                .withTableStorageStates(myTableStorageStates)
+                .withRepairHistory(myRepairHistory)
+                .withTimeBasedRunPolicy(myTimeBasedRunPolicy)
+                .build();
+
+        long lastRepaired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(RUN_INTERVAL_IN_DAYS);
+        doReturn(true).when(myRepairStateSnapshot).canRepair();
+        mockRepairGroup(lastRepaired);
+
+        int priority = myRepairJob.getRealPriority();
+        Thread.sleep(10);
+
+        assertThat(myRepairJob.getRealPriority()).isGreaterThan(priority);
+    }
+
     @Test
     public void testEqualsAndHashcode()
     {
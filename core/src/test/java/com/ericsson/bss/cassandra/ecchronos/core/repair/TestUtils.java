@@ -327,6 +327,12 @@ public class TestUtils
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public long getPendingCompactions()
+        {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public String getNodeStatus()
         {
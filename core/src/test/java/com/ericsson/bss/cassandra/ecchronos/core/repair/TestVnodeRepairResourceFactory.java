@@ -59,6 +59,33 @@ public class TestVnodeRepairResourceFactory
         assertThat(repairResourceFactory.getRepairResources(replicaRepairGroup)).containsExactlyInAnyOrder(repairResourceVnodeDc1, repairResourceVnodeDc2);
     }
 
+    @Test
+    public void testRepairResourcesAreReused()
+    {
+        UUID nodeId = UUID.fromString("f4678229-61eb-4a06-9db6-49e116c8ece0");
+        ReplicaRepairGroup replicaRepairGroup = generateReplicaRepairGroup(mockNode("DC1", nodeId));
+        ReplicaRepairGroup otherReplicaRepairGroup = generateReplicaRepairGroup(mockNode("DC1", nodeId));
+
+        RepairResourceFactory repairResourceFactory = new VnodeRepairResourceFactory();
+
+        RepairResource repairResource = repairResourceFactory.getRepairResources(replicaRepairGroup).iterator().next();
+        assertThat(repairResourceFactory.getRepairResources(otherReplicaRepairGroup).iterator().next()).isSameAs(repairResource);
+    }
+
+    @Test
+    public void testRepairResourceRecreatedWhenDataCenterChanges()
+    {
+        UUID nodeId = UUID.fromString("f4678229-61eb-4a06-9db6-49e116c8ece0");
+        ReplicaRepairGroup replicaRepairGroup = generateReplicaRepairGroup(mockNode("DC1", nodeId));
+        ReplicaRepairGroup otherReplicaRepairGroup = generateReplicaRepairGroup(mockNode("DC2", nodeId));
+
+        RepairResourceFactory repairResourceFactory = new VnodeRepairResourceFactory();
+        repairResourceFactory.getRepairResources(replicaRepairGroup);
+
+        assertThat(repairResourceFactory.getRepairResources(otherReplicaRepairGroup))
+                .containsExactly(new RepairResource("DC2", nodeId.toString()));
+    }
+
     private ReplicaRepairGroup generateReplicaRepairGroup(DriverNode... nodes)
     {
         LongTokenRange range = new LongTokenRange(1, 2);
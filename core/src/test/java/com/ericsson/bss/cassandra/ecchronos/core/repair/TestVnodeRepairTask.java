@@ -120,7 +120,7 @@ public class TestVnodeRepairTask
 
 
         final VnodeRepairTask repairTask = new VnodeRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics, repairHistory, ranges, participants, jobId);
+                myTableRepairMetrics, repairHistory, ranges, participants, jobId, new AdaptiveUnwindController());
 
         CountDownLatch cdl = startRepair(repairTask, false, proxy);
 
@@ -165,7 +165,7 @@ public class TestVnodeRepairTask
         ranges.add(range);
 
         final VnodeRepairTask repairTask = new VnodeRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics, repairHistory, ranges, participants, jobId);
+                myTableRepairMetrics, repairHistory, ranges, participants, jobId, new AdaptiveUnwindController());
 
         CountDownLatch cdl = startRepair(repairTask, false, proxy);
 
@@ -206,7 +206,7 @@ public class TestVnodeRepairTask
         ranges.add(range2);
 
         final VnodeRepairTask repairTask = new VnodeRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics, repairHistory, ranges, participants, jobId);
+                myTableRepairMetrics, repairHistory, ranges, participants, jobId, new AdaptiveUnwindController());
 
         CountDownLatch cdl = startRepair(repairTask, true, proxy);
 
@@ -248,7 +248,7 @@ public class TestVnodeRepairTask
         ranges.add(range2);
 
         final VnodeRepairTask repairTask = new VnodeRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics, repairHistory, ranges, participants, jobId);
+                myTableRepairMetrics, repairHistory, ranges, participants, jobId, new AdaptiveUnwindController());
 
         CountDownLatch cdl = startRepair(repairTask, true, proxy);
 
@@ -292,7 +292,7 @@ public class TestVnodeRepairTask
         ranges.add(range);
 
         final VnodeRepairTask repairTask = new VnodeRepairTask(jmxProxyFactory, myTableReference, myRepairConfiguration,
-                myTableRepairMetrics, repairHistory, ranges, participants, jobId);
+                myTableRepairMetrics, repairHistory, ranges, participants, jobId, new AdaptiveUnwindController());
 
         repairTask.progress(ProgressEventType.PROGRESS, getRepairMessage(range));
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.repair.state;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestAsyncPagedRows
+{
+    private final Row myRow1 = mock(Row.class);
+    private final Row myRow2 = mock(Row.class);
+    private final Row myRow3 = mock(Row.class);
+
+    @Test
+    public void testForEachPageSinglePage()
+    {
+        AsyncResultSet page = page(null, myRow1, myRow2);
+        List<Row> rows = new ArrayList<>();
+
+        AsyncPagedRows.forEachPage(CompletableFuture.completedFuture(page), pageRows -> addAll(rows, pageRows))
+                .toCompletableFuture().join();
+
+        assertThat(rows).containsExactly(myRow1, myRow2);
+        verify(page, never()).fetchNextPage();
+    }
+
+    @Test
+    public void testForEachPageMultiplePages()
+    {
+        AsyncResultSet lastPage = page(null, myRow3);
+        AsyncResultSet firstPage = page(CompletableFuture.completedFuture(lastPage), myRow1, myRow2);
+        List<Row> rows = new ArrayList<>();
+
+        AsyncPagedRows.forEachPage(CompletableFuture.completedFuture(firstPage), pageRows -> addAll(rows, pageRows))
+                .toCompletableFuture().join();
+
+        assertThat(rows).containsExactly(myRow1, myRow2, myRow3);
+    }
+
+    @Test
+    public void testForEachPageFetchesNextPageWhenPageIsConsumed()
+    {
+        AsyncResultSet lastPage = page(null, myRow2);
+        AsyncResultSet firstPage = page(CompletableFuture.completedFuture(lastPage), myRow1);
+        CompletableFuture<Void> firstPageConsumed = new CompletableFuture<>();
+        List<Row> rows = new ArrayList<>();
+
+        CompletableFuture<Void> result = AsyncPagedRows.forEachPage(CompletableFuture.completedFuture(firstPage),
+                pageRows ->
+                {
+                    pageRows.forEach(rows::add);
+                    return rows.size() == 1 ? firstPageConsumed : CompletableFuture.completedFuture(null);
+                }).toCompletableFuture();
+
+        assertThat(rows).containsExactly(myRow1);
+        assertThat(result).isNotDone();
+        verify(firstPage, never()).fetchNextPage();
+
+        firstPageConsumed.complete(null);
+
+        assertThat(result).isCompleted();
+        assertThat(rows).containsExactly(myRow1, myRow2);
+    }
+
+    @Test
+    public void testForEachPageFailedPage()
+    {
+        CompletableFuture<AsyncResultSet> failedPage = CompletableFuture.failedFuture(new IllegalStateException());
+        AsyncResultSet firstPage = page(failedPage, myRow1);
+
+        CompletableFuture<Void> result = AsyncPagedRows.forEachPage(CompletableFuture.completedFuture(firstPage),
+                pageRows -> CompletableFuture.completedFuture(null)).toCompletableFuture();
+
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    public void testForEachPageFailedConsumer()
+    {
+        AsyncResultSet firstPage = page(CompletableFuture.completedFuture(page(null, myRow2)), myRow1);
+
+        CompletableFuture<Void> result = AsyncPagedRows.forEachPage(CompletableFuture.completedFuture(firstPage),
+                pageRows -> CompletableFuture.failedFuture(new IllegalStateException())).toCompletableFuture();
+
+        assertThat(result).isCompletedExceptionally();
+        verify(firstPage, never()).fetchNextPage();
+    }
+
+    @Test
+    public void testIteratorMultiplePages()
+    {
+        AsyncResultSet lastPage = page(null, myRow3);
+        AsyncResultSet emptyPage = page(CompletableFuture.completedFuture(lastPage));
+        AsyncResultSet firstPage = page(CompletableFuture.completedFuture(emptyPage), myRow1, myRow2);
+
+        Iterator<Row> iterator = AsyncPagedRows.iterator(CompletableFuture.completedFuture(firstPage));
+
+        assertThat(iterator).toIterable().containsExactly(myRow1, myRow2, myRow3);
+    }
+
+    @Test
+    public void testIteratorFetchesNextPageWhenPageIsRead()
+    {
+        AsyncResultSet lastPage = page(null, myRow2);
+        AsyncResultSet firstPage = page(CompletableFuture.completedFuture(lastPage), myRow1);
+
+        Iterator<Row> iterator = AsyncPagedRows.iterator(CompletableFuture.completedFuture(firstPage));
+
+        assertThat(iterator.next()).isEqualTo(myRow1);
+        verify(firstPage).fetchNextPage();
+    }
+
+    @Test
+    public void testIteratorFailedPage()
+    {
+        IllegalStateException exception = new IllegalStateException();
+        AsyncResultSet firstPage = page(CompletableFuture.failedFuture(exception), myRow1);
+
+        Iterator<Row> iterator = AsyncPagedRows.iterator(CompletableFuture.completedFuture(firstPage));
+
+        assertThat(iterator.next()).isEqualTo(myRow1);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(iterator::hasNext).isSameAs(exception);
+    }
+
+    private static CompletionStage<Void> addAll(final List<Row> rows, final Iterable<Row> pageRows)
+    {
+        pageRows.forEach(rows::add);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static AsyncResultSet page(final CompletionStage<AsyncResultSet> nextPage, final Row... rows)
+    {
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        List<Row> pageRows = rows.length == 0 ? Collections.emptyList() : Arrays.asList(rows);
+        when(resultSet.currentPage()).thenReturn(pageRows);
+        when(resultSet.hasMorePages()).thenReturn(nextPage != null);
+        when(resultSet.fetchNextPage()).thenReturn(nextPage);
+        return resultSet;
+    }
+}
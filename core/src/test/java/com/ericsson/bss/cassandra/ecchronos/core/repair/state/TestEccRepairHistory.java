@@ -34,6 +34,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -41,6 +42,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
@@ -267,6 +269,57 @@ public class TestEccRepairHistory extends AbstractCassandraContainerTest
         assertThat(repairEntries.get(1).getRange()).isEqualTo(range);
     }
 
+    @Test
+    public void testInsertAndIterateAsync()
+    {
+        long from = System.currentTimeMillis();
+
+        UUID jobId = UUID.randomUUID();
+        LongTokenRange range = new LongTokenRange(1, 2);
+        LongTokenRange range2 = new LongTokenRange(2, 3);
+
+        Set<DriverNode> participants = Sets.newHashSet(mockLocalNode, mockNode());
+        withKnownRange(range, participants);
+        withKnownRange(range2, participants);
+
+        RepairHistory.RepairSession repairSession = repairHistory
+                .newSession(tableReference, jobId, range, participants);
+        repairSession.start();
+        repairSession.finish(RepairStatus.SUCCESS);
+        RepairHistory.RepairSession repairSession2 = repairHistory
+                .newSession(tableReference, jobId, range2, participants);
+        repairSession2.start();
+        repairSession2.finish(RepairStatus.FAILED);
+
+        long to = System.currentTimeMillis();
+
+        // Read one row per page to iterate over multiple pages
+        RepairHistoryProvider pagedRepairHistoryProvider = EccRepairHistory.newBuilder()
+                .withLocalNode(mockLocalNode)
+                .withLookbackTime(30, TimeUnit.DAYS)
+                .withSession(mySession)
+                .withKeyspace(keyspaceName)
+                .withStatementDecorator(s -> s)
+                .withReplicationState(mockReplicationState)
+                .withPageSize(1)
+                .build();
+
+        List<RepairEntry> repairEntries = new ArrayList<>();
+        pagedRepairHistoryProvider.iterateAsync(localId, tableReference, to, from,
+                (repairEntry) -> RepairStatus.SUCCESS == repairEntry.getStatus(), (page) ->
+                {
+                    repairEntries.addAll(page);
+                    return CompletableFuture.completedFuture(null);
+                })
+                .toCompletableFuture().join();
+
+        assertThat(repairEntries).extracting(RepairEntry::getRange).containsExactly(range);
+        assertThat(pagedRepairHistoryProvider.iterate(tableReference, to, from, Predicates.alwaysTrue()))
+                .toIterable()
+                .extracting(RepairEntry::getRange)
+                .containsExactly(range2, range);
+    }
+
     @Test
     public void testInsertAndIterateClusterWide()
     {
@@ -46,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.ericsson.bss.cassandra.ecchronos.core.MockTableReferenceFactory.tableReference;
@@ -329,6 +330,50 @@ public class TestRepairHistoryProviderImpl extends AbstractCassandraContainerTes
         assertThat(repairEntryIterator.hasNext()).isFalse();
     }
 
+    @Test
+    public void testIterateMultiplePages()
+    {
+        RepairHistoryProviderImpl pagedRepairHistoryProvider = new RepairHistoryProviderImpl(
+                new NodeResolverImpl(mySession), mySession, s -> s, LOOKBACK_TIME, 1, mockClock(CLOCK_TIME));
+        insertRecords(3);
+
+        Iterator<RepairEntry> repairEntryIterator = pagedRepairHistoryProvider.iterate(myTableReference, CLOCK_TIME,
+                Predicates.alwaysTrue());
+
+        assertThat(Lists.newArrayList(repairEntryIterator)).extracting(RepairEntry::getRange)
+                .containsExactlyInAnyOrder(new LongTokenRange(0, 1), new LongTokenRange(1, 2),
+                        new LongTokenRange(2, 3));
+    }
+
+    @Test
+    public void testIterateAsyncMultiplePages()
+    {
+        RepairHistoryProviderImpl pagedRepairHistoryProvider = new RepairHistoryProviderImpl(
+                new NodeResolverImpl(mySession), mySession, s -> s, LOOKBACK_TIME, 1, mockClock(CLOCK_TIME));
+        insertRecords(3);
+
+        List<RepairEntry> repairEntries = new ArrayList<>();
+        pagedRepairHistoryProvider.iterateAsync(myLocalNode.getId(), myTableReference, CLOCK_TIME,
+                CLOCK_TIME - LOOKBACK_TIME, Predicates.alwaysTrue(), (page) ->
+                {
+                    repairEntries.addAll(page);
+                    return CompletableFuture.completedFuture(null);
+                }).toCompletableFuture().join();
+
+        assertThat(repairEntries).extracting(RepairEntry::getRange)
+                .containsExactlyInAnyOrder(new LongTokenRange(0, 1), new LongTokenRange(1, 2),
+                        new LongTokenRange(2, 3));
+        assertThat(repairEntries).extracting(RepairEntry::getParticipants).containsOnly(Sets.newHashSet(myLocalNode));
+    }
+
+    @Test
+    public void testIterateAsyncInvalidRange()
+    {
+        assertThat(repairHistoryProvider.iterateAsync(myLocalNode.getId(), myTableReference, 1, 2,
+                Predicates.alwaysTrue(), page -> CompletableFuture.completedFuture(null)).toCompletableFuture())
+                .isCompletedExceptionally();
+    }
+
     @Test
     public void testInvalidRange()
     {
@@ -337,6 +382,15 @@ public class TestRepairHistoryProviderImpl extends AbstractCassandraContainerTes
                 .withMessageContaining("Invalid range when iterating");
     }
 
+    private void insertRecords(int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            insertRecord(KEYSPACE, TABLE, Sets.newHashSet(myLocalNode), new LongTokenRange(i, i + 1), STARTED_AT - i,
+                    CLOCK_TIME, RepairStatus.SUCCESS);
+        }
+    }
+
     private void insertRecord(String keyspace, String table, LongTokenRange range, RepairStatus repairStatus)
     {
         insertRecord(keyspace, table, Sets.newHashSet(myLocalNode), range, STARTED_AT, CLOCK_TIME, repairStatus);
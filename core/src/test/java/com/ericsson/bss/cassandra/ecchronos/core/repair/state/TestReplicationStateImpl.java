@@ -42,6 +42,9 @@ import static com.ericsson.bss.cassandra.ecchronos.core.MockTableReferenceFactor
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -404,4 +407,85 @@ public class TestReplicationStateImpl
 
         assertThat(replicationState.getTokenRanges(tableReference)).isSameAs(tokenRanges);
     }
+
+    @Test
+    public void testTokenMapIsOnlyReadOnceForSameTokenMap() throws Exception
+    {
+        LongTokenRange range1 = new LongTokenRange(1, 2);
+        TableReference tableReference = tableReference("ks2", "tb");
+
+        TokenRange tokenRange = TokenUtil.getRange(1, 2);
+
+        doReturn(Sets.newHashSet(tokenRange)).when(mockTokenMap).getTokenRanges(eq("ks2"), eq(mockReplica1));
+        doReturn(Sets.newHashSet(mockReplica1, mockReplica2, mockReplica3)).when(mockTokenMap)
+                .getReplicas(eq("ks2"), eq(tokenRange));
+
+        ReplicationState replicationState = new ReplicationStateImpl(mockNodeResolver, mockSession, mockReplica1);
+
+        Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicas = replicationState.getTokenRangeToReplicas(
+                tableReference);
+        assertThat(replicationState.getTokenRangeToReplicas(tableReference)).isSameAs(tokenRangeToReplicas);
+        assertThat(replicationState.getNodes(tableReference, range1)).isSameAs(tokenRangeToReplicas.get(range1));
+
+        verify(mockTokenMap, times(1)).getTokenRanges(eq("ks2"), eq(mockReplica1));
+        verify(mockTokenMap, times(1)).getReplicas(eq("ks2"), eq(tokenRange));
+    }
+
+    @Test
+    public void testNewTokenMapWithSameReplicationKeepsInstance() throws Exception
+    {
+        TableReference tableReference = tableReference("ks3", "tb");
+
+        TokenRange tokenRange = TokenUtil.getRange(1, 2);
+
+        doReturn(Sets.newHashSet(tokenRange)).when(mockTokenMap).getTokenRanges(eq("ks3"), eq(mockReplica1));
+        doReturn(Sets.newHashSet(mockReplica1, mockReplica2, mockReplica3)).when(mockTokenMap)
+                .getReplicas(eq("ks3"), eq(tokenRange));
+
+        ReplicationState replicationState = new ReplicationStateImpl(mockNodeResolver, mockSession, mockReplica1);
+
+        Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicas = replicationState.getTokenRangeToReplicas(
+                tableReference);
+
+        TokenMap newTokenMap = mock(TokenMap.class);
+        doReturn(Sets.newHashSet(tokenRange)).when(newTokenMap).getTokenRanges(eq("ks3"), eq(mockReplica1));
+        doReturn(Sets.newHashSet(mockReplica1, mockReplica2, mockReplica3)).when(newTokenMap)
+                .getReplicas(eq("ks3"), eq(tokenRange));
+        when(mockMetadata.getTokenMap()).thenReturn(Optional.of(newTokenMap));
+
+        assertThat(replicationState.getTokenRangeToReplicas(tableReference)).isSameAs(tokenRangeToReplicas);
+        assertThat(replicationState.getTokenRangeToReplicas(tableReference)).isSameAs(tokenRangeToReplicas);
+        verify(newTokenMap, times(1)).getTokenRanges(eq("ks3"), eq(mockReplica1));
+    }
+
+    @Test
+    public void testNewTokenMapWithChangedReplication() throws Exception
+    {
+        LongTokenRange range1 = new LongTokenRange(1, 2);
+        TableReference tableReference = tableReference("ks4", "tb");
+
+        TokenRange tokenRange = TokenUtil.getRange(1, 2);
+
+        doReturn(Sets.newHashSet(tokenRange)).when(mockTokenMap).getTokenRanges(eq("ks4"), eq(mockReplica1));
+        doReturn(Sets.newHashSet(mockReplica1, mockReplica2, mockReplica3)).when(mockTokenMap)
+                .getReplicas(eq("ks4"), eq(tokenRange));
+
+        ReplicationState replicationState = new ReplicationStateImpl(mockNodeResolver, mockSession, mockReplica1);
+
+        Map<LongTokenRange, Set<DriverNode>> tokenRangeToReplicas = replicationState.getTokenRangeToReplicas(
+                tableReference);
+
+        TokenMap newTokenMap = mock(TokenMap.class);
+        doReturn(Sets.newHashSet(tokenRange)).when(newTokenMap).getTokenRanges(eq("ks4"), eq(mockReplica1));
+        doReturn(Sets.newHashSet(mockReplica1, mockReplica2, mockReplica4)).when(newTokenMap)
+                .getReplicas(eq("ks4"), eq(tokenRange));
+        when(mockMetadata.getTokenMap()).thenReturn(Optional.of(newTokenMap));
+
+        Map<LongTokenRange, Set<DriverNode>> newTokenRangeToReplicas = replicationState.getTokenRangeToReplicas(
+                tableReference);
+
+        assertThat(newTokenRangeToReplicas).isNotEqualTo(tokenRangeToReplicas);
+        assertThat(newTokenRangeToReplicas.get(range1)).containsExactlyInAnyOrder(mockNode1, mockNode2, mockNode4);
+        assertThat(replicationState.getNodes(tableReference, range1)).isSameAs(newTokenRangeToReplicas.get(range1));
+    }
 }
@@ -16,6 +16,7 @@ package com.ericsson.bss.cassandra.ecchronos.core.repair.state;
 
 import static com.ericsson.bss.cassandra.ecchronos.core.MockTableReferenceFactory.tableReference;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -35,7 +36,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -180,6 +185,55 @@ public class TestVnodeRepairStateFactoryImpl
                 newState(range(2, 3), 2345L, 2346L));
     }
 
+    @Test
+    public void testCalculateClusterWideStateWithConcurrentQueries() throws UnknownHostException
+    {
+        DriverNode node1 = withNode("127.0.0.1");
+        DriverNode node2 = withNode("127.0.0.2");
+        DriverNode node3 = withNode("127.0.0.3");
+        DriverNode node4 = withNode("127.0.0.4");
+
+        withRange(range(1, 2), node1, node2);
+        withRange(range(2, 3), node2, node3);
+        withRange(range(3, 4), node3, node4);
+
+        withSuccessfulRepairHistory(range(1, 2), 1234L, 1235L);
+        withSuccessfulRepairHistory(range(2, 3), 2345L, 2346L);
+        withRepairHistory(range(3, 4), 1234L, 1235L, ImmutableSet.of(node3), "SUCCESS");
+
+        AsyncRepairHistoryProvider asyncRepairHistoryProvider = new AsyncRepairHistoryProvider(TABLE_REFERENCE);
+        repairHistoryProvider = asyncRepairHistoryProvider;
+        VnodeRepairStateFactory factory = new VnodeRepairStateFactoryImpl(mockReplicationState, repairHistoryProvider,
+                false, 2);
+
+        assertClusterWideState(factory, 2346L, 1234L, VnodeRepairStatesImpl.class,
+                newState(range(1, 2), 1234L, 1235L),
+                newState(range(2, 3), 2345L, 2346L),
+                newUnrepairedState(range(3, 4)));
+        assertThat(asyncRepairHistoryProvider.myQueries.get()).isEqualTo(4);
+        assertThat(asyncRepairHistoryProvider.myMaxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testCalculateClusterWideStateWithFailedQuery() throws UnknownHostException
+    {
+        DriverNode node1 = withNode("127.0.0.1");
+        DriverNode node2 = withNode("127.0.0.2");
+
+        withRange(range(1, 2), node1, node2);
+
+        repairHistoryProvider = mock(RepairHistoryProvider.class);
+        when(repairHistoryProvider.iterateAsync(any(), eq(TABLE_REFERENCE), any(long.class), any(long.class),
+                any(Predicate.class), any(Function.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Query failed")));
+        VnodeRepairStateFactory factory = new VnodeRepairStateFactoryImpl(mockReplicationState, repairHistoryProvider,
+                false);
+
+        assertThatThrownBy(() -> factory.calculateClusterWideState(TABLE_REFERENCE, 2346L, 1234L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Query failed");
+    }
+
     @Test
     public void testWithSubRangeHistoryNoPreviousIsRepaired() throws UnknownHostException
     {
@@ -753,6 +807,45 @@ public class TestVnodeRepairStateFactoryImpl
         }
     }
 
+    private class AsyncRepairHistoryProvider extends MockedRepairHistoryProvider
+    {
+        private final AtomicInteger myQueries = new AtomicInteger();
+        private final AtomicInteger myInFlight = new AtomicInteger();
+        private final AtomicInteger myMaxInFlight = new AtomicInteger();
+
+        AsyncRepairHistoryProvider(TableReference tableReference)
+        {
+            super(tableReference);
+        }
+
+        @Override
+        public CompletionStage<Void> iterateAsync(UUID nodeId, TableReference tableReference, long to, long from,
+                Predicate<RepairEntry> predicate, Function<List<RepairEntry>, CompletionStage<Void>> pageConsumer)
+        {
+            myQueries.incrementAndGet();
+            int inFlight = myInFlight.incrementAndGet();
+            myMaxInFlight.accumulateAndGet(inFlight, Math::max);
+
+            Iterator<RepairEntry> repairEntries = iterate(nodeId, tableReference, to, from, predicate);
+            return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS))
+                    .thenCompose(v -> nextPage(repairEntries, pageConsumer))
+                    .whenComplete((v, t) -> myInFlight.decrementAndGet());
+        }
+
+        private CompletionStage<Void> nextPage(Iterator<RepairEntry> repairEntries,
+                Function<List<RepairEntry>, CompletionStage<Void>> pageConsumer)
+        {
+            if (!repairEntries.hasNext())
+            {
+                return CompletableFuture.completedFuture(null);
+            }
+            List<RepairEntry> page = Collections.singletonList(repairEntries.next());
+            return CompletableFuture.supplyAsync(() -> pageConsumer.apply(page))
+                    .thenCompose(merged -> merged)
+                    .thenCompose(v -> nextPage(repairEntries, pageConsumer));
+        }
+    }
+
     private static class MockedRepairEntryIterator extends AbstractIterator<RepairEntry>
     {
         private final Iterator<RepairEntry> myBaseIterator;
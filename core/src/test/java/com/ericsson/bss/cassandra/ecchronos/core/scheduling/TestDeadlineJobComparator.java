@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TestDeadlineJobComparator
+{
+    private final DeadlineJobComparator myComparator = new DeadlineJobComparator();
+
+    @Test
+    public void testEarliestDeadlineFirst()
+    {
+        DeadlineJob urgent = new DeadlineJob(ScheduledJob.Priority.LOW, 1000L);
+        DeadlineJob later = new DeadlineJob(ScheduledJob.Priority.HIGH, 2000L);
+        DeadlineJob latest = new DeadlineJob(ScheduledJob.Priority.HIGHEST, 3000L);
+
+        List<ScheduledJob> jobs = new ArrayList<>(Arrays.asList(latest, later, urgent));
+        jobs.sort(myComparator);
+
+        assertThat(jobs).containsExactly(urgent, later, latest);
+    }
+
+    @Test
+    public void testSameDeadlineOrderedByPriority()
+    {
+        DeadlineJob low = new DeadlineJob(ScheduledJob.Priority.LOW, 1000L);
+        DeadlineJob high = new DeadlineJob(ScheduledJob.Priority.HIGH, 1000L);
+
+        List<ScheduledJob> jobs = new ArrayList<>(Arrays.asList(low, high));
+        jobs.sort(myComparator);
+
+        assertThat(jobs).containsExactly(high, low);
+    }
+
+    @Test
+    public void testDefaultDeadlineIsWhenJobBecomesRunnable()
+    {
+        DummyJob job = new DummyJob(ScheduledJob.Priority.LOW);
+
+        assertThat(job.getDeadline()).isEqualTo(job.getLastSuccessfulRun() + job.myRunIntervalInMs);
+    }
+
+    private static class DeadlineJob extends DummyJob
+    {
+        private final long myDeadline;
+
+        DeadlineJob(Priority priority, long deadline)
+        {
+            super(priority);
+            myDeadline = deadline;
+        }
+
+        @Override
+        public long getDeadline()
+        {
+            return myDeadline;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,6 +38,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -280,6 +282,314 @@ public class TestScheduleManager
         assertThat(myScheduler.getCurrentJobStatus()).isNotEqualTo("Job ID: " + jobId.toString() + ", Status: Running");
         latch.countDown();
     }
+
+    @Test (timeout = 2000L)
+    public void testScheduleWakesUpScheduler() throws InterruptedException
+    {
+        ScheduleManagerImpl scheduler = eventDrivenScheduler();
+        try
+        {
+            DummyJob job = new DummyJob(ScheduledJob.Priority.LOW);
+            scheduler.schedule(job);
+
+            waitForJobRun(job);
+        }
+        finally
+        {
+            scheduler.close();
+        }
+    }
+
+    @Test (timeout = 2000L)
+    public void testFinishedJobWakesUpScheduler() throws InterruptedException
+    {
+        ScheduleManagerImpl scheduler = eventDrivenScheduler();
+        try
+        {
+            CountDownLatch job1Latch = new CountDownLatch(1);
+            TestJob job1 = new TestJob(ScheduledJob.Priority.HIGH, job1Latch);
+            DummyJob job2 = new DummyJob(ScheduledJob.Priority.LOW);
+            scheduler.schedule(job1);
+            scheduler.schedule(job2);
+
+            waitForJobStarted(job1);
+            assertThat(job2.hasRun()).isFalse();
+            job1Latch.countDown();
+
+            waitForJobRun(job2);
+            assertThat(job1.hasRun()).isTrue();
+        }
+        finally
+        {
+            scheduler.close();
+        }
+    }
+
+    @Test (timeout = 2000L)
+    public void testLockReleaseWakesUpScheduler() throws Exception
+    {
+        when(myLockFactory.tryLock(any(), anyString(), anyInt(), anyMap()))
+                .thenThrow(new LockException(""))
+                .thenReturn(new DummyLock());
+        ScheduleManagerImpl scheduler = eventDrivenScheduler();
+        try
+        {
+            ArgumentCaptor<Runnable> lockReleaseListener = ArgumentCaptor.forClass(Runnable.class);
+            verify(myLockFactory).addLockReleaseListener(lockReleaseListener.capture());
+
+            DummyJob job = new DummyJob(ScheduledJob.Priority.LOW);
+            scheduler.schedule(job);
+            verify(myLockFactory, timeout(1000)).tryLock(any(), anyString(), anyInt(), anyMap());
+            assertThat(job.hasRun()).isFalse();
+
+            lockReleaseListener.getValue().run();
+
+            waitForJobRun(job);
+        }
+        finally
+        {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    public void testLockReleaseListenerNotRegisteredWithoutWakeUpOnEvents()
+    {
+        verify(myLockFactory, never()).addLockReleaseListener(any());
+    }
+
+    @Test (timeout = 2000L)
+    public void testRejectedJobWakesUpSchedulerWhenRunnable() throws InterruptedException
+    {
+        AtomicInteger rejections = new AtomicInteger();
+        ScheduleManagerImpl scheduler = eventDrivenScheduler();
+        scheduler.addRunPolicy(job -> rejections.getAndIncrement() == 0 ? 100L : -1L);
+        try
+        {
+            DummyJob job = new DummyJob(ScheduledJob.Priority.LOW);
+            scheduler.schedule(job);
+
+            waitForJobRun(job);
+            assertThat(rejections.get()).isGreaterThan(1);
+        }
+        finally
+        {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    public void testScheduleDoesNotRunJobWithoutWakeUpOnEvents() throws InterruptedException
+    {
+        DummyJob job = new DummyJob(ScheduledJob.Priority.LOW);
+        myScheduler.schedule(job);
+
+        Thread.sleep(100);
+
+        assertThat(job.hasRun()).isFalse();
+    }
+
+    @Test (timeout = 2000L)
+    public void testRunningTwoJobsInParallelWithTwoSlots() throws InterruptedException
+    {
+        ScheduleManagerImpl scheduler = ScheduleManagerImpl.builder()
+                .withLockFactory(myLockFactory)
+                .withRunInterval(1, TimeUnit.HOURS)
+                .withWakeUpOnEvents(true)
+                .withExecutionSlots(2)
+                .build();
+        try
+        {
+            CountDownLatch latch = new CountDownLatch(1);
+            TestJob job1 = new TestJob(ScheduledJob.Priority.HIGH, latch);
+            TestJob job2 = new TestJob(ScheduledJob.Priority.LOW, latch);
+            scheduler.schedule(job1);
+            scheduler.schedule(job2);
+
+            waitForJobStarted(job1);
+            waitForJobStarted(job2);
+            assertThat(scheduler.getCurrentJobStatus())
+                    .contains("Job ID: " + job1.getId() + ", Status: Running")
+                    .contains("Job ID: " + job2.getId() + ", Status: Running");
+
+            latch.countDown();
+            waitForJobFinished(job1);
+            waitForJobFinished(job2);
+
+            assertThat(job1.getTaskRuns()).isEqualTo(1);
+            assertThat(job2.getTaskRuns()).isEqualTo(1);
+        }
+        finally
+        {
+            scheduler.close();
+        }
+    }
+
+    @Test (timeout = 2000L)
+    public void testSameJobNotRunInTwoSlots() throws InterruptedException
+    {
+        ScheduleManagerImpl scheduler = ScheduleManagerImpl.builder()
+                .withLockFactory(myLockFactory)
+                .withRunInterval(1, TimeUnit.HOURS)
+                .withWakeUpOnEvents(true)
+                .withExecutionSlots(2)
+                .build();
+        try
+        {
+            CountDownLatch latch = new CountDownLatch(1);
+            TestJob job = new TestJob(ScheduledJob.Priority.HIGH, latch);
+            scheduler.schedule(job);
+
+            waitForJobStarted(job);
+            Thread.sleep(100);
+            latch.countDown();
+            waitForJobFinished(job);
+
+            assertThat(job.getTaskRuns()).isEqualTo(1);
+        }
+        finally
+        {
+            scheduler.close();
+        }
+    }
+
+    @Test (timeout = 2000L)
+    public void testExecutingJobIsNotRefreshedOrDescheduledByOtherSlot() throws InterruptedException
+    {
+        ScheduleManagerImpl scheduler = ScheduleManagerImpl.builder()
+                .withLockFactory(myLockFactory)
+                .withRunInterval(1, TimeUnit.HOURS)
+                .withWakeUpOnEvents(true)
+                .withExecutionSlots(2)
+                .build();
+        try
+        {
+            CountDownLatch latch = new CountDownLatch(1);
+            FinishingJob finishingJob = new FinishingJob(latch);
+            scheduler.schedule(finishingJob);
+            while (!finishingJob.hasStarted)
+            {
+                Thread.sleep(10);
+            }
+            int refreshesBeforeRun = finishingJob.refreshCount.get();
+
+            // The other slot iterates the queue while the job is executing and FINISHED
+            DummyJob otherJob = new DummyJob(ScheduledJob.Priority.LOW);
+            scheduler.schedule(otherJob);
+            waitForJobRun(otherJob);
+
+            assertThat(finishingJob.refreshCount.get()).isEqualTo(refreshesBeforeRun);
+            assertThat(finishingJob.finishCount.get()).isEqualTo(0);
+            assertThat(scheduler.getQueueSize()).isEqualTo(2);
+
+            latch.countDown();
+            while (finishingJob.finishCount.get() == 0)
+            {
+                Thread.sleep(10);
+            }
+
+            assertThat(finishingJob.finishCount.get()).isEqualTo(1);
+            assertThat(scheduler.getQueueSize()).isEqualTo(1);
+        }
+        finally
+        {
+            scheduler.close();
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testBuildWithoutExecutionSlots()
+    {
+        ScheduleManagerImpl.builder()
+                .withLockFactory(myLockFactory)
+                .withExecutionSlots(0)
+                .build();
+    }
+
+    @Test (timeout = 2000L)
+    public void testLockPrefetchAcquiresNextLockWhileRunning() throws InterruptedException
+    {
+        myScheduler.close();
+        myScheduler = prefetchingScheduler(1);
+        PrefetchJob job = new PrefetchJob(3, true);
+        myScheduler.schedule(job);
+
+        myScheduler.run();
+
+        assertThat(job.getTaskRuns()).isEqualTo(3);
+        assertThat(job.myLockedBeforePreviousFinished.get(0)).isFalse();
+        assertThat(job.myLockedBeforePreviousFinished.get(1)).isTrue();
+        assertThat(job.myLockedBeforePreviousFinished.get(2)).isTrue();
+        job.awaitReleased(3);
+    }
+
+    @Test (timeout = 2000L)
+    public void testLockPrefetchSkippedForTasksSharingLocks() throws InterruptedException
+    {
+        myScheduler.close();
+        myScheduler = prefetchingScheduler(1);
+        PrefetchJob job = new PrefetchJob(3, false);
+        myScheduler.schedule(job);
+
+        myScheduler.run();
+
+        assertThat(job.getTaskRuns()).isEqualTo(3);
+        assertThat(job.myLockedBeforePreviousFinished).containsOnly(false);
+        job.awaitReleased(3);
+    }
+
+    @Test (timeout = 2000L)
+    public void testPrefetchedLockReleasedWhenJobIsStopped() throws InterruptedException
+    {
+        myScheduler.close();
+        myScheduler = prefetchingScheduler(1);
+        PrefetchJob job = new PrefetchJob(2, true);
+        job.myOnCompletion = () -> when(myRunPolicy.validate(any(ScheduledJob.class))).thenReturn(1L);
+        myScheduler.schedule(job);
+
+        myScheduler.run();
+
+        assertThat(job.getTaskRuns()).isEqualTo(1);
+        job.awaitReleased(2);
+        assertThat(job.myLocked).hasSize(2);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testBuildWithNegativeLockPrefetch()
+    {
+        ScheduleManagerImpl.builder()
+                .withLockFactory(myLockFactory)
+                .withLockPrefetch(-1)
+                .build();
+    }
+
+    private ScheduleManagerImpl prefetchingScheduler(int lockPrefetch)
+    {
+        ScheduleManagerImpl scheduler = ScheduleManagerImpl.builder()
+                .withLockFactory(myLockFactory)
+                .withLockPrefetch(lockPrefetch)
+                .build();
+        scheduler.addRunPolicy(job -> myRunPolicy.validate(job));
+        return scheduler;
+    }
+
+    private ScheduleManagerImpl eventDrivenScheduler()
+    {
+        return ScheduleManagerImpl.builder()
+                .withLockFactory(myLockFactory)
+                .withRunInterval(1, TimeUnit.HOURS)
+                .withWakeUpOnEvents(true)
+                .build();
+    }
+
+    private void waitForJobRun(DummyJob job) throws InterruptedException
+    {
+        while(!job.hasRun())
+        {
+            Thread.sleep(10);
+        }
+    }
+
     private void waitForJobStarted(TestJob job) throws InterruptedException
     {
         while(!job.hasStarted())
@@ -391,6 +701,163 @@ public class TestScheduleManager
         }
     }
 
+    private class FinishingJob extends ScheduledJob
+    {
+        private final CountDownLatch latch;
+        private final AtomicInteger refreshCount = new AtomicInteger();
+        private final AtomicInteger finishCount = new AtomicInteger();
+        private volatile boolean hasStarted = false;
+        private volatile boolean finished = false;
+
+        FinishingJob(CountDownLatch latch)
+        {
+            super(new ConfigurationBuilder().withPriority(Priority.HIGH).withRunInterval(1, TimeUnit.SECONDS).build());
+            this.latch = latch;
+        }
+
+        @Override
+        public void refreshState()
+        {
+            refreshCount.incrementAndGet();
+        }
+
+        @Override
+        public State getState()
+        {
+            return finished ? State.FINISHED : super.getState();
+        }
+
+        @Override
+        protected void finishJob()
+        {
+            finishCount.incrementAndGet();
+        }
+
+        @Override
+        public long getNextEligibleTime()
+        {
+            // Due directly when finished so that it's descheduled on the next run
+            return finished ? -1L : super.getNextEligibleTime();
+        }
+
+        @Override
+        public Iterator<ScheduledTask> iterator()
+        {
+            return Collections.<ScheduledTask> singleton(new ScheduledTask()
+            {
+                @Override
+                public boolean execute()
+                {
+                    finished = true;
+                    hasStarted = true;
+                    try
+                    {
+                        latch.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                    return true;
+                }
+            }).iterator();
+        }
+    }
+
+    private class PrefetchJob extends ScheduledJob
+    {
+        private final int numTasks;
+        private final boolean canLockConcurrently;
+        private final AtomicInteger taskRuns = new AtomicInteger();
+        private final List<Integer> myLocked = Collections.synchronizedList(new ArrayList<>());
+        private final List<Boolean> myLockedBeforePreviousFinished = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch myReleased;
+        private final List<CountDownLatch> myLockLatches = new ArrayList<>();
+        private volatile Runnable myOnCompletion = () -> {};
+
+        PrefetchJob(int numTasks, boolean canLockConcurrently)
+        {
+            super(new ConfigurationBuilder().withPriority(Priority.LOW).withRunInterval(1, TimeUnit.SECONDS).build());
+            this.numTasks = numTasks;
+            this.canLockConcurrently = canLockConcurrently;
+            myReleased = new CountDownLatch(numTasks);
+            for (int i = 0; i < numTasks; i++)
+            {
+                myLockLatches.add(new CountDownLatch(1));
+            }
+        }
+
+        int getTaskRuns()
+        {
+            return taskRuns.get();
+        }
+
+        void awaitReleased(int expected) throws InterruptedException
+        {
+            assertThat(myReleased.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(myLocked).hasSize(expected);
+        }
+
+        @Override
+        public Iterator<ScheduledTask> iterator()
+        {
+            List<ScheduledTask> tasks = new ArrayList<>();
+
+            for (int i = 0; i < numTasks; i++)
+            {
+                tasks.add(new PrefetchTask(i));
+            }
+
+            return tasks.iterator();
+        }
+
+        private class PrefetchTask extends ScheduledTask
+        {
+            private final int myIndex;
+
+            PrefetchTask(int index)
+            {
+                myIndex = index;
+            }
+
+            @Override
+            public boolean execute()
+            {
+                if (myIndex + 1 < numTasks && canLockConcurrently)
+                {
+                    try
+                    {
+                        // Wait for the lock of the next task to be prefetched
+                        myLockLatches.get(myIndex + 1).await(1, TimeUnit.SECONDS);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                myOnCompletion.run();
+                taskRuns.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public LockFactory.DistributedLock getLock(LockFactory lockFactory)
+            {
+                boolean previousRunning = myIndex > 0 && taskRuns.get() < myIndex;
+                myLockedBeforePreviousFinished.add(previousRunning);
+                myLocked.add(myIndex);
+                myLockLatches.get(myIndex).countDown();
+                return myReleased::countDown;
+            }
+
+            @Override
+            public boolean canLockConcurrentlyWith(ScheduledTask other)
+            {
+                return canLockConcurrently;
+            }
+        }
+    }
+
     public class TestScheduledJob extends ScheduledJob
     {
         private final CountDownLatch taskCompletionLatch;
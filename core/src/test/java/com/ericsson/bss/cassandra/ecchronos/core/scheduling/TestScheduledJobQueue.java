@@ -18,7 +18,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import com.ericsson.bss.cassandra.ecchronos.core.exceptions.ScheduledJobException;
@@ -136,6 +138,145 @@ public class TestScheduledJobQueue
         assertThat(queue.iterator()).toIterable().containsExactly(job2);
     }
 
+    @Test
+    public void testJobNotDueIsNotRefreshed()
+    {
+        RefreshCountingJob job = new RefreshCountingJob(Priority.LOW);
+
+        queue.add(job);
+
+        assertThat(queue.iterator()).toIterable().containsExactly(job);
+        assertThat(job.refreshCount).isEqualTo(1);
+
+        job.postExecute(true, null);
+
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(job.refreshCount).isEqualTo(2);
+
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(job.refreshCount).isEqualTo(2);
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWaitingJobIsRefreshedWhenDue() throws InterruptedException
+    {
+        RefreshCountingJob job = new RefreshCountingJob(Priority.LOW);
+        queue.add(job);
+
+        job.lastSuccessfulRun = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1) + 100;
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(job.refreshCount).isEqualTo(1);
+
+        Thread.sleep(200);
+
+        assertThat(queue.iterator()).toIterable().containsExactly(job);
+        assertThat(job.refreshCount).isEqualTo(2);
+    }
+
+    @Test
+    public void testRemoveWaitingJob() throws InterruptedException
+    {
+        RefreshCountingJob job = new RefreshCountingJob(Priority.LOW);
+        queue.add(job);
+
+        job.lastSuccessfulRun = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1) + 100;
+        assertThat(queue.iterator()).toIterable().isEmpty();
+
+        queue.remove(job);
+        Thread.sleep(200);
+
+        assertThat(queue.size()).isEqualTo(0);
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(job.refreshCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testWaitingJobMarkedDirtyIsRefreshed()
+    {
+        RefreshCountingJob job = new RefreshCountingJob(Priority.LOW);
+        queue.add(job);
+
+        job.lastSuccessfulRun = System.currentTimeMillis();
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(job.refreshCount).isEqualTo(1);
+
+        job.lastSuccessfulRun = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2);
+        assertThat(queue.markDirty(job)).isTrue();
+
+        assertThat(queue.iterator()).toIterable().containsExactly(job);
+        assertThat(job.refreshCount).isEqualTo(2);
+    }
+
+    @Test
+    public void testMarkDirtyDueOrUnknownJob()
+    {
+        RefreshCountingJob job = new RefreshCountingJob(Priority.LOW);
+
+        assertThat(queue.markDirty(job)).isFalse();
+
+        queue.add(job);
+
+        assertThat(queue.markDirty(job)).isFalse();
+        assertThat(queue.iterator()).toIterable().containsExactly(job);
+        assertThat(queue.markDirty(job)).isFalse();
+        assertThat(job.refreshCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testAddSameJobTwice()
+    {
+        DummyJob job = new DummyJob(Priority.LOW);
+
+        queue.add(job);
+        queue.add(job);
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.iterator()).toIterable().containsExactly(job);
+    }
+
+    @Test
+    public void testClaimedJobIsNotRefreshed()
+    {
+        ClaimedJobs claimedJobs = new ClaimedJobs();
+        queue = new ScheduledJobQueue(new Comp(), claimedJobs);
+        RefreshCountingJob job = new RefreshCountingJob(Priority.LOW);
+        queue.add(job);
+
+        claimedJobs.tryClaim(job);
+
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(job.refreshCount).isEqualTo(0);
+
+        claimedJobs.release(job);
+
+        assertThat(queue.iterator()).toIterable().containsExactly(job);
+        assertThat(job.refreshCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testClaimedFinishedJobIsNotDescheduled()
+    {
+        ClaimedJobs claimedJobs = new ClaimedJobs();
+        queue = new ScheduledJobQueue(new Comp(), claimedJobs);
+        StateJob job = new StateJob(ScheduledJob.Priority.LOW, ScheduledJob.State.FINISHED);
+        queue.add(job);
+
+        Iterator<ScheduledJob> iterator = queue.iterator();
+        claimedJobs.tryClaim(job);
+
+        assertThat(iterator).toIterable().isEmpty();
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(job.finishedCount).isEqualTo(0);
+
+        claimedJobs.release(job);
+
+        assertThat(queue.iterator()).toIterable().isEmpty();
+        assertThat(queue.size()).isEqualTo(0);
+        assertThat(job.finishedCount).isEqualTo(1);
+    }
+
     private class Comp implements Comparator<ScheduledJob>
     {
 
@@ -177,6 +318,8 @@ public class TestScheduledJobQueue
     private class StateJob extends DummyJob
     {
         private State state;
+        private int finishedCount = 0;
+
         StateJob(Priority priority, State state)
         {
             super(priority);
@@ -188,5 +331,51 @@ public class TestScheduledJobQueue
         {
             return state;
         }
+
+        @Override
+        protected void finishJob()
+        {
+            finishedCount++;
+        }
+    }
+
+    private static class ClaimedJobs implements ScheduledJobQueue.JobClaims
+    {
+        private final Set<ScheduledJob> claimed = new HashSet<>();
+
+        @Override
+        public boolean tryClaim(ScheduledJob job)
+        {
+            return claimed.add(job);
+        }
+
+        @Override
+        public void release(ScheduledJob job)
+        {
+            claimed.remove(job);
+        }
+    }
+
+    private class RefreshCountingJob extends RunnableOnce
+    {
+        private volatile int refreshCount = 0;
+        private volatile long lastSuccessfulRun = -1;
+
+        RefreshCountingJob(Priority prio)
+        {
+            super(prio);
+        }
+
+        @Override
+        public void refreshState()
+        {
+            refreshCount++;
+        }
+
+        @Override
+        public long getLastSuccessfulRun()
+        {
+            return lastSuccessfulRun == -1 ? super.getLastSuccessfulRun() : lastSuccessfulRun;
+        }
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.utils;
+
+import com.datastax.oss.driver.api.core.metadata.Node;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+public class TestReplicaSets
+{
+    private final DriverNode myNode1 = newNode();
+    private final DriverNode myNode2 = newNode();
+    private final DriverNode myNode3 = newNode();
+
+    @Test
+    public void testEqualSetsAreInterned()
+    {
+        Set<DriverNode> replicas = ReplicaSets.intern(new HashSet<>(Arrays.asList(myNode1, myNode2, myNode3)));
+
+        assertThat(replicas).containsExactlyInAnyOrder(myNode1, myNode2, myNode3);
+        assertThat(ReplicaSets.intern(Arrays.asList(myNode3, myNode1, myNode2))).isSameAs(replicas);
+        assertThat(ReplicaSets.intern(replicas)).isSameAs(replicas);
+    }
+
+    @Test
+    public void testDifferentSetsAreNotInterned()
+    {
+        Set<DriverNode> replicas = ReplicaSets.intern(Arrays.asList(myNode1, myNode2));
+
+        assertThat(ReplicaSets.intern(Arrays.asList(myNode1, myNode3))).isNotEqualTo(replicas);
+        assertThat(ReplicaSets.intern(Collections.singletonList(myNode1))).isNotEqualTo(replicas);
+        assertThat(ReplicaSets.intern(Collections.emptySet())).isEmpty();
+    }
+
+    @Test
+    public void testEqualNodesAreInterned()
+    {
+        Node node = mock(Node.class);
+
+        Set<DriverNode> replicas = ReplicaSets.intern(Collections.singleton(new DriverNode(node)));
+
+        assertThat(ReplicaSets.intern(Collections.singleton(new DriverNode(node)))).isSameAs(replicas);
+    }
+
+    @Test
+    public void testUnusedSetsAreReleased() throws InterruptedException
+    {
+        DriverNode node = newNode();
+        WeakReference<Set<DriverNode>> replicas = new WeakReference<>(ReplicaSets.intern(Arrays.asList(node, myNode1)));
+        WeakReference<DriverNode> nodeReference = new WeakReference<>(node);
+        node = null;
+
+        for (int i = 0; i < 100 && nodeReference.get() != null; i++)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(replicas.get()).isNull();
+        assertThat(nodeReference.get()).isNull();
+    }
+
+    @Test
+    public void testManyNodes()
+    {
+        List<DriverNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 300; i++)
+        {
+            nodes.add(newNode());
+        }
+
+        Set<DriverNode> replicas = ReplicaSets.intern(nodes.subList(0, 150));
+        Set<DriverNode> otherReplicas = ReplicaSets.intern(nodes.subList(150, 300));
+
+        assertThat(replicas).containsExactlyInAnyOrderElementsOf(nodes.subList(0, 150));
+        assertThat(otherReplicas).containsExactlyInAnyOrderElementsOf(nodes.subList(150, 300));
+        assertThat(ReplicaSets.intern(new ArrayList<>(nodes.subList(0, 150)))).isSameAs(replicas);
+    }
+
+    @Test
+    public void testInternedSetIsImmutable()
+    {
+        Set<DriverNode> replicas = ReplicaSets.intern(Arrays.asList(myNode1, myNode2));
+
+        assertThatThrownBy(() -> replicas.add(myNode3)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static DriverNode newNode()
+    {
+        return new DriverNode(mock(Node.class));
+    }
+}
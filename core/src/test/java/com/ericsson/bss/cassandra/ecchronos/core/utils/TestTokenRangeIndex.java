@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.core.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestTokenRangeIndex
+{
+    private static final LongTokenRange RANGE_1 = new LongTokenRange(-100, 0);
+    private static final LongTokenRange RANGE_2 = new LongTokenRange(0, 100);
+    private static final LongTokenRange RANGE_3 = new LongTokenRange(100, 200);
+    private static final LongTokenRange WRAPPING_RANGE = new LongTokenRange(200, -100);
+
+    private final TokenRangeIndex<String> myIndex = TokenRangeIndex.of(ring());
+
+    @Test
+    public void testSize()
+    {
+        assertThat(myIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testGetExactRange()
+    {
+        assertThat(myIndex.get(RANGE_1)).isEqualTo("1");
+        assertThat(myIndex.get(RANGE_2)).isEqualTo("2");
+        assertThat(myIndex.get(RANGE_3)).isEqualTo("3");
+        assertThat(myIndex.get(WRAPPING_RANGE)).isEqualTo("wrapping");
+    }
+
+    @Test
+    public void testGetSubRangeIsNotExact()
+    {
+        assertThat(myIndex.get(new LongTokenRange(0, 50))).isNull();
+        assertThat(myIndex.get(new LongTokenRange(-200, -100))).isNull();
+    }
+
+    @Test
+    public void testGetCoveringExactRange()
+    {
+        assertThat(myIndex.getCovering(RANGE_1)).isEqualTo("1");
+        assertThat(myIndex.getCovering(WRAPPING_RANGE)).isEqualTo("wrapping");
+    }
+
+    @Test
+    public void testGetCoveringSubRange()
+    {
+        assertThat(myIndex.getCovering(new LongTokenRange(0, 50))).isEqualTo("2");
+        assertThat(myIndex.getCovering(new LongTokenRange(50, 100))).isEqualTo("2");
+        assertThat(myIndex.getCovering(new LongTokenRange(150, 160))).isEqualTo("3");
+    }
+
+    @Test
+    public void testGetCoveringSubRangeOfWrappingRange()
+    {
+        assertThat(myIndex.getCovering(new LongTokenRange(300, 400))).isEqualTo("wrapping");
+        assertThat(myIndex.getCovering(new LongTokenRange(-300, -200))).isEqualTo("wrapping");
+        assertThat(myIndex.getCovering(new LongTokenRange(300, -200))).isEqualTo("wrapping");
+        assertThat(myIndex.getCovering(new LongTokenRange(Long.MIN_VALUE, -100))).isEqualTo("wrapping");
+    }
+
+    @Test
+    public void testGetCoveringIntersectingRange()
+    {
+        assertThat(myIndex.getCovering(new LongTokenRange(50, 150))).isNull();
+        assertThat(myIndex.getCovering(new LongTokenRange(150, 250))).isNull();
+        assertThat(myIndex.getCovering(new LongTokenRange(-150, -50))).isNull();
+    }
+
+    @Test
+    public void testGetCoveringWithoutWrappingRange()
+    {
+        Map<LongTokenRange, String> ranges = ring();
+        ranges.remove(WRAPPING_RANGE);
+        TokenRangeIndex<String> index = TokenRangeIndex.of(ranges);
+
+        assertThat(index.getCovering(new LongTokenRange(-50, 0))).isEqualTo("1");
+        assertThat(index.getCovering(new LongTokenRange(300, 400))).isNull();
+        assertThat(index.getCovering(new LongTokenRange(-300, -200))).isNull();
+    }
+
+    @Test
+    public void testEmptyIndex()
+    {
+        TokenRangeIndex<String> index = TokenRangeIndex.of(Collections.emptyMap());
+
+        assertThat(index.size()).isZero();
+        assertThat(index.get(RANGE_1)).isNull();
+        assertThat(index.getCovering(RANGE_1)).isNull();
+    }
+
+    @Test
+    public void testFullRing()
+    {
+        LongTokenRange fullRing = new LongTokenRange(5, 5);
+        TokenRangeIndex<String> index = TokenRangeIndex.of(Collections.singletonMap(fullRing, "full"));
+
+        assertThat(index.get(fullRing)).isEqualTo("full");
+        assertThat(index.getCovering(new LongTokenRange(-10, 0))).isEqualTo("full");
+        assertThat(index.getCovering(new LongTokenRange(10, 20))).isEqualTo("full");
+    }
+
+    @Test
+    public void testGetCoveringMatchesLinearScan()
+    {
+        Random random = new Random(0);
+        long[] tokens = new long[256];
+        for (int i = 0; i < tokens.length; i++)
+        {
+            tokens[i] = random.nextLong();
+        }
+        Arrays.sort(tokens);
+
+        Map<LongTokenRange, String> ranges = new HashMap<>();
+        for (int i = 0; i < tokens.length; i++)
+        {
+            LongTokenRange range = new LongTokenRange(tokens[i], tokens[(i + 1) % tokens.length]);
+            ranges.put(range, range.toString());
+        }
+        TokenRangeIndex<String> index = TokenRangeIndex.of(ranges);
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            long start = random.nextLong();
+            long end = random.nextInt(2) == 0 ? start + random.nextInt(Integer.MAX_VALUE) : random.nextLong();
+            LongTokenRange subRange = new LongTokenRange(start, end);
+
+            assertThat(index.getCovering(subRange)).isEqualTo(linearScan(ranges, subRange));
+        }
+    }
+
+    private static String linearScan(final Map<LongTokenRange, String> ranges, final LongTokenRange subRange)
+    {
+        for (Map.Entry<LongTokenRange, String> entry : ranges.entrySet())
+        {
+            if (entry.getKey().isCovering(subRange))
+            {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static Map<LongTokenRange, String> ring()
+    {
+        Map<LongTokenRange, String> ranges = new HashMap<>();
+        ranges.put(RANGE_3, "3");
+        ranges.put(WRAPPING_RANGE, "wrapping");
+        ranges.put(RANGE_1, "1");
+        ranges.put(RANGE_2, "2");
+        return ranges;
+    }
+}
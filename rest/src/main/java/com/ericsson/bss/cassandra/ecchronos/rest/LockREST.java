@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.rest;
+
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@Tag(name = "Locks", description = "Retrieve information about held and contended locks")
+@RestController
+public class LockREST
+{
+    private final LockFactory myLockFactory;
+
+    public LockREST(@Autowired(required = false) final LockFactory lockFactory)
+    {
+        myLockFactory = lockFactory;
+    }
+
+    @GetMapping(value = "/locks")
+    @Operation(operationId = "get-locks",
+            description = "Get the current holders of all locks and the resources this node has lost contention for,"
+                    + " most contended first",
+            summary = "Get lock information")
+    public final ResponseEntity<List<LockStatus>> getLocks(
+            @RequestParam(required = false)
+            @Parameter(description = "Only return this many of the most contended locks.")
+            final Integer limit)
+    {
+        if (myLockFactory == null)
+        {
+            throw new ResponseStatusException(NOT_FOUND);
+        }
+        if (limit != null && limit < 0)
+        {
+            throw new ResponseStatusException(BAD_REQUEST, "Limit must not be negative");
+        }
+
+        List<LockStatus> lockStatuses = myLockFactory.getLockStatuses();
+        if (limit != null && limit < lockStatuses.size())
+        {
+            lockStatuses = lockStatuses.subList(0, limit);
+        }
+        return ResponseEntity.ok(lockStatuses);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecchronos.rest;
+
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockFactory;
+import com.ericsson.bss.cassandra.ecchronos.core.scheduling.LockStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestLockREST
+{
+    private static final LockStatus HELD_LOCK = new LockStatus("RepairResource-DC1-1",
+            "2a2ab0b8-6a8c-4b8a-9a3c-4d8f3b3b1f10", Collections.singletonMap("keyspace", "ks"), 540L, 3L);
+    private static final LockStatus CONTENDED_LOCK = new LockStatus("RepairResource-DC1-2", null,
+            Collections.emptyMap(), 0L, 1L);
+
+    @Mock
+    private LockFactory myLockFactory;
+
+    private LockREST myLockREST;
+
+    @Before
+    public void setup()
+    {
+        myLockREST = new LockREST(myLockFactory);
+    }
+
+    @Test
+    public void testGetLocks()
+    {
+        when(myLockFactory.getLockStatuses()).thenReturn(Arrays.asList(HELD_LOCK, CONTENDED_LOCK));
+
+        ResponseEntity<List<LockStatus>> response = myLockREST.getLocks(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(HELD_LOCK, CONTENDED_LOCK);
+    }
+
+    @Test
+    public void testGetLocksWithLimit()
+    {
+        when(myLockFactory.getLockStatuses()).thenReturn(Arrays.asList(HELD_LOCK, CONTENDED_LOCK));
+
+        ResponseEntity<List<LockStatus>> response = myLockREST.getLocks(1);
+
+        assertThat(response.getBody()).containsExactly(HELD_LOCK);
+    }
+
+    @Test
+    public void testGetLocksWithLimitLargerThanLocks()
+    {
+        when(myLockFactory.getLockStatuses()).thenReturn(Collections.singletonList(HELD_LOCK));
+
+        ResponseEntity<List<LockStatus>> response = myLockREST.getLocks(5);
+
+        assertThat(response.getBody()).containsExactly(HELD_LOCK);
+    }
+
+    @Test
+    public void testGetLocksWithNegativeLimit()
+    {
+        assertThatThrownBy(() -> myLockREST.getLocks(-1))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testGetLocksWithoutLockFactory()
+    {
+        LockREST lockREST = new LockREST(null);
+
+        assertThatThrownBy(() -> lockREST.getLocks(null))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}